@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.parallel;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -41,11 +42,20 @@ import org.junit.jupiter.api.TestInstance;
  *     <dd>Default execution mode for all classes and tests</dd>
  *     <dt>{@value #DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME}</dt>
  *     <dd>Default execution mode for top-level classes</dd>
+ *     <dt>{@value #DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME}</dt>
+ *     <dd>Default execution mode for dynamic tests and containers</dd>
  * </dl>
  *
  * <p>{@value #DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME} overrides
  * {@value #DEFAULT_EXECUTION_MODE_PROPERTY_NAME} for top-level classes.
  *
+ * <p>Dynamic tests and containers generated by a
+ * {@link org.junit.jupiter.api.TestFactory @TestFactory} method use the
+ * execution mode of that method unless
+ * {@value #DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME} is set and neither
+ * the method nor one of its enclosing classes is annotated with
+ * {@code @Execution}.
+ *
  * <p>The default execution mode is not applied to classes that use the
  * {@link TestInstance.Lifecycle#PER_CLASS PER_CLASS} lifecycle or a
  * {@link MethodOrderer}. In both cases, test methods in such test classes are
@@ -99,6 +109,31 @@ public @interface Execution {
 	@API(status = MAINTAINED, since = "5.13.3")
 	String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.classes.default";
 
+	/**
+	 * Property name used to set the default execution mode for dynamic tests
+	 * and containers generated by
+	 * {@link org.junit.jupiter.api.TestFactory @TestFactory} methods: {@value}
+	 *
+	 * <p>This setting is only effective if parallel execution is enabled and
+	 * is ignored for {@code @TestFactory} methods that are annotated with
+	 * {@code @Execution} or declared in a class that is annotated with
+	 * {@code @Execution}, uses the
+	 * {@link TestInstance.Lifecycle#PER_CLASS PER_CLASS} lifecycle, or uses a
+	 * {@link MethodOrderer}.
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <p>Supported values include names of enum constants defined in
+	 * {@link ExecutionMode}, ignoring case.
+	 *
+	 * <p>If not specified, dynamic tests and containers use the execution
+	 * mode of their {@code @TestFactory} method.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	String DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.dynamic.default";
+
 	/**
 	 * The required/preferred execution mode.
 	 *
@@ -13,12 +13,17 @@ package org.junit.jupiter.engine;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_SATURATE_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.CONFIG_PARK_BLOCKED_TASKS_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ParallelHierarchicalTestExecutorServiceFactory.CONFIG_EXECUTOR_PROPERTY_NAME;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.AfterAll;
@@ -237,14 +242,56 @@ public final class Constants {
 	@API(status = STABLE, since = "5.10")
 	public static final String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the default execution mode for dynamic tests
+	 * and containers: {@value}
+	 *
+	 * @since 6.0
+	 * @see Execution#DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME;
+
 	static final String PARALLEL_CONFIG_PREFIX = "junit.jupiter.execution.parallel.config.";
 
+	/**
+	 * Property name used to select the kind of executor service used for
+	 * parallel test execution: {@value}
+	 *
+	 * <p>Potential values: {@code fork_join_pool} (default) or
+	 * {@code virtual_threads}. The latter executes each concurrent test or
+	 * container on its own virtual thread and requires Java 21 or later.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_EXECUTOR_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable parking of tests and containers whose
+	 * exclusive resources are currently held by others instead of blocking a
+	 * worker thread of the underlying fork-join pool: {@value}
+	 *
+	 * <p>Parked tests and containers are resubmitted as soon as one of their
+	 * resources has been released. This only applies to the
+	 * {@code fork_join_pool} executor.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_CONFIG_PARK_BLOCKED_TASKS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_PARK_BLOCKED_TASKS_PROPERTY_NAME;
+
 	/**
 	 * Property name used to select the
 	 * {@link ParallelExecutionConfigurationStrategy}: {@value}
 	 *
-	 * <p>Potential values: {@code dynamic} (default), {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Potential values: {@code dynamic} (default), {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 *
 	 * @since 5.3
 	 */
@@ -311,6 +358,45 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the minimum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the maximum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be an integer greater than or equal to the minimum
+	 * parallelism; defaults to four times the number of available
+	 * processors/cores.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the interval in milliseconds at which the
+	 * {@code adaptive} configuration strategy samples the utilization of the
+	 * worker threads: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 500}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME;
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used for the
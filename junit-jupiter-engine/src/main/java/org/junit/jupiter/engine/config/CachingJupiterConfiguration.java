@@ -99,6 +99,13 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.getDefaultClassesExecutionMode());
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<ExecutionMode> getDefaultDynamicExecutionMode() {
+		return (Optional<ExecutionMode>) cache.computeIfAbsent(DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME,
+			__ -> delegate.getDefaultDynamicExecutionMode());
+	}
+
 	@Override
 	public TestInstance.Lifecycle getDefaultTestInstanceLifecycle() {
 		return (TestInstance.Lifecycle) cache.computeIfAbsent(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
@@ -159,6 +159,11 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 			DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME, getDefaultExecutionMode());
 	}
 
+	@Override
+	public Optional<ExecutionMode> getDefaultDynamicExecutionMode() {
+		return executionModeConverter.get(configurationParameters, DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME);
+	}
+
 	@Override
 	public Lifecycle getDefaultTestInstanceLifecycle() {
 		return lifecycleConverter.getOrDefault(configurationParameters, DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
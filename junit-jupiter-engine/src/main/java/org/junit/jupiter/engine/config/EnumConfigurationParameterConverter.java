@@ -42,10 +42,13 @@ public class EnumConfigurationParameterConverter<E extends Enum<E>> {
 		return extensionContext.getConfigurationParameter(key, value -> convert(key, value));
 	}
 
-	E getOrDefault(ConfigurationParameters configParams, String key, E defaultValue) {
+	Optional<E> get(ConfigurationParameters configParams, String key) {
 		return configParams.get(key) //
-				.map(value -> convert(key, value)) //
-				.orElse(defaultValue);
+				.map(value -> convert(key, value));
+	}
+
+	E getOrDefault(ConfigurationParameters configParams, String key, E defaultValue) {
+		return get(configParams, key).orElse(defaultValue);
 	}
 
 	private E convert(String key, String value) {
@@ -45,6 +45,7 @@ public interface JupiterConfiguration {
 	String CLOSING_STORED_AUTO_CLOSEABLE_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.store.close.autocloseable.enabled";
 	String DEFAULT_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_EXECUTION_MODE_PROPERTY_NAME;
 	String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
+	String DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME;
 	String EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.autodetection.enabled";
 	String EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME = PreInterruptCallback.THREAD_DUMP_ENABLED_PROPERTY_NAME;
 	String DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME = TestInstance.Lifecycle.DEFAULT_LIFECYCLE_PROPERTY_NAME;
@@ -71,6 +72,8 @@ public interface JupiterConfiguration {
 
 	ExecutionMode getDefaultClassesExecutionMode();
 
+	Optional<ExecutionMode> getDefaultDynamicExecutionMode();
+
 	TestInstance.Lifecycle getDefaultTestInstanceLifecycle();
 
 	Predicate<ExecutionCondition> getExecutionConditionFilter();
@@ -105,6 +105,36 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 
 	// --- Node ----------------------------------------------------------------
 
+	/**
+	 * Use the configured default execution mode for dynamic tests and
+	 * containers unless one of the enclosing classes declares an explicit
+	 * execution mode or a default execution mode for its children, e.g. due
+	 * to {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_CLASS} or a
+	 * configured {@link org.junit.jupiter.api.MethodOrderer}.
+	 *
+	 * @since 6.0
+	 * @see JupiterConfiguration#getDefaultDynamicExecutionMode()
+	 */
+	@Override
+	Optional<ExecutionMode> getDefaultChildExecutionMode() {
+		if (isExecutionModeConstrainedByEnclosingClass()) {
+			return Optional.empty();
+		}
+		return this.configuration.getDefaultDynamicExecutionMode().map(JupiterTestDescriptor::toExecutionMode);
+	}
+
+	private boolean isExecutionModeConstrainedByEnclosingClass() {
+		Optional<TestDescriptor> parent = getParent();
+		while (parent.isPresent() && parent.get() instanceof JupiterTestDescriptor jupiterParent) {
+			if (jupiterParent.getExplicitExecutionMode().isPresent()
+					|| jupiterParent.getDefaultChildExecutionMode().isPresent()) {
+				return true;
+			}
+			parent = jupiterParent.getParent();
+		}
+		return false;
+	}
+
 	@Override
 	protected void invokeTestMethod(JupiterEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
 		ExtensionContext extensionContext = context.getExtensionContext();
@@ -53,14 +53,25 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 	@ArgGroup(validate = false, order = 6, heading = "%n@|bold REPORTING|@%n%n")
 	ReportingOptions reportingOptions;
 
+	/**
+	 * @since 6.0
+	 */
+	@Option(names = "--watch", description = "Watch the directories passed via --class-path for changed class files "
+			+ "and re-run affected and previously failed tests until interrupted.")
+	private boolean watch;
+
 	ExecuteTestsCommand(ConsoleTestExecutor.Factory consoleTestExecutorFactory) {
 		this.consoleTestExecutorFactory = consoleTestExecutorFactory;
 	}
 
 	@Override
 	protected TestExecutionSummary execute(PrintWriter out) {
-		return consoleTestExecutorFactory.create(toTestDiscoveryOptions(), toTestConsoleOutputOptions()) //
-				.execute(out, getReportsDir(), isFailFast());
+		ConsoleTestExecutor consoleTestExecutor = consoleTestExecutorFactory.create(toTestDiscoveryOptions(),
+			toTestConsoleOutputOptions());
+		if (watch) {
+			return consoleTestExecutor.watch(out, getReportsDir(), isFailFast());
+		}
+		return consoleTestExecutor.execute(out, getReportsDir(), isFailFast());
 	}
 
 	Optional<Path> getReportsDir() {
@@ -71,6 +82,10 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 		return getReportingOptions().map(options -> options.failFast).orElse(false);
 	}
 
+	boolean isWatch() {
+		return watch;
+	}
+
 	private Optional<ReportingOptions> getReportingOptions() {
 		return Optional.ofNullable(reportingOptions);
 	}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Watches class path directories and their subdirectories for added,
+ * modified, or deleted class files.
+ *
+ * @since 6.0
+ */
+class ClassFileWatcher implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassFileWatcher.class);
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+
+	/**
+	 * Time to wait for further changes after the first one so that all class
+	 * files written by a single compilation are reported at once.
+	 */
+	private static final long QUIET_PERIOD_MILLIS = 200;
+
+	private final WatchService watchService;
+	private final List<Path> rootDirectories;
+	private final Map<WatchKey, Path> rootDirectoriesByKey = new HashMap<>();
+
+	ClassFileWatcher(List<Path> rootDirectories) throws IOException {
+		this.watchService = FileSystems.getDefault().newWatchService();
+		this.rootDirectories = rootDirectories.stream() //
+				.map(rootDirectory -> rootDirectory.toAbsolutePath().normalize()) //
+				.toList();
+		try {
+			for (Path rootDirectory : this.rootDirectories) {
+				registerRecursively(rootDirectory, rootDirectory);
+			}
+		}
+		catch (IOException | UncheckedIOException ex) {
+			this.watchService.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Wait until at least one class file has been added, modified, or deleted
+	 * and no further changes occurred for a short period.
+	 *
+	 * <p>If the file system dropped change events, for example, because too
+	 * many files changed at once, the changed classes are unknown. In this
+	 * case, this method returns as soon as no further changes occurred for a
+	 * short period and all directories are registered again so that
+	 * directories whose creation was not reported are watched as well.
+	 *
+	 * @return the fully qualified names of the changed classes; empty if
+	 * change events were dropped so that any class may have changed
+	 * @throws InterruptedException if the current thread was interrupted
+	 * while waiting
+	 */
+	Set<String> awaitChangedClasses() throws InterruptedException {
+		Set<String> changedClassNames = new TreeSet<>();
+		boolean eventsDropped = false;
+		while (changedClassNames.isEmpty() && !eventsDropped) {
+			WatchKey key = this.watchService.take();
+			while (key != null) {
+				eventsDropped |= collectChangedClasses(key, changedClassNames);
+				key = this.watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+			}
+		}
+		if (eventsDropped) {
+			logger.warn(() -> "Change events were dropped; assuming any class in " + this.rootDirectories
+					+ " may have changed");
+			changedClassNames.clear();
+			registerRootDirectoriesAgain();
+		}
+		return changedClassNames;
+	}
+
+	/**
+	 * {@return whether events were dropped}
+	 */
+	private boolean collectChangedClasses(WatchKey key, Set<String> changedClassNames) {
+		Path directory = (Path) key.watchable();
+		Path rootDirectory = this.rootDirectoriesByKey.get(key);
+		boolean eventsDropped = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == OVERFLOW) {
+				eventsDropped = true;
+				continue;
+			}
+			if (rootDirectory == null) {
+				continue;
+			}
+			Path path = directory.resolve((Path) event.context());
+			if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+				try {
+					collectClassNames(rootDirectory, path, changedClassNames);
+					registerRecursively(rootDirectory, path);
+				}
+				catch (IOException | UncheckedIOException ex) {
+					logger.warn(ex, () -> "Failed to watch directory " + path);
+				}
+			}
+			else {
+				toClassName(rootDirectory, path).ifPresent(changedClassNames::add);
+			}
+		}
+		if (!key.reset()) {
+			this.rootDirectoriesByKey.remove(key);
+		}
+		return eventsDropped;
+	}
+
+	private void registerRootDirectoriesAgain() {
+		for (Path rootDirectory : this.rootDirectories) {
+			try {
+				registerRecursively(rootDirectory, rootDirectory);
+			}
+			catch (IOException | UncheckedIOException ex) {
+				logger.warn(ex, () -> "Failed to watch directory " + rootDirectory);
+			}
+		}
+	}
+
+	private void registerRecursively(Path rootDirectory, Path directory) throws IOException {
+		try (Stream<Path> directories = Files.walk(directory).filter(Files::isDirectory)) {
+			directories.forEach(it -> {
+				try {
+					WatchKey key = it.register(this.watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+					this.rootDirectoriesByKey.put(key, rootDirectory);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+		}
+	}
+
+	private static void collectClassNames(Path rootDirectory, Path directory, Set<String> classNames)
+			throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.forEach(file -> toClassName(rootDirectory, file).ifPresent(classNames::add));
+		}
+	}
+
+	private static Optional<String> toClassName(Path rootDirectory, Path file) {
+		String relativePath = rootDirectory.relativize(file).toString();
+		if (!relativePath.endsWith(CLASS_FILE_SUFFIX) || relativePath.endsWith("module-info" + CLASS_FILE_SUFFIX)) {
+			return Optional.empty();
+		}
+		String className = relativePath.substring(0, relativePath.length() - CLASS_FILE_SUFFIX.length()) //
+				.replace(file.getFileSystem().getSeparator(), ".");
+		return Optional.of(className);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.watchService.close();
+	}
+
+}
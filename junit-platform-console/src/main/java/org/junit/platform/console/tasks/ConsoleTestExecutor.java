@@ -15,14 +15,18 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.console.tasks.DiscoveryRequestCreator.toDiscoveryRequestBuilder;
 import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
@@ -39,6 +43,7 @@ import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.IncrementalTestSelectionListener;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 import org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener;
@@ -87,7 +92,82 @@ public class ConsoleTestExecutor {
 
 	public TestExecutionSummary execute(PrintWriter out, Optional<Path> reportsDir, boolean failFast) {
 		return createCustomContextClassLoaderExecutor() //
-				.invoke(() -> executeTests(out, reportsDir, failFast));
+				.invoke(() -> executeTests(out, reportsDir, failFast, Map.of()));
+	}
+
+	/**
+	 * Execute all tests once and afterwards, whenever class files in one of
+	 * the directories on the additional class path change, those tests that
+	 * were affected by the changes or did not succeed previously.
+	 *
+	 * <p>Affected tests are determined via the
+	 * {@link IncrementalTestSelectionListener} using a temporary file unless
+	 * the {@value IncrementalTestSelectionListener#FILE_PROPERTY_NAME}
+	 * configuration parameter is set explicitly. Each run uses a new class
+	 * loader so that changed classes are picked up. Since each run uses a new
+	 * launcher, tests are discovered again from scratch on every change; only
+	 * their execution is limited to the affected tests. If change events are
+	 * dropped by the file system, the tests are run again nevertheless.
+	 *
+	 * <p>This method only returns once the current thread is interrupted.
+	 *
+	 * @return the summary of the last run
+	 * @since 6.0
+	 */
+	public TestExecutionSummary watch(PrintWriter out, Optional<Path> reportsDir, boolean failFast) {
+		List<Path> directories = discoveryOptions.getExistingAdditionalClasspathEntries().stream() //
+				.filter(Files::isDirectory) //
+				.toList();
+		if (directories.isEmpty()) {
+			throw new JUnitException(
+				"Watch mode requires at least one existing directory to be passed via --class-path");
+		}
+		Map<String, String> configurationParameters = createWatchConfigurationParameters();
+		try (ClassFileWatcher watcher = new ClassFileWatcher(directories)) {
+			TestExecutionSummary summary = createCustomContextClassLoaderExecutor() //
+					.invoke(() -> executeTests(out, reportsDir, failFast, configurationParameters));
+			while (true) {
+				out.printf("Watching %d %s for changes...%n", directories.size(),
+					directories.size() == 1 ? "directory" : "directories");
+				out.flush();
+				Set<String> changedClassNames;
+				try {
+					changedClassNames = watcher.awaitChangedClasses();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return summary;
+				}
+				if (changedClassNames.isEmpty()) {
+					out.printf("%nDetected changes to an unknown number of classes, re-running affected tests.%n%n");
+				}
+				else {
+					out.printf("%nDetected changes to %d %s, re-running affected tests.%n%n",
+						changedClassNames.size(), changedClassNames.size() == 1 ? "class" : "classes");
+				}
+				summary = createCustomContextClassLoaderExecutor() //
+						.invoke(() -> executeTests(out, reportsDir, failFast, configurationParameters));
+			}
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to watch class path directories " + directories, ex);
+		}
+	}
+
+	private Map<String, String> createWatchConfigurationParameters() {
+		if (discoveryOptions.getConfigurationParameters().containsKey(
+			IncrementalTestSelectionListener.FILE_PROPERTY_NAME)) {
+			return Map.of();
+		}
+		try {
+			Path file = Files.createTempFile("junit-watch-", ".index");
+			Files.delete(file);
+			file.toFile().deleteOnExit();
+			return Map.of(IncrementalTestSelectionListener.FILE_PROPERTY_NAME, file.toAbsolutePath().toString());
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to create class dependency index file", ex);
+		}
 	}
 
 	private CustomContextClassLoaderExecutor createCustomContextClassLoaderExecutor() {
@@ -117,7 +197,9 @@ public class ConsoleTestExecutor {
 		out.flush();
 	}
 
-	private TestExecutionSummary executeTests(PrintWriter out, Optional<Path> reportsDir, boolean failFast) {
+	private TestExecutionSummary executeTests(PrintWriter out, Optional<Path> reportsDir, boolean failFast,
+			Map<String, String> additionalConfigurationParameters) {
+
 		Launcher launcher = launcherSupplier.get();
 		CancellationToken cancellationToken = failFast ? CancellationToken.create() : null;
 		SummaryGeneratingListener summaryListener = registerListeners(out, reportsDir, launcher, cancellationToken);
@@ -127,7 +209,7 @@ public class ConsoleTestExecutor {
 		try (StandardStreamsHandler standardStreamsHandler = new StandardStreamsHandler()) {
 			standardStreamsHandler.redirectStandardStreams(outputOptions.getStdoutPath(),
 				outputOptions.getStderrPath());
-			launchTests(launcher, reportsDir, cancellationToken);
+			launchTests(launcher, reportsDir, cancellationToken, additionalConfigurationParameters);
 		}
 		finally {
 			System.setOut(originalOut);
@@ -148,9 +230,10 @@ public class ConsoleTestExecutor {
 	}
 
 	private void launchTests(Launcher launcher, Optional<Path> reportsDir,
-			@Nullable CancellationToken cancellationToken) {
+			@Nullable CancellationToken cancellationToken, Map<String, String> additionalConfigurationParameters) {
 
-		var discoveryRequestBuilder = toDiscoveryRequestBuilder(discoveryOptions);
+		var discoveryRequestBuilder = toDiscoveryRequestBuilder(discoveryOptions) //
+				.configurationParameters(additionalConfigurationParameters);
 		reportsDir.ifPresent(dir -> discoveryRequestBuilder.configurationParameter(OUTPUT_DIR_PROPERTY_NAME,
 			dir.toAbsolutePath().toString()));
 		var executionRequest = discoveryRequestBuilder.forExecution() //
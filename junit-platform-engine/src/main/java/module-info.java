@@ -20,6 +20,8 @@ module org.junit.platform.engine {
 
 	requires static transitive org.apiguardian.api;
 	requires static transitive org.jspecify;
+	requires static java.management;
+	requires static jdk.jfr;
 
 	requires transitive org.junit.platform.commons;
 	requires transitive org.opentest4j;
@@ -66,4 +66,44 @@ public sealed interface CancellationToken permits RegularCancellationToken, Disa
 	 */
 	void cancel();
 
+	/**
+	 * Register an action to be run when cancellation is requested.
+	 *
+	 * <p>The action is run once on the thread that requests cancellation or,
+	 * if cancellation has already been requested, immediately on the calling
+	 * thread. It should therefore return quickly, for example, by only
+	 * interrupting threads or cancelling other tokens. Actions registered
+	 * with a token that cannot be cancelled are never run.
+	 *
+	 * <p>Callers that outlive the token, for example, because the token is
+	 * reused for several executions, should {@linkplain Registration#close()
+	 * close} the returned registration once the action is no longer needed.
+	 *
+	 * @param action the action to run; never {@code null}
+	 * @return a registration that can be used to remove the action; never
+	 * {@code null}
+	 */
+	Registration onCancellation(Runnable action);
+
+	/**
+	 * Registration of an action with a {@link CancellationToken}.
+	 *
+	 * @since 6.0
+	 * @see CancellationToken#onCancellation(Runnable)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	interface Registration extends AutoCloseable {
+
+		/**
+		 * Remove the registered action so that it is not run when cancellation
+		 * is requested afterwards.
+		 *
+		 * <p>Calling this method after the action has already been run or
+		 * removed has no effect.
+		 */
+		@Override
+		void close();
+
+	}
+
 }
@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.Optional;
@@ -131,6 +132,54 @@ public interface ConfigurationParameters {
 		});
 	}
 
+	/**
+	 * Get the integer configuration parameter stored under the specified
+	 * {@code key}.
+	 *
+	 * <p>Leading and trailing whitespace is ignored. Lookups are performed
+	 * as documented for {@link #get(String)}.
+	 *
+	 * <p>The default implementation delegates to
+	 * {@link #get(String, Function)}; implementations may cache the parsed
+	 * value.
+	 *
+	 * @param key the key to look up; never {@code null} or blank
+	 * @return an {@code Optional} containing the value; never {@code null}
+	 * but potentially empty
+	 * @throws JUnitException if the value cannot be parsed as an integer
+	 *
+	 * @since 6.0
+	 * @see Integer#parseInt(String)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default Optional<Integer> getInteger(String key) {
+		return get(key, value -> Integer.parseInt(value.strip()));
+	}
+
+	/**
+	 * Get the long configuration parameter stored under the specified
+	 * {@code key}.
+	 *
+	 * <p>Leading and trailing whitespace is ignored. Lookups are performed
+	 * as documented for {@link #get(String)}.
+	 *
+	 * <p>The default implementation delegates to
+	 * {@link #get(String, Function)}; implementations may cache the parsed
+	 * value.
+	 *
+	 * @param key the key to look up; never {@code null} or blank
+	 * @return an {@code Optional} containing the value; never {@code null}
+	 * but potentially empty
+	 * @throws JUnitException if the value cannot be parsed as a long
+	 *
+	 * @since 6.0
+	 * @see Long#parseLong(String)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default Optional<Long> getLong(String key) {
+		return get(key, value -> Long.parseLong(value.strip()));
+	}
+
 	/**
 	 * Get the keys of all configuration parameters stored in this
 	 * {@code ConfigurationParameters}.
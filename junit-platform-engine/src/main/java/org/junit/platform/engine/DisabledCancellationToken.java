@@ -28,4 +28,10 @@ final class DisabledCancellationToken implements CancellationToken {
 	@Override
 	public void cancel() {
 	}
+
+	@Override
+	public Registration onCancellation(Runnable action) {
+		return () -> {
+		};
+	}
 }
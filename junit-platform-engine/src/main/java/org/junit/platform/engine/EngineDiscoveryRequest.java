@@ -10,14 +10,18 @@
 
 package org.junit.platform.engine;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.reporting.OutputDirectoryProvider;
+import org.junit.platform.engine.support.store.Namespace;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 
 /**
  * {@code EngineDiscoveryRequest} provides a {@link TestEngine} access to the
@@ -97,4 +101,23 @@ public interface EngineDiscoveryRequest {
 			"OutputDirectoryProvider not available; probably due to unaligned versions of the junit-platform-engine and junit-platform-launcher jars on the classpath/module path.");
 	}
 
+	/**
+	 * Get the {@link NamespacedHierarchicalStore} that is shared by all
+	 * discovery requests of the current launcher session, if available.
+	 *
+	 * <p>Test engines may use the store to share data that is expensive to
+	 * compute, such as the results of scanning the classpath, with other
+	 * engines and subsequent discovery requests.
+	 *
+	 * <p>The default implementation returns an empty {@code Optional}.
+	 *
+	 * @return an {@code Optional} containing the session-level store; never
+	 * {@code null} but potentially empty
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default Optional<NamespacedHierarchicalStore<Namespace>> getSessionStore() {
+		return Optional.empty();
+	}
+
 }
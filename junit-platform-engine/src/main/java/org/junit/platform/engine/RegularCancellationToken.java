@@ -10,14 +10,24 @@
 
 package org.junit.platform.engine;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
 /**
  * @since 6.0
  */
 final class RegularCancellationToken implements CancellationToken {
 
+	private static final Logger logger = LoggerFactory.getLogger(RegularCancellationToken.class);
+
 	private final AtomicBoolean cancelled = new AtomicBoolean();
+	private final Set<Action> actions = ConcurrentHashMap.newKeySet();
 
 	@Override
 	public boolean isCancellationRequested() {
@@ -26,6 +36,50 @@ final class RegularCancellationToken implements CancellationToken {
 
 	@Override
 	public void cancel() {
-		cancelled.set(true);
+		if (cancelled.compareAndSet(false, true)) {
+			actions.forEach(this::runOnce);
+		}
+	}
+
+	@Override
+	public Registration onCancellation(Runnable action) {
+		Preconditions.notNull(action, "action must not be null");
+		Action registration = new Action(action);
+		actions.add(registration);
+		// cancel() might have iterated the actions before this one was added
+		if (cancelled.get()) {
+			runOnce(registration);
+		}
+		return registration;
+	}
+
+	private void runOnce(Action action) {
+		// removal is atomic so that the action is only run by one thread
+		if (!actions.remove(action)) {
+			return;
+		}
+		try {
+			action.delegate.run();
+		}
+		catch (Throwable throwable) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+			logger.warn(throwable, () -> "Failed to run cancellation action " + action.delegate);
+		}
 	}
+
+	private final class Action implements Registration {
+
+		private final Runnable delegate;
+
+		Action(Runnable delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void close() {
+			actions.remove(this);
+		}
+
+	}
+
 }
@@ -14,6 +14,7 @@ import static java.util.stream.Collectors.joining;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -46,4 +47,21 @@ abstract class AbstractClassNameFilter implements ClassNameFilter {
 		return this.patterns.stream().filter(pattern -> pattern.matcher(className).matches()).findAny();
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		AbstractClassNameFilter that = (AbstractClassNameFilter) obj;
+		return this.patternDescription.equals(that.patternDescription);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(getClass(), this.patternDescription);
+	}
+
 }
@@ -69,6 +69,23 @@ class IncludePackageNameFilter implements PackageNameFilter {
 			name -> name.equals(packageName) || packageName.startsWith(name + ".")).findAny();
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		IncludePackageNameFilter that = (IncludePackageNameFilter) obj;
+		return this.packageNames.equals(that.packageNames);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.packageNames.hashCode();
+	}
+
 	@Override
 	public String toString() {
 		return "%s that includes packages whose names are either equal to or start with one of the following: %s".formatted(
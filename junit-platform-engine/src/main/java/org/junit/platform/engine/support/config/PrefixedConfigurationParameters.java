@@ -57,6 +57,16 @@ public class PrefixedConfigurationParameters implements ConfigurationParameters
 		return delegate.getBoolean(prefixed(key));
 	}
 
+	@Override
+	public Optional<Integer> getInteger(String key) {
+		return delegate.getInteger(prefixed(key));
+	}
+
+	@Override
+	public Optional<Long> getLong(String key) {
+		return delegate.getLong(prefixed(key));
+	}
+
 	@Override
 	public <T> Optional<T> get(String key, Function<? super String, ? extends @Nullable T> transformer) {
 		return delegate.get(prefixed(key), transformer);
@@ -11,47 +11,115 @@
 package org.junit.platform.engine.support.discovery;
 
 import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInClasspathRoot;
 import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInModule;
 import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInPackage;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.selectors;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.unresolved;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassLoaderUtils;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.discovery.ModuleSelector;
+import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.engine.support.store.ClassDependentValue;
+import org.junit.platform.engine.support.store.Namespace;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 
 /**
+ * Resolves classpath root, module, and package selectors by scanning for
+ * classes.
+ *
+ * <p>If the {@link EngineDiscoveryRequest} provides a
+ * {@linkplain EngineDiscoveryRequest#getSessionStore() session store}, the
+ * classes found for a selector are stored in it so that subsequent scans for
+ * the same selector and class name filters, for example, by other engines,
+ * don't have to read the classpath and load the classes again. The
+ * engine-specific class filter is applied to the stored classes afterwards.
+ * Stored classes are {@linkplain ClassDependentValue affected} by changes to
+ * classes they contain or that would be found by scanning again.
+ *
  * @since 1.5
  */
 class ClassContainerSelectorResolver implements SelectorResolver {
 
+	private static final Logger logger = LoggerFactory.getLogger(ClassContainerSelectorResolver.class);
+
+	private static final Namespace NAMESPACE = Namespace.create(ClassContainerSelectorResolver.class);
+
 	private final Predicate<Class<?>> classFilter;
 	private final Predicate<String> classNameFilter;
+	private final Optional<NamespacedHierarchicalStore<Namespace>> sessionStore;
+	private final List<DiscoveryFilter<String>> classNameFilters;
 
-	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter) {
+	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter,
+			EngineDiscoveryRequest request) {
 		this.classFilter = Preconditions.notNull(classFilter, "classFilter must not be null");
 		this.classNameFilter = Preconditions.notNull(classNameFilter, "classNameFilter must not be null");
+		this.sessionStore = request.getSessionStore();
+		List<DiscoveryFilter<String>> filters = new ArrayList<>();
+		filters.addAll(request.getFiltersByType(ClassNameFilter.class));
+		filters.addAll(request.getFiltersByType(PackageNameFilter.class));
+		this.classNameFilters = List.copyOf(filters);
 	}
 
 	@Override
 	public Resolution resolve(ClasspathRootSelector selector, Context context) {
-		return classSelectors(findAllClassesInClasspathRoot(selector.getClasspathRoot(), classFilter, classNameFilter));
+		return classSelectors(findClasses(selector,
+			filter -> findAllClassesInClasspathRoot(selector.getClasspathRoot(), filter, classNameFilter)));
 	}
 
 	@Override
 	public Resolution resolve(ModuleSelector selector, Context context) {
-		return classSelectors(findAllClassesInModule(selector.getModuleName(), classFilter, classNameFilter));
+		return classSelectors(
+			findClasses(selector, filter -> findAllClassesInModule(selector.getModuleName(), filter, classNameFilter)));
 	}
 
 	@Override
 	public Resolution resolve(PackageSelector selector, Context context) {
-		return classSelectors(findAllClassesInPackage(selector.getPackageName(), classFilter, classNameFilter));
+		return classSelectors(findClasses(selector,
+			filter -> findAllClassesInPackage(selector.getPackageName(), filter, classNameFilter)));
+	}
+
+	private List<Class<?>> findClasses(DiscoverySelector selector,
+			Function<Predicate<Class<?>>, List<Class<?>>> scanner) {
+		if (this.sessionStore.isEmpty()) {
+			return scanner.apply(this.classFilter);
+		}
+		ScanKey key = new ScanKey(selector, this.classNameFilters, ClassLoaderUtils.getDefaultClassLoader());
+		ScannedClasses scannedClasses = this.sessionStore.get().computeIfAbsent(NAMESPACE, key,
+			__ -> new ScannedClasses(selector, scanner.apply(clazz -> true)), ScannedClasses.class);
+		return scannedClasses.classes().stream().filter(this::matchesClassFilter).toList();
+	}
+
+	private boolean matchesClassFilter(Class<?> clazz) {
+		try {
+			return this.classFilter.test(clazz);
+		}
+		catch (Throwable throwable) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+			logger.debug(throwable, () -> "Failed to apply class filter to [%s].".formatted(clazz.getName()));
+			return false;
+		}
 	}
 
 	private Resolution classSelectors(List<Class<?>> classes) {
@@ -61,4 +129,55 @@ class ClassContainerSelectorResolver implements SelectorResolver {
 		return selectors(classes.stream().map(DiscoverySelectors::selectClass).collect(toSet()));
 	}
 
+	/**
+	 * Key of a scan in the session store.
+	 *
+	 * <p>The class name and package name filters created via
+	 * {@link ClassNameFilter} and {@link PackageNameFilter} are equal if they
+	 * are of the same type and have the same patterns or package names, so
+	 * scans are shared by subsequent requests with equal filters. Other
+	 * filters are compared by identity.
+	 */
+	private record ScanKey(DiscoverySelector selector, List<DiscoveryFilter<String>> classNameFilters,
+			ClassLoader classLoader) {
+	}
+
+	private record ScannedClasses(DiscoverySelector selector, List<Class<?>> classes, Set<String> classNames,
+			Set<String> packageNames) implements ClassDependentValue {
+
+		ScannedClasses(DiscoverySelector selector, List<Class<?>> classes) {
+			this(selector, classes, classes.stream().map(Class::getName).collect(toUnmodifiableSet()),
+				classes.stream().map(clazz -> packageName(clazz.getName())).collect(toUnmodifiableSet()));
+		}
+
+		@Override
+		public boolean isAffectedBy(Set<String> changedClassNames) {
+			return changedClassNames.stream().anyMatch(this::isAffectedBy);
+		}
+
+		private boolean isAffectedBy(String changedClassName) {
+			if (this.classNames.contains(changedClassName)) {
+				return true;
+			}
+			if (this.selector instanceof PackageSelector packageSelector) {
+				String packageName = packageSelector.getPackageName();
+				return packageName.isEmpty() || changedClassName.startsWith(packageName + ".");
+			}
+			if (this.selector instanceof ClasspathRootSelector classpathRootSelector
+					&& "file".equals(classpathRootSelector.getClasspathRoot().getScheme())) {
+				Path root = Path.of(classpathRootSelector.getClasspathRoot());
+				if (Files.isDirectory(root)) {
+					return Files.exists(root.resolve(changedClassName.replace('.', '/') + ".class"));
+				}
+			}
+			// for modules and archives, only classes in already known packages are considered
+			return this.packageNames.contains(packageName(changedClassName));
+		}
+
+		private static String packageName(String className) {
+			int lastDot = className.lastIndexOf('.');
+			return lastDot == -1 ? "" : className.substring(0, lastDot);
+		}
+	}
+
 }
@@ -213,7 +213,7 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 				Function<InitializationContext<T>, Predicate<Class<?>>> classFilterCreator) {
 			Preconditions.notNull(classFilterCreator, "classFilterCreator must not be null");
 			return addSelectorResolver(context -> new ClassContainerSelectorResolver(classFilterCreator.apply(context),
-				context.getClassNameFilter()));
+				context.getClassNameFilter(), context.getDiscoveryRequest()));
 		}
 
 		/**
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * {@link ParallelExecutionConfiguration} created by the
+ * {@link DefaultParallelExecutionConfigurationStrategy#ADAPTIVE} strategy.
+ *
+ * <p>In addition to the initial configuration, it provides the bounds within
+ * which {@link AdaptiveParallelismController} may resize the parallelism of
+ * the fork-join pool at runtime.
+ *
+ * @since 6.0
+ */
+class AdaptiveParallelExecutionConfiguration extends DefaultParallelExecutionConfiguration {
+
+	private final int minParallelism;
+	private final int maxParallelism;
+	private final Duration samplingInterval;
+
+	AdaptiveParallelExecutionConfiguration(int parallelism, int minParallelism, int maxParallelism, int maxPoolSize,
+			int keepAliveSeconds, Predicate<? super ForkJoinPool> saturate, Duration samplingInterval) {
+		super(parallelism, minParallelism, maxPoolSize, parallelism, keepAliveSeconds, saturate);
+		this.minParallelism = minParallelism;
+		this.maxParallelism = maxParallelism;
+		this.samplingInterval = samplingInterval;
+	}
+
+	int getMinParallelism() {
+		return minParallelism;
+	}
+
+	int getMaxParallelism() {
+		return maxParallelism;
+	}
+
+	Duration getSamplingInterval() {
+		return samplingInterval;
+	}
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
+/**
+ * Periodically resizes the parallelism of a {@link ForkJoinPool} within the
+ * bounds of an {@link AdaptiveParallelExecutionConfiguration}.
+ *
+ * <p>Each sample compares the CPU time consumed by the pool's worker threads
+ * with the elapsed wall-clock time and counts the workers that are active but
+ * not running, e.g. because they are waiting for I/O or a lock. If there is
+ * queued work and the CPU is under-utilized, the parallelism is increased; if
+ * the CPU is saturated and no worker is blocked, it is decreased again.
+ *
+ * <p>Resize decisions are logged and, if Java Flight Recorder is available,
+ * recorded as {@code org.junit.ParallelismChange} events.
+ *
+ * @since 6.0
+ * @see DefaultParallelExecutionConfigurationStrategy#ADAPTIVE
+ */
+class AdaptiveParallelismController implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelismController.class);
+
+	static final double LOW_CPU_UTILIZATION = 0.75;
+	static final double HIGH_CPU_UTILIZATION = 0.95;
+
+	private final ForkJoinPool forkJoinPool;
+	private final AdaptiveParallelExecutionConfiguration configuration;
+	private final Supplier<Collection<Thread>> workerThreads;
+	private final int availableProcessors = Runtime.getRuntime().availableProcessors();
+	private final boolean jfrAvailable = JfrUtils.isJfrAvailable();
+	private final @Nullable ThreadMXBean threadMXBean = getThreadMXBeanIfCpuTimeIsSupported();
+	private final @Nullable MethodHandle setParallelism = findSetParallelismMethod();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "junit-adaptive-parallelism");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private long lastSampleNanos = System.nanoTime();
+	private long lastCpuTimeNanos;
+
+	AdaptiveParallelismController(ForkJoinPool forkJoinPool, AdaptiveParallelExecutionConfiguration configuration,
+			Supplier<Collection<Thread>> workerThreads) {
+		this.forkJoinPool = forkJoinPool;
+		this.configuration = configuration;
+		this.workerThreads = workerThreads;
+	}
+
+	void start() {
+		if (setParallelism == null) {
+			logger.warn(() -> "Resizing the parallelism of a ForkJoinPool requires Java 19 or later; "
+					+ "retaining initial parallelism of " + forkJoinPool.getParallelism());
+			return;
+		}
+		long intervalMillis = configuration.getSamplingInterval().toMillis();
+		scheduler.scheduleWithFixedDelay(this::sample, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void sample() {
+		try {
+			long now = System.nanoTime();
+			long cpuTimeNanos = getTotalWorkerCpuTimeNanos();
+			double cpuUtilization = threadMXBean == null ? Double.NaN
+					: (double) Math.max(0, cpuTimeNanos - lastCpuTimeNanos)
+							/ (Math.max(1, now - lastSampleNanos) * (double) availableProcessors);
+			lastSampleNanos = now;
+			lastCpuTimeNanos = cpuTimeNanos;
+
+			int blockedWorkers = Math.max(0, forkJoinPool.getActiveThreadCount() - forkJoinPool.getRunningThreadCount());
+			boolean hasQueuedWork = forkJoinPool.getQueuedTaskCount() > 0 || forkJoinPool.hasQueuedSubmissions();
+			int currentParallelism = forkJoinPool.getParallelism();
+			int targetParallelism = computeTargetParallelism(currentParallelism, cpuUtilization, blockedWorkers,
+				hasQueuedWork, configuration.getMinParallelism(), configuration.getMaxParallelism());
+
+			if (targetParallelism != currentParallelism) {
+				resize(currentParallelism, targetParallelism, cpuUtilization, blockedWorkers);
+			}
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			logger.warn(t, () -> "Failed to adapt parallelism of ForkJoinPool; retaining current parallelism");
+			scheduler.shutdown();
+		}
+	}
+
+	/**
+	 * Compute the parallelism to use based on the supplied sample.
+	 *
+	 * @param cpuUtilization the fraction of the available processors used by
+	 * the worker threads since the last sample, or {@link Double#NaN} if
+	 * unknown
+	 */
+	static int computeTargetParallelism(int currentParallelism, double cpuUtilization, int blockedWorkers,
+			boolean hasQueuedWork, int minParallelism, int maxParallelism) {
+		int target = currentParallelism;
+		boolean cpuUtilizationKnown = !Double.isNaN(cpuUtilization);
+		if (hasQueuedWork && (blockedWorkers > 0 || (cpuUtilizationKnown && cpuUtilization < LOW_CPU_UTILIZATION))) {
+			target = currentParallelism + Math.max(1, blockedWorkers);
+		}
+		else if (blockedWorkers == 0 && cpuUtilizationKnown && cpuUtilization > HIGH_CPU_UTILIZATION) {
+			target = currentParallelism - Math.max(1, currentParallelism / 8);
+		}
+		return Math.min(maxParallelism, Math.max(minParallelism, target));
+	}
+
+	private void resize(int currentParallelism, int targetParallelism, double cpuUtilization, int blockedWorkers)
+			throws Throwable {
+		int previousParallelism = (int) requireNonNull(setParallelism).invokeExact(forkJoinPool, targetParallelism);
+		// The pool only starts additional workers when new work is submitted
+		for (int i = previousParallelism; i < targetParallelism; i++) {
+			forkJoinPool.execute(() -> {
+			});
+		}
+		logger.config(() -> """
+				Changed parallelism of ForkJoinPool from %d to %d \
+				(CPU utilization: %s, blocked workers: %d)""".formatted(previousParallelism, targetParallelism,
+			formatUtilization(cpuUtilization), blockedWorkers));
+		if (jfrAvailable) {
+			ParallelismChangeEvent.commit(currentParallelism, targetParallelism, cpuUtilization, blockedWorkers);
+		}
+	}
+
+	private static String formatUtilization(double cpuUtilization) {
+		return Double.isNaN(cpuUtilization) ? "unknown" : "%.0f%%".formatted(cpuUtilization * 100);
+	}
+
+	private long getTotalWorkerCpuTimeNanos() {
+		if (threadMXBean == null) {
+			return 0;
+		}
+		long total = 0;
+		for (Thread thread : workerThreads.get()) {
+			@SuppressWarnings("deprecation")
+			long threadId = thread.getId();
+			long cpuTime = threadMXBean.getThreadCpuTime(threadId);
+			if (cpuTime > 0) {
+				total += cpuTime;
+			}
+		}
+		return total;
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	private static @Nullable ThreadMXBean getThreadMXBeanIfCpuTimeIsSupported() {
+		try {
+			ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if (threadMXBean.isThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled()) {
+				return threadMXBean;
+			}
+		}
+		catch (LinkageError ignored) {
+			// java.management is not available
+		}
+		logger.config(() -> "Thread CPU time is not available; adapting parallelism based on blocked workers only");
+		return null;
+	}
+
+	private static @Nullable MethodHandle findSetParallelismMethod() {
+		try {
+			return MethodHandles.publicLookup().findVirtual(ForkJoinPool.class, "setParallelism",
+				MethodType.methodType(int.class, int.class));
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+}
@@ -15,24 +15,31 @@ import java.util.List;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ToStringBuilder;
 
 /**
  * @since 1.3
  */
-class CompositeLock implements ResourceLock {
+class CompositeLock implements ResourceLockMetrics.MeasuredResourceLock {
 
 	private final List<ExclusiveResource> resources;
 	private final List<Lock> locks;
 	private final boolean exclusive;
+	private final @Nullable ResourceLockMetrics metrics;
 
 	CompositeLock(List<ExclusiveResource> resources, List<Lock> locks) {
+		this(resources, locks, null);
+	}
+
+	CompositeLock(List<ExclusiveResource> resources, List<Lock> locks, @Nullable ResourceLockMetrics metrics) {
 		Preconditions.condition(resources.size() == locks.size(), "Resources and locks must have the same size");
 		this.resources = List.copyOf(resources);
 		this.locks = Preconditions.notEmpty(locks, "Locks must not be empty");
 		this.exclusive = resources.stream().anyMatch(
 			resource -> resource.getLockMode() == ExclusiveResource.LockMode.READ_WRITE);
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -45,9 +52,18 @@ class CompositeLock implements ResourceLock {
 		return this.locks;
 	}
 
+	@Override
+	public @Nullable ResourceLockMetrics getMetrics() {
+		return this.metrics;
+	}
+
 	@Override
 	public ResourceLock acquire() throws InterruptedException {
+		long startTime = System.nanoTime();
 		ForkJoinPool.managedBlock(new CompositeLockManagedBlocker());
+		if (this.metrics != null) {
+			this.metrics.recordAcquired(this.resources, startTime);
+		}
 		return this;
 	}
 
@@ -65,8 +81,32 @@ class CompositeLock implements ResourceLock {
 		}
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		return tryAcquire(System.nanoTime());
+	}
+
+	@Override
+	public boolean tryAcquire(long waitStartNanos) {
+		List<Lock> acquiredLocks = new ArrayList<>(this.locks.size());
+		for (Lock lock : this.locks) {
+			if (!lock.tryLock()) {
+				release(acquiredLocks);
+				return false;
+			}
+			acquiredLocks.add(lock);
+		}
+		if (this.metrics != null) {
+			this.metrics.recordAcquired(this.resources, waitStartNanos);
+		}
+		return true;
+	}
+
 	@Override
 	public void release() {
+		if (this.metrics != null) {
+			this.metrics.recordReleased();
+		}
 		release(this.locks);
 	}
 
@@ -11,10 +11,12 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Locale;
 
 import org.apiguardian.api.API;
@@ -89,6 +91,54 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 		}
 	},
 
+	/**
+	 * Starts with a parallelism equal to the number of available processors
+	 * and periodically resizes it at runtime based on the observed CPU
+	 * utilization of the worker threads and the number of workers that are
+	 * blocked. Both the initial and the resized parallelism stay within the
+	 * bounds configured via the
+	 * {@value #CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME} and
+	 * {@value #CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME} configuration
+	 * parameters.
+	 *
+	 * <p>Resizing the parallelism of a running fork-join pool requires Java 19
+	 * or later. On older runtimes the initial parallelism is retained.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	ADAPTIVE {
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			int availableProcessors = Runtime.getRuntime().availableProcessors();
+
+			int minParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(1);
+
+			int maxParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(Math.max(minParallelism, 4 * availableProcessors));
+
+			Preconditions.condition(minParallelism > 0,
+				() -> "Parallelism '%d' specified via configuration parameter '%s' must be greater than 0".formatted(
+					minParallelism, CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME));
+			Preconditions.condition(maxParallelism >= minParallelism,
+				() -> "Parallelism '%d' specified via configuration parameter '%s' must be greater than or equal to %d".formatted(
+					maxParallelism, CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME, minParallelism));
+
+			long samplingIntervalMillis = configurationParameters.get(
+				CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME, Long::valueOf).orElse(500L);
+
+			Preconditions.condition(samplingIntervalMillis > 0,
+				() -> "Interval '%d' specified via configuration parameter '%s' must be greater than 0".formatted(
+					samplingIntervalMillis, CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME));
+
+			int parallelism = Math.min(maxParallelism, Math.max(minParallelism, availableProcessors));
+
+			return new AdaptiveParallelExecutionConfiguration(parallelism, minParallelism, maxParallelism,
+				256 + maxParallelism, KEEP_ALIVE_SECONDS, __ -> true, Duration.ofMillis(samplingIntervalMillis));
+		}
+	},
+
 	/**
 	 * Allows the specification of a custom {@link ParallelExecutionConfigurationStrategy}
 	 * implementation via the mandatory {@value #CONFIG_CUSTOM_CLASS_PROPERTY_NAME}
@@ -118,8 +168,8 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	/**
 	 * Property name used to determine the desired configuration strategy.
 	 *
-	 * <p>Value must be one of {@code dynamic}, {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Value must be one of {@code dynamic}, {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 */
 	public static final String CONFIG_STRATEGY_PROPERTY_NAME = "strategy";
 
@@ -207,6 +257,45 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	@API(status = MAINTAINED, since = "1.13.3")
 	public static final String CONFIG_DYNAMIC_SATURATE_PROPERTY_NAME = "dynamic.saturate";
 
+	/**
+	 * Property name used to determine the minimum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = "adaptive.min-parallelism";
+
+	/**
+	 * Property name used to determine the maximum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be an integer and greater than or equal to
+	 * {@value #CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME}; defaults to
+	 * {@code 4 * Runtime.getRuntime().availableProcessors()}.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = "adaptive.max-parallelism";
+
+	/**
+	 * Property name used to determine the interval in milliseconds at which
+	 * the {@link #ADAPTIVE} configuration strategy samples the utilization of
+	 * the worker threads.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 500}.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME = "adaptive.sampling-interval";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
@@ -10,7 +10,9 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
@@ -19,8 +21,14 @@ import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.
 import java.io.Serial;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.ForkJoinWorkerThread;
@@ -49,9 +57,33 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	// package-private for testing
 	final ForkJoinPool forkJoinPool;
 
+	/**
+	 * Property name used to enable parking of tasks whose
+	 * {@linkplain TestTask#getResourceLock() resource lock} cannot be acquired
+	 * immediately.
+	 *
+	 * <p>When enabled, a forked task whose exclusive resources are currently
+	 * held by other tasks is put into a wait queue for each of these resources
+	 * instead of blocking its worker thread. When one of the resources is
+	 * released, the parked tasks that may acquire it next are resubmitted to
+	 * the pool: either a single task requiring write access or all waiting
+	 * tasks at the head of the queue requiring read access. Tasks that are
+	 * executed synchronously still block until their resource lock has been
+	 * acquired.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_PARK_BLOCKED_TASKS_PROPERTY_NAME = "park-blocked-tasks";
+
 	private final TaskEventListener taskEventListener;
-	private final int parallelism;
+	private final WorkerThreadFactory workerThreadFactory = new WorkerThreadFactory();
 	private final ThreadLocal<ThreadLock> threadLocks = ThreadLocal.withInitial(ThreadLock::new);
+	private final @Nullable ResourceLockWaitQueues resourceLockWaitQueues;
+	private final @Nullable AdaptiveParallelismController adaptiveParallelismController;
 
 	/**
 	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
@@ -60,7 +92,8 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	 * @see DefaultParallelExecutionConfigurationStrategy
 	 */
 	public ForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
-		this(createConfiguration(configurationParameters));
+		this(createConfiguration(configurationParameters), TaskEventListener.NOOP,
+			configurationParameters.getBoolean(CONFIG_PARK_BLOCKED_TASKS_PROPERTY_NAME).orElse(false));
 	}
 
 	/**
@@ -71,15 +104,51 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	 */
 	@API(status = STABLE, since = "1.10")
 	public ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration) {
-		this(configuration, TaskEventListener.NOOP);
+		this(configuration, false);
+	}
+
+	/**
+	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
+	 * the supplied {@link ParallelExecutionConfiguration}.
+	 *
+	 * @param configuration the parallel execution configuration to use
+	 * @param parkBlockedTasks whether forked tasks whose resource lock cannot
+	 * be acquired immediately should be parked instead of blocking their worker
+	 * thread
+	 * @since 6.0
+	 * @see #CONFIG_PARK_BLOCKED_TASKS_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			boolean parkBlockedTasks) {
+		this(configuration, TaskEventListener.NOOP, parkBlockedTasks);
 	}
 
 	ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
 			TaskEventListener taskEventListener) {
+		this(configuration, taskEventListener, false);
+	}
+
+	ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			TaskEventListener taskEventListener, boolean parkBlockedTasks) {
 		forkJoinPool = createForkJoinPool(configuration);
 		this.taskEventListener = taskEventListener;
-		parallelism = forkJoinPool.getParallelism();
-		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
+		this.resourceLockWaitQueues = parkBlockedTasks ? new ResourceLockWaitQueues() : null;
+		int parallelism = forkJoinPool.getParallelism();
+		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism
+				+ (parkBlockedTasks ? " and parking of blocked tasks" : ""));
+		this.adaptiveParallelismController = createAdaptiveParallelismController(configuration);
+	}
+
+	private @Nullable AdaptiveParallelismController createAdaptiveParallelismController(
+			ParallelExecutionConfiguration configuration) {
+		if (configuration instanceof AdaptiveParallelExecutionConfiguration adaptiveConfiguration) {
+			var controller = new AdaptiveParallelismController(forkJoinPool, adaptiveConfiguration,
+				workerThreadFactory::getWorkerThreads);
+			controller.start();
+			return controller;
+		}
+		return null;
 	}
 
 	private static ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
@@ -90,7 +159,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	private ForkJoinPool createForkJoinPool(ParallelExecutionConfiguration configuration) {
 		try {
-			return new ForkJoinPool(configuration.getParallelism(), new WorkerThreadFactory(), null, false,
+			return new ForkJoinPool(configuration.getParallelism(), workerThreadFactory, null, false,
 				configuration.getCorePoolSize(), configuration.getMaxPoolSize(), configuration.getMinimumRunnable(),
 				configuration.getSaturatePredicate(), configuration.getKeepAliveSeconds(), TimeUnit.SECONDS);
 		}
@@ -117,7 +186,8 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		// can be stolen by otherwise idle workers and the new task takes significantly
 		// longer, parallelism will drop. However, that only happens if the enclosing test
 		// task is the only one remaining which should rarely be the case.
-		if (testTask.getExecutionMode() == CONCURRENT && ForkJoinTask.getSurplusQueuedTaskCount() < parallelism) {
+		if (testTask.getExecutionMode() == CONCURRENT
+				&& ForkJoinTask.getSurplusQueuedTaskCount() < forkJoinPool.getParallelism()) {
 			return exclusiveTask.fork();
 		}
 		exclusiveTask.execSync();
@@ -178,6 +248,15 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 	}
 
+	private void resubmit(ExclusiveTask task) {
+		if (isAlreadyRunningInForkJoinPool()) {
+			task.fork();
+		}
+		else {
+			forkJoinPool.execute(task);
+		}
+	}
+
 	private void resubmitDeferredTasks() {
 		List<ExclusiveTask> deferredTasks = threadLocks.get().deferredTasks;
 		for (ExclusiveTask deferredTask : deferredTasks) {
@@ -190,6 +269,9 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	@Override
 	public void close() {
+		if (adaptiveParallelismController != null) {
+			adaptiveParallelismController.close();
+		}
 		forkJoinPool.shutdownNow();
 	}
 
@@ -224,16 +306,20 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 
 		void execSync() {
-			boolean completed = exec();
+			boolean completed = execute(false);
 			if (!completed) {
 				throw new IllegalStateException(
 					"Task was deferred but should have been executed synchronously: " + testTask);
 			}
 		}
 
-		@SuppressWarnings("try")
 		@Override
 		public boolean exec() {
+			return execute(resourceLockWaitQueues != null);
+		}
+
+		@SuppressWarnings("try")
+		private boolean execute(boolean parkIfBlocked) {
 			// Check if this task is compatible with the current resource lock, if there is any.
 			// If not, we put this task in the thread local as a deferred task
 			// and let the worker thread fork it once it is done with the current task.
@@ -241,21 +327,49 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 			ThreadLock threadLock = threadLocks.get();
 			if (!threadLock.areAllHeldLocksCompatibleWith(resourceLock)) {
 				threadLock.addDeferredTask(this);
+				ResourceLockMetrics.recordDeferred(resourceLock);
 				taskEventListener.deferred(testTask);
 				// Return false to indicate that this task is not done yet
 				// this means that .join() will wait.
 				return false;
 			}
+			try {
+				if (!acquire(resourceLock, parkIfBlocked)) {
+					// The task will be resubmitted once one of its resources is released.
+					ResourceLockMetrics.recordDeferred(resourceLock);
+					taskEventListener.parked(testTask);
+					return false;
+				}
+			}
+			catch (InterruptedException e) {
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
 			try ( //
-					ResourceLock lock = resourceLock.acquire(); //
 					@SuppressWarnings("unused")
-					ThreadLock.NestedResourceLock nested = threadLock.withNesting(lock) //
+					ThreadLock.NestedResourceLock nested = threadLock.withNesting(resourceLock) //
 			) {
 				testTask.execute();
 				return true;
 			}
-			catch (InterruptedException e) {
-				throw ExceptionUtils.throwAsUncheckedException(e);
+			finally {
+				release(resourceLock);
+			}
+		}
+
+		private boolean acquire(ResourceLock resourceLock, boolean parkIfBlocked) throws InterruptedException {
+			if (parkIfBlocked) {
+				return requireNonNull(resourceLockWaitQueues).tryAcquireOrPark(resourceLock, this);
+			}
+			resourceLock.acquire();
+			return true;
+		}
+
+		private void release(ResourceLock resourceLock) {
+			if (resourceLockWaitQueues == null) {
+				resourceLock.release();
+			}
+			else {
+				resourceLockWaitQueues.release(resourceLock);
 			}
 		}
 
@@ -268,21 +382,41 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
 
 		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		private final Set<Thread> workerThreads = ConcurrentHashMap.newKeySet();
 
 		@Override
 		public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
-			return new WorkerThread(pool, contextClassLoader);
+			return new WorkerThread(pool, contextClassLoader, workerThreads);
+		}
+
+		Collection<Thread> getWorkerThreads() {
+			return workerThreads;
 		}
 
 	}
 
 	static class WorkerThread extends ForkJoinWorkerThread {
 
-		WorkerThread(ForkJoinPool pool, ClassLoader contextClassLoader) {
+		private final Set<Thread> workerThreads;
+
+		WorkerThread(ForkJoinPool pool, ClassLoader contextClassLoader, Set<Thread> workerThreads) {
 			super(pool);
+			this.workerThreads = workerThreads;
 			setContextClassLoader(contextClassLoader);
 		}
 
+		@Override
+		protected void onStart() {
+			super.onStart();
+			workerThreads.add(this);
+		}
+
+		@Override
+		protected void onTermination(@Nullable Throwable exception) {
+			workerThreads.remove(this);
+			super.onTermination(exception);
+		}
+
 	}
 
 	static class ThreadLock {
@@ -308,12 +442,110 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 	}
 
+	/**
+	 * Wait queues for tasks that could not acquire their resource lock without
+	 * blocking.
+	 *
+	 * <p>A parked task is registered in the queue of each of its exclusive
+	 * resources. Acquiring locks while parking and releasing locks happen while
+	 * holding this object's monitor so that wake-ups cannot get lost.
+	 *
+	 * <p>When a resource is released, only the tasks at the head of its queue
+	 * that may be able to acquire it are resubmitted: either the first task if
+	 * it requires {@link ExclusiveResource.LockMode#READ_WRITE READ_WRITE}
+	 * access or all leading tasks that only require
+	 * {@link ExclusiveResource.LockMode#READ READ} access. All other tasks
+	 * remain parked until the resubmitted ones release the resource in turn.
+	 *
+	 * <p>The time a task was first parked is remembered until it acquires its
+	 * lock so that the time spent parked is recorded as wait time in the
+	 * {@link ResourceLockMetrics}, if enabled.
+	 */
+	class ResourceLockWaitQueues {
+
+		private final Map<String, Deque<ParkedTask>> parkedTasksByKey = new HashMap<>();
+		private final Map<ExclusiveTask, Long> parkTimes = new HashMap<>();
+
+		boolean tryAcquireOrPark(ResourceLock resourceLock, ExclusiveTask task) throws InterruptedException {
+			if (resourceLock.getResources().isEmpty()) {
+				return resourceLock.tryAcquire();
+			}
+			synchronized (this) {
+				Long parkTime = parkTimes.get(task);
+				if (parkTime == null) {
+					if (resourceLock.tryAcquire()) {
+						return true;
+					}
+					parkTimes.put(task, System.nanoTime());
+				}
+				else if (ResourceLockMetrics.tryAcquire(resourceLock, parkTime)) {
+					parkTimes.remove(task);
+					return true;
+				}
+				for (ExclusiveResource resource : resourceLock.getResources()) {
+					parkedTasksByKey.computeIfAbsent(resource.getKey(), __ -> new ArrayDeque<>()) //
+							.add(new ParkedTask(task, resource.getLockMode()));
+				}
+				return false;
+			}
+		}
+
+		void release(ResourceLock resourceLock) {
+			if (resourceLock.getResources().isEmpty()) {
+				resourceLock.release();
+				return;
+			}
+			Set<ExclusiveTask> tasksToResubmit = new LinkedHashSet<>();
+			synchronized (this) {
+				resourceLock.release();
+				for (ExclusiveResource resource : resourceLock.getResources()) {
+					Deque<ParkedTask> parkedTasks = parkedTasksByKey.get(resource.getKey());
+					if (parkedTasks != null) {
+						collectTasksToWakeUp(parkedTasks, tasksToResubmit);
+					}
+				}
+				// Each task must only be resubmitted once, so remove it from the
+				// queues of its other resources as well.
+				for (ExclusiveTask task : tasksToResubmit) {
+					for (ExclusiveResource resource : task.testTask.getResourceLock().getResources()) {
+						Deque<ParkedTask> parkedTasks = parkedTasksByKey.get(resource.getKey());
+						if (parkedTasks != null && parkedTasks.removeIf(parkedTask -> parkedTask.task == task)
+								&& parkedTasks.isEmpty()) {
+							parkedTasksByKey.remove(resource.getKey());
+						}
+					}
+				}
+			}
+			tasksToResubmit.forEach(ForkJoinPoolHierarchicalTestExecutorService.this::resubmit);
+		}
+
+		private static void collectTasksToWakeUp(Deque<ParkedTask> parkedTasks, Set<ExclusiveTask> tasksToWakeUp) {
+			ParkedTask first = parkedTasks.peekFirst();
+			if (first != null && first.lockMode == ExclusiveResource.LockMode.READ_WRITE) {
+				tasksToWakeUp.add(first.task);
+				return;
+			}
+			for (ParkedTask parkedTask : parkedTasks) {
+				if (parkedTask.lockMode == ExclusiveResource.LockMode.READ_WRITE) {
+					break;
+				}
+				tasksToWakeUp.add(parkedTask.task);
+			}
+		}
+
+		private record ParkedTask(ExclusiveTask task, ExclusiveResource.LockMode lockMode) {
+		}
+	}
+
 	interface TaskEventListener {
 
 		TaskEventListener NOOP = __ -> {
 		};
 
 		void deferred(TestTask testTask);
+
+		default void parked(TestTask testTask) {
+		}
 	}
 
 }
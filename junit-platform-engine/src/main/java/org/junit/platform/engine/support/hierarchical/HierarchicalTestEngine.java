@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -30,6 +31,55 @@ import org.junit.platform.engine.TestEngine;
 @API(status = MAINTAINED, since = "1.0")
 public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> implements TestEngine {
 
+	/**
+	 * Property name used to enable pruning of finished subtrees of the test
+	 * descriptor hierarchy: {@value}
+	 *
+	 * <p>When enabled, the children of each container are removed from it as
+	 * soon as the container's execution has been reported as finished or
+	 * skipped. Finished test descriptors and the execution contexts created
+	 * for them thereby become eligible for garbage collection while the
+	 * remaining tests are still running, so that the memory required for
+	 * executing large test suites depends on the number of tests in flight
+	 * rather than their total number. Listeners may continue to use the
+	 * {@code TestIdentifiers} of the launcher's {@code TestPlan} which are
+	 * unaffected by pruning.
+	 *
+	 * <p>Pruning should not be enabled if any component requires access to
+	 * the children of a test descriptor after its execution has finished,
+	 * for example, to inspect the test descriptor hierarchy after all tests
+	 * have been executed.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PRUNE_FINISHED_DESCRIPTORS_PROPERTY_NAME = "junit.platform.execution.descriptors.pruning.enabled";
+
+	/**
+	 * Property name used to enable interrupting the threads that execute
+	 * tests when cancellation is requested via the
+	 * {@link org.junit.platform.engine.CancellationToken CancellationToken}
+	 * of the {@link ExecutionRequest}: {@value}
+	 *
+	 * <p>By default, tests that are already running when cancellation is
+	 * requested are allowed to finish while all tests that have not yet been
+	 * started are skipped. When enabled, the threads executing running tests
+	 * are interrupted in addition so that tests that wait or sleep finish
+	 * early. Interrupted tests are typically reported as failed. The
+	 * interrupted status is cleared once a test has finished so that it does
+	 * not affect subsequent tests executed by the same thread.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String INTERRUPT_ON_CANCELLATION_PROPERTY_NAME = "junit.platform.execution.cancellation.interrupt.enabled";
+
 	public HierarchicalTestEngine() {
 	}
 
@@ -13,11 +13,15 @@ package org.junit.platform.engine.support.hierarchical;
 import java.util.concurrent.Future;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
 
 /**
  * Implementation core of all {@link TestEngine TestEngines} that wish to
@@ -35,6 +39,8 @@ import org.junit.platform.engine.TestEngine;
  */
 class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 
+	private static final Logger logger = LoggerFactory.getLogger(HierarchicalTestExecutor.class);
+
 	private final ExecutionRequest request;
 	private final C rootContext;
 	private final HierarchicalTestExecutorService executorService;
@@ -53,19 +59,78 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	}
 
 	private NodeTestTask<C> createRootTestTask() {
-		NodeTestTaskContext taskContext = createTaskContext();
 		TestDescriptor rootTestDescriptor = this.request.getRootTestDescriptor();
-		NodeTestTask<C> rootTestTask = new NodeTestTask<>(taskContext, rootTestDescriptor);
+		NodeTestTask<C> rootTestTask;
+		if (isInterruptOnCancellationEnabled()) {
+			TestThreadInterrupter testThreadInterrupter = new TestThreadInterrupter();
+			CancellationToken.Registration registration = this.request.getCancellationToken() //
+					.onCancellation(testThreadInterrupter::interruptAll);
+			// the token may be reused for other executions, so the action must not outlive this one
+			rootTestTask = new NodeTestTask<>(createTaskContext(testThreadInterrupter), rootTestDescriptor,
+				registration::close);
+		}
+		else {
+			rootTestTask = new NodeTestTask<>(createTaskContext(null), rootTestDescriptor);
+		}
 		rootTestTask.setParentContext(this.rootContext);
 		return rootTestTask;
 	}
 
-	private NodeTestTaskContext createTaskContext() {
+	private NodeTestTaskContext createTaskContext(@Nullable TestThreadInterrupter testThreadInterrupter) {
 		EngineExecutionListener executionListener = this.request.getEngineExecutionListener();
-		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker().walk(this.request.getRootTestDescriptor());
-		CancellationToken cancellationToken = this.request.getCancellationToken();
+		TestDescriptor rootTestDescriptor = this.request.getRootTestDescriptor();
+		ResourceLockMetrics resourceLockMetrics = createResourceLockMetrics();
+		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker(new LockManager(resourceLockMetrics)).walk(
+			rootTestDescriptor);
+		if (resourceLockMetrics != null) {
+			executionListener = resourceLockMetrics.reportingListener(executionListener, rootTestDescriptor);
+		}
 		return new NodeTestTaskContext(executionListener, this.executorService, this.throwableCollectorFactory,
-			executionAdvisor, cancellationToken);
+			executionAdvisor, this.request.getCancellationToken(), readDurationHistory(),
+			getMaxUnfinishedDynamicTasks(), isPruneFinishedDescriptorsEnabled(), testThreadInterrupter);
+	}
+
+	private @Nullable ResourceLockMetrics createResourceLockMetrics() {
+		boolean enabled = this.request.getConfigurationParameters() //
+				.getBoolean(ResourceLock.METRICS_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+		return enabled ? new ResourceLockMetrics() : null;
+	}
+
+	private int getMaxUnfinishedDynamicTasks() {
+		return this.request.getConfigurationParameters() //
+				.get(DynamicTestExecutor.MAX_UNFINISHED_PROPERTY_NAME, value -> {
+					int maxUnfinished = Integer.parseInt(value.strip());
+					Preconditions.condition(maxUnfinished > 0, "value must be a positive integer");
+					return maxUnfinished;
+				}) //
+				.orElse(Integer.MAX_VALUE);
+	}
+
+	private boolean isPruneFinishedDescriptorsEnabled() {
+		return this.request.getConfigurationParameters() //
+				.getBoolean(HierarchicalTestEngine.PRUNE_FINISHED_DESCRIPTORS_PROPERTY_NAME) //
+				.orElse(false);
+	}
+
+	private boolean isInterruptOnCancellationEnabled() {
+		return this.request.getConfigurationParameters() //
+				.getBoolean(HierarchicalTestEngine.INTERRUPT_ON_CANCELLATION_PROPERTY_NAME) //
+				.orElse(false);
+	}
+
+	private TestDurationHistory readDurationHistory() {
+		return TestDurationHistory.getFile(this.request.getConfigurationParameters()) //
+				.map(file -> {
+					try {
+						return TestDurationHistory.read(file);
+					}
+					catch (Exception ex) {
+						logger.warn(ex, () -> "Failed to read test duration history from " + file.toAbsolutePath());
+						return TestDurationHistory.empty();
+					}
+				}) //
+				.orElseGet(TestDurationHistory::empty);
 	}
 
 }
@@ -29,6 +29,7 @@ import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
  * @see HierarchicalTestEngine#createExecutorService(ExecutionRequest)
  * @see SameThreadHierarchicalTestExecutorService
  * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @see VirtualThreadHierarchicalTestExecutorService
  */
 @API(status = STABLE, since = "1.10")
 public interface HierarchicalTestExecutorService extends AutoCloseable {
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import org.junit.platform.commons.support.ReflectionSupport;
+
+/**
+ * Internal utility for Java Flight Recorder (JFR) support.
+ *
+ * <p>Event classes must only be loaded if {@link #isJfrAvailable()} returns
+ * {@code true}.
+ *
+ * @since 6.0
+ */
+final class JfrUtils {
+
+	static boolean isJfrAvailable() {
+		return System.getProperty("org.graalvm.nativeimage.imagecode") == null //
+				&& ReflectionSupport.tryToLoadClass("jdk.jfr.FlightRecorder").toOptional().isPresent();
+	}
+
+	private JfrUtils() {
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
@@ -20,34 +21,126 @@ import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.G
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.jspecify.annotations.Nullable;
+
 /**
+ * Creates and caches {@link ResourceLock ResourceLocks} for sets of
+ * {@link ExclusiveResource ExclusiveResources}.
+ *
+ * <p>Since resource locks are immutable, the same instance is returned for
+ * equal sets of resources. Thus, sorting and de-duplicating resources and
+ * creating the lock only happens once per distinct combination rather than
+ * once per node.
+ *
+ * <p>To look up the lock for a set of resources without hashing the whole
+ * set, each distinct resource is assigned an integer index when it is first
+ * encountered. The indexes of a set form a bit mask whose set bits are used
+ * to navigate a tree of {@link Combination Combinations}, one array access
+ * per resource. Sets containing resources beyond the first
+ * {@value #MAX_INDEXED_RESOURCES} distinct ones are looked up by equality
+ * instead.
+ *
  * @since 1.3
  */
 class LockManager {
 
+	static final int MAX_INDEXED_RESOURCES = Long.SIZE;
+
 	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
+	private final Map<ExclusiveResource, ResourceLock> locksByResource = new ConcurrentHashMap<>();
+	private final Map<Set<ExclusiveResource>, ResourceLock> locksByResources = new ConcurrentHashMap<>();
+	private final Map<ExclusiveResource, Integer> resourceIndexes = new ConcurrentHashMap<>();
+	private final AtomicInteger nextResourceIndex = new AtomicInteger();
+	private final Combination rootCombination = new Combination();
+	private final @Nullable ResourceLockMetrics metrics;
 	private final SingleLock globalReadLock;
 	private final SingleLock globalReadWriteLock;
 
 	LockManager() {
-		globalReadLock = new SingleLock(GLOBAL_READ, toLock(GLOBAL_READ));
-		globalReadWriteLock = new SingleLock(GLOBAL_READ_WRITE, toLock(GLOBAL_READ_WRITE));
+		this(null);
+	}
+
+	LockManager(@Nullable ResourceLockMetrics metrics) {
+		this.metrics = metrics;
+		globalReadLock = new SingleLock(GLOBAL_READ, toLock(GLOBAL_READ), metrics);
+		globalReadWriteLock = new SingleLock(GLOBAL_READ_WRITE, toLock(GLOBAL_READ_WRITE), metrics);
 	}
 
 	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
-		return toResourceLock(toDistinctSortedResources(resources));
+		return switch (resources.size()) {
+			case 0 -> NopLock.INSTANCE;
+			case 1 -> getLockForResource(getOnlyElement(resources));
+			default -> getLockForResources(
+				resources instanceof Set<ExclusiveResource> set ? set : new HashSet<>(resources));
+		};
+	}
+
+	private ResourceLock getLockForResources(Set<ExclusiveResource> resources) {
+		long indexes = toIndexes(resources);
+		if (indexes == 0) {
+			return getLockForUnindexedResources(resources);
+		}
+		Combination combination = rootCombination;
+		for (long remaining = indexes; remaining != 0; remaining &= remaining - 1) {
+			combination = combination.next(Long.numberOfTrailingZeros(remaining));
+		}
+		ResourceLock lock = combination.lock;
+		if (lock == null) {
+			synchronized (combination) {
+				lock = combination.lock;
+				if (lock == null) {
+					lock = toResourceLock(toDistinctSortedResources(resources));
+					combination.lock = lock;
+				}
+			}
+		}
+		return lock;
+	}
+
+	/**
+	 * {@return the bit mask of the indexes of the supplied resources or
+	 * {@code 0} if any of them has an index of at least
+	 * {@value #MAX_INDEXED_RESOURCES}}
+	 */
+	private long toIndexes(Set<ExclusiveResource> resources) {
+		long indexes = 0;
+		for (ExclusiveResource resource : resources) {
+			Integer index = resourceIndexes.get(resource);
+			if (index == null) {
+				index = resourceIndexes.computeIfAbsent(resource, __ -> nextResourceIndex.getAndIncrement());
+			}
+			if (index >= MAX_INDEXED_RESOURCES) {
+				return 0;
+			}
+			indexes |= 1L << index;
+		}
+		return indexes;
+	}
+
+	private ResourceLock getLockForUnindexedResources(Set<ExclusiveResource> resources) {
+		// Look up first to avoid copying the set if the lock is already cached
+		ResourceLock lock = locksByResources.get(resources);
+		if (lock != null) {
+			return lock;
+		}
+		return locksByResources.computeIfAbsent(Set.copyOf(resources),
+			key -> toResourceLock(toDistinctSortedResources(key)));
 	}
 
 	ResourceLock getLockForResource(ExclusiveResource resource) {
-		return toResourceLock(singletonList(resource));
+		return locksByResource.computeIfAbsent(resource, key -> toResourceLock(singletonList(key)));
 	}
 
 	private List<ExclusiveResource> toDistinctSortedResources(Collection<ExclusiveResource> resources) {
@@ -73,7 +166,7 @@ class LockManager {
 		return switch (resources.size()) {
 			case 0 -> NopLock.INSTANCE;
 			case 1 -> toSingleLock(getOnlyElement(resources));
-			default -> new CompositeLock(resources, toLocks(resources));
+			default -> new CompositeLock(resources, toLocks(resources), metrics);
 		};
 	}
 
@@ -84,7 +177,7 @@ class LockManager {
 		if (GLOBAL_READ_WRITE.equals(resource)) {
 			return globalReadWriteLock;
 		}
-		return new SingleLock(resource, toLock(resource));
+		return new SingleLock(resource, toLock(resource), metrics);
 	}
 
 	private List<Lock> toLocks(List<ExclusiveResource> resources) {
@@ -96,4 +189,25 @@ class LockManager {
 		return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
 	}
 
+	/**
+	 * Node of the tree of indexed resource combinations: the combination of
+	 * all resources whose indexes were used to navigate to it.
+	 */
+	private static final class Combination {
+
+		private final AtomicReferenceArray<@Nullable Combination> next = new AtomicReferenceArray<>(
+			MAX_INDEXED_RESOURCES);
+
+		private volatile @Nullable ResourceLock lock;
+
+		Combination next(int index) {
+			Combination existing = next.get(index);
+			if (existing != null) {
+				return existing;
+			}
+			Combination created = new Combination();
+			return next.compareAndSet(index, null, created) ? created : requireNonNull(next.get(index));
+		}
+	}
+
 }
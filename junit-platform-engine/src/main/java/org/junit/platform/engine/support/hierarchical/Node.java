@@ -11,6 +11,7 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Collections.emptySet;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -282,6 +283,27 @@ public interface Node<C extends EngineExecutionContext> {
 	 */
 	interface DynamicTestExecutor {
 
+		/**
+		 * Property name used to limit the number of dynamic test descriptors
+		 * submitted to a single {@code DynamicTestExecutor} that may be
+		 * unfinished at any time: {@value}
+		 *
+		 * <p>Once the limit is reached, {@link #execute(TestDescriptor)} and
+		 * {@link #execute(TestDescriptor, EngineExecutionListener)} block until
+		 * one of the previously submitted descriptors has finished. Nodes that
+		 * lazily produce a very large number of dynamic tests are thereby
+		 * throttled to the pace at which the tests are executed, allowing
+		 * finished tests and their execution contexts to be garbage collected
+		 * while the remaining ones are still being produced.
+		 *
+		 * <p>Value must be a positive integer; if not set, the number of
+		 * unfinished dynamic test descriptors is not limited.
+		 *
+		 * @since 6.0
+		 */
+		@API(status = EXPERIMENTAL, since = "6.0")
+		String MAX_UNFINISHED_PROPERTY_NAME = "junit.platform.execution.dynamicTests.maxUnfinished";
+
 		/**
 		 * Submit a dynamic test descriptor for immediate execution.
 		 *
@@ -10,9 +10,9 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
@@ -22,8 +22,9 @@ import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
  */
 class NodeExecutionAdvisor {
 
-	private final Map<TestDescriptor, ExecutionMode> forcedDescendantExecutionModeByTestDescriptor = new HashMap<>();
-	private final Map<TestDescriptor, ResourceLock> resourceLocksByTestDescriptor = new HashMap<>();
+	private final Map<TestDescriptor, ExecutionMode> forcedDescendantExecutionModeByTestDescriptor = //
+		new ConcurrentHashMap<>();
+	private final Map<TestDescriptor, ResourceLock> resourceLocksByTestDescriptor = new ConcurrentHashMap<>();
 
 	void forceDescendantExecutionMode(TestDescriptor testDescriptor, ExecutionMode executionMode) {
 		forcedDescendantExecutionModeByTestDescriptor.put(testDescriptor, executionMode);
@@ -37,6 +38,15 @@ class NodeExecutionAdvisor {
 		resourceLocksByTestDescriptor.remove(testDescriptor);
 	}
 
+	/**
+	 * Remove all entries for the supplied test descriptor so that it can be
+	 * garbage collected once it has been pruned from the tree.
+	 */
+	void remove(TestDescriptor testDescriptor) {
+		forcedDescendantExecutionModeByTestDescriptor.remove(testDescriptor);
+		resourceLocksByTestDescriptor.remove(testDescriptor);
+	}
+
 	Optional<ExecutionMode> getForcedExecutionMode(TestDescriptor testDescriptor) {
 		return testDescriptor.getParent().flatMap(this::lookupExecutionModeForcedByAncestor);
 	}
@@ -10,13 +10,16 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toCollection;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +54,9 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 	static final SkipResult CANCELLED_SKIP_RESULT = SkipResult.skip("Execution cancelled");
 
+	// Tasks without a recorded duration might be new and slow, so they are submitted first
+	private static final Duration UNKNOWN_DURATION = Duration.ofMillis(Long.MAX_VALUE);
+
 	private final NodeTestTaskContext taskContext;
 	private final TestDescriptor testDescriptor;
 	private final Node<C> node;
@@ -173,11 +179,11 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 					context = node.before(requiredContext());
 
 					final DynamicTestExecutor dynamicTestExecutor = new DefaultDynamicTestExecutor();
-					context = node.execute(requiredContext(), dynamicTestExecutor);
+					context = executeNode(dynamicTestExecutor);
 
 					if (!children.isEmpty()) {
 						children.forEach(child -> child.setParentContext(context));
-						taskContext.executorService().invokeAll(children);
+						taskContext.executorService().invokeAll(orderByExpectedDuration(children));
 					}
 
 					throwableCollector.execute(dynamicTestExecutor::awaitFinished);
@@ -188,6 +194,49 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		});
 	}
 
+	private C executeNode(DynamicTestExecutor dynamicTestExecutor) throws Exception {
+		TestThreadInterrupter testThreadInterrupter = taskContext.testThreadInterrupter();
+		if (testThreadInterrupter == null || !testDescriptor.isTest()) {
+			return node.execute(requiredContext(), dynamicTestExecutor);
+		}
+		Thread currentThread = Thread.currentThread();
+		testThreadInterrupter.register(currentThread);
+		try {
+			return node.execute(requiredContext(), dynamicTestExecutor);
+		}
+		finally {
+			if (testThreadInterrupter.unregister(currentThread)) {
+				// the thread was interrupted due to cancellation
+				Thread.interrupted();
+			}
+		}
+	}
+
+	/**
+	 * Reorder the concurrent tasks among the supplied children so that the
+	 * ones with the longest recorded duration are submitted first, while
+	 * leaving all other children at their original positions.
+	 */
+	private List<NodeTestTask<C>> orderByExpectedDuration(List<NodeTestTask<C>> children) {
+		TestDurationHistory durationHistory = taskContext.durationHistory();
+		if (durationHistory.isEmpty() || children.size() < 2) {
+			return children;
+		}
+		List<NodeTestTask<C>> concurrentChildren = children.stream() //
+				.filter(child -> child.getExecutionMode() == ExecutionMode.CONCURRENT) //
+				.sorted(comparing((NodeTestTask<C> child) -> durationHistory.getDuration(
+					child.testDescriptor.getUniqueId()).orElse(UNKNOWN_DURATION)).reversed()) //
+				.toList();
+		if (concurrentChildren.size() < 2) {
+			return children;
+		}
+		Iterator<NodeTestTask<C>> sortedConcurrentChildren = concurrentChildren.iterator();
+		return children.stream() //
+				.map(child -> child.getExecutionMode() == ExecutionMode.CONCURRENT ? sortedConcurrentChildren.next()
+						: child) //
+				.toList();
+	}
+
 	private void cleanUp() {
 		requiredThrowableCollector().execute(() -> node.cleanUp(requiredContext()));
 	}
@@ -207,6 +256,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 					() -> "Failed to invoke nodeSkipped() on Node %s".formatted(testDescriptor.getUniqueId()));
 			}
 			taskContext.listener().executionSkipped(testDescriptor, skipResult.getReason().orElse("<unknown>"));
+			pruneChildren();
 			return;
 		}
 		if (!started) {
@@ -223,6 +273,22 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		}
 		taskContext.listener().executionFinished(testDescriptor, throwableCollector.toTestExecutionResult());
 		this.throwableCollector = null;
+		pruneChildren();
+	}
+
+	/**
+	 * Remove all children from the test descriptor once its execution has
+	 * been reported and release the execution advisor's entries for its
+	 * subtree so that it can be garbage collected.
+	 *
+	 * @see HierarchicalTestEngine#PRUNE_FINISHED_DESCRIPTORS_PROPERTY_NAME
+	 */
+	private void pruneChildren() {
+		if (taskContext.pruneFinishedDescriptors()) {
+			testDescriptor.accept(taskContext.executionAdvisor()::remove);
+			List<TestDescriptor> children = new ArrayList<>(testDescriptor.getChildren());
+			children.forEach(testDescriptor::removeChild);
+		}
 	}
 
 	private C requiredContext() {
@@ -260,6 +326,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 				return completedFuture(null);
 			}
 			else {
+				awaitCapacity();
 				UniqueId uniqueId = testDescriptor.getUniqueId();
 				NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext.withListener(executionListener),
 					testDescriptor, () -> unfinishedTasks.remove(uniqueId));
@@ -271,20 +338,51 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			}
 		}
 
-		@Override
-		public void awaitFinished() throws InterruptedException {
-			for (DynamicTaskState state : unfinishedTasks.values()) {
-				try {
-					state.awaitFinished();
+		/**
+		 * Block until fewer than the configured maximum number of submitted
+		 * tasks are unfinished so that nodes producing a large number of
+		 * dynamic tests do not retain all of them at the same time.
+		 */
+		private void awaitCapacity() {
+			while (unfinishedTasks.size() >= taskContext.maxUnfinishedDynamicTasks()) {
+				Iterator<Map.Entry<UniqueId, DynamicTaskState>> iterator = unfinishedTasks.entrySet().iterator();
+				if (!iterator.hasNext()) {
+					return;
 				}
-				catch (CancellationException ignore) {
-					// Futures returned by execute() may have been cancelled
+				Map.Entry<UniqueId, DynamicTaskState> entry = iterator.next();
+				try {
+					if (!awaitFinished(entry.getValue())) {
+						// Cancelled tasks might never be executed and removed
+						unfinishedTasks.remove(entry.getKey(), entry.getValue());
+					}
 				}
-				catch (ExecutionException e) {
-					throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
 				}
 			}
 		}
+
+		@Override
+		public void awaitFinished() throws InterruptedException {
+			for (DynamicTaskState state : unfinishedTasks.values()) {
+				awaitFinished(state);
+			}
+		}
+
+		private static boolean awaitFinished(DynamicTaskState state) throws InterruptedException {
+			try {
+				state.awaitFinished();
+				return true;
+			}
+			catch (CancellationException ignore) {
+				// Futures returned by execute() may have been cancelled
+				return false;
+			}
+			catch (ExecutionException e) {
+				throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
+			}
+		}
 	}
 
 	@FunctionalInterface
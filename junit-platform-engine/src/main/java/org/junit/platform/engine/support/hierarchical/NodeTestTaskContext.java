@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.EngineExecutionListener;
 
@@ -18,14 +19,17 @@ import org.junit.platform.engine.EngineExecutionListener;
  */
 record NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
 		ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor,
-		CancellationToken cancellationToken) {
+		CancellationToken cancellationToken, TestDurationHistory durationHistory,
+		int maxUnfinishedDynamicTasks, boolean pruneFinishedDescriptors,
+		@Nullable TestThreadInterrupter testThreadInterrupter) {
 
 	NodeTestTaskContext withListener(EngineExecutionListener listener) {
 		if (this.listener == listener) {
 			return this;
 		}
 		return new NodeTestTaskContext(listener, executorService, throwableCollectorFactory, executionAdvisor,
-			cancellationToken);
+			cancellationToken, durationHistory, maxUnfinishedDynamicTasks, pruneFinishedDescriptors,
+			testThreadInterrupter);
 	}
 
 }
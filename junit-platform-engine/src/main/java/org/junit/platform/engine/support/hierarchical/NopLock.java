@@ -38,6 +38,11 @@ class NopLock implements ResourceLock {
 		return this;
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		return true;
+	}
+
 	@Override
 	public void release() {
 		// nothing to do
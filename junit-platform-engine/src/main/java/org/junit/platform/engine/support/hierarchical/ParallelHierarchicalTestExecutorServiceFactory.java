@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Locale;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * Factory for {@link HierarchicalTestExecutorService} instances that support
+ * parallel test execution.
+ *
+ * <p>The kind of executor service is selected via the
+ * {@value #CONFIG_EXECUTOR_PROPERTY_NAME} configuration parameter. Engines
+ * typically pass {@linkplain
+ * org.junit.platform.engine.support.config.PrefixedConfigurationParameters
+ * prefixed} configuration parameters so that this property is resolved
+ * relative to their own parallel execution configuration namespace.
+ *
+ * @since 6.0
+ * @see ExecutorType
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class ParallelHierarchicalTestExecutorServiceFactory {
+
+	/**
+	 * Property name used to determine the desired
+	 * {@linkplain ExecutorType executor type}.
+	 *
+	 * <p>Value must be one of {@code fork_join_pool} or
+	 * {@code virtual_threads}; defaults to {@code fork_join_pool}.
+	 */
+	public static final String CONFIG_EXECUTOR_PROPERTY_NAME = "executor";
+
+	private ParallelHierarchicalTestExecutorServiceFactory() {
+		/* no-op */
+	}
+
+	/**
+	 * Create a new {@link HierarchicalTestExecutorService} based on the
+	 * supplied {@link ConfigurationParameters}.
+	 *
+	 * @param configurationParameters the configuration parameters to use;
+	 * never {@code null}
+	 * @return the new executor service; never {@code null}
+	 */
+	public static HierarchicalTestExecutorService create(ConfigurationParameters configurationParameters) {
+		return getExecutorType(configurationParameters).createExecutorService(configurationParameters);
+	}
+
+	static ExecutorType getExecutorType(ConfigurationParameters configurationParameters) {
+		String value = configurationParameters.get(CONFIG_EXECUTOR_PROPERTY_NAME).orElse("fork_join_pool");
+		try {
+			return ExecutorType.valueOf(value.strip().toUpperCase(Locale.ROOT));
+		}
+		catch (IllegalArgumentException cause) {
+			throw new JUnitException("Invalid value '%s' for configuration parameter '%s'".formatted(value,
+				CONFIG_EXECUTOR_PROPERTY_NAME), cause);
+		}
+	}
+
+	/**
+	 * Supported kinds of parallel executor services.
+	 */
+	public enum ExecutorType {
+
+		/**
+		 * Uses a {@link ForkJoinPoolHierarchicalTestExecutorService} whose
+		 * parallelism is determined by a
+		 * {@link ParallelExecutionConfigurationStrategy}.
+		 */
+		FORK_JOIN_POOL {
+			@Override
+			HierarchicalTestExecutorService createExecutorService(ConfigurationParameters configurationParameters) {
+				return new ForkJoinPoolHierarchicalTestExecutorService(configurationParameters);
+			}
+		},
+
+		/**
+		 * Uses a {@link VirtualThreadHierarchicalTestExecutorService} that runs
+		 * every concurrent task on its own virtual thread.
+		 *
+		 * <p>Requires Java 21 or later.
+		 */
+		VIRTUAL_THREADS {
+			@Override
+			HierarchicalTestExecutorService createExecutorService(ConfigurationParameters configurationParameters) {
+				return new VirtualThreadHierarchicalTestExecutorService();
+			}
+		};
+
+		abstract HierarchicalTestExecutorService createExecutorService(
+				ConfigurationParameters configurationParameters);
+
+	}
+
+}
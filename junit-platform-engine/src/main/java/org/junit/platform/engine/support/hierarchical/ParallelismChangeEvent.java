@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for a parallelism change made by
+ * {@link AdaptiveParallelismController}.
+ *
+ * <p>This class must only be loaded if JFR is available.
+ *
+ * @since 6.0
+ */
+@Category({ "JUnit", "Execution" })
+@Label("Parallelism Change")
+@Name("org.junit.ParallelismChange")
+@StackTrace(false)
+class ParallelismChangeEvent extends Event {
+
+	@Label("Previous Parallelism")
+	int previousParallelism;
+
+	@Label("New Parallelism")
+	int newParallelism;
+
+	@Label("CPU Utilization")
+	@Percentage
+	double cpuUtilization;
+
+	@Label("Blocked Workers")
+	int blockedWorkers;
+
+	static void commit(int previousParallelism, int newParallelism, double cpuUtilization, int blockedWorkers) {
+		var event = new ParallelismChangeEvent();
+		if (event.shouldCommit()) {
+			event.previousParallelism = previousParallelism;
+			event.newParallelism = newParallelism;
+			event.cpuUtilization = cpuUtilization;
+			event.blockedWorkers = blockedWorkers;
+			event.commit();
+		}
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
@@ -26,6 +27,30 @@ import org.apiguardian.api.API;
 @API(status = STABLE, since = "1.10")
 public interface ResourceLock extends AutoCloseable {
 
+	/**
+	 * Property name used to enable the collection of contention metrics for
+	 * the resource locks of {@link HierarchicalTestEngine
+	 * HierarchicalTestEngines}: {@value}
+	 *
+	 * <p>When enabled, the number of acquisitions, the time spent waiting for
+	 * and holding locks, and the number of deferred or parked tasks are
+	 * recorded for each {@linkplain ExclusiveResource#getKey() resource key}.
+	 * The wait time includes the time tasks spent parked until they acquired
+	 * their lock.
+	 * Once all tests of an engine have been executed, the metrics are published
+	 * as a {@link org.junit.platform.engine.reporting.ReportEntry ReportEntry}
+	 * for the engine descriptor, using one {@code resourceLock.<key>} entry per
+	 * resource key, and recorded as {@code org.junit.ResourceLockContention}
+	 * Java Flight Recorder events if JFR is available.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	String METRICS_ENABLED_PROPERTY_NAME = "junit.platform.execution.resourceLocks.metrics.enabled";
+
 	/**
 	 * Acquire this resource lock, potentially blocking.
 	 *
@@ -36,6 +61,30 @@ public interface ResourceLock extends AutoCloseable {
 	 */
 	ResourceLock acquire() throws InterruptedException;
 
+	/**
+	 * Try to acquire this resource lock without waiting for other holders to
+	 * release it.
+	 *
+	 * <p>The default implementation delegates to {@link #acquire()} and,
+	 * therefore, blocks until this lock is available and never returns
+	 * {@code false}. Consequently, when
+	 * {@linkplain ForkJoinPoolHierarchicalTestExecutorService#CONFIG_PARK_BLOCKED_TASKS_PROPERTY_NAME
+	 * parking of blocked tasks} is enabled, tasks using a lock that does not
+	 * override this method block their worker thread instead of being parked.
+	 * All locks created by {@link HierarchicalTestEngine HierarchicalTestEngines}
+	 * override this method and never block.
+	 *
+	 * @return {@code true} if this lock was acquired; {@code false} otherwise
+	 * @throws InterruptedException if the calling thread is interrupted
+	 * while waiting to acquire this lock
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default boolean tryAcquire() throws InterruptedException {
+		acquire();
+		return true;
+	}
+
 	/**
 	 * Release this resource lock.
 	 */
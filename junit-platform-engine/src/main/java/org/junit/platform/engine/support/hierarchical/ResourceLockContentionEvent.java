@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Java Flight Recorder event for the contention of a single
+ * {@linkplain ExclusiveResource#getKey() resource key} recorded by
+ * {@link ResourceLockMetrics}.
+ *
+ * <p>This class must only be loaded if JFR is available.
+ *
+ * @since 6.0
+ */
+@Category({ "JUnit", "Execution" })
+@Label("Resource Lock Contention")
+@Name("org.junit.ResourceLockContention")
+@StackTrace(false)
+class ResourceLockContentionEvent extends Event {
+
+	@Label("Resource Key")
+	@Nullable
+	String key;
+
+	@Label("Acquisitions")
+	long acquisitions;
+
+	@Label("Wait Time")
+	@Timespan
+	long waitTime;
+
+	@Label("Max Wait Time")
+	@Timespan
+	long maxWaitTime;
+
+	@Label("Hold Time")
+	@Timespan
+	long holdTime;
+
+	@Label("Deferrals")
+	long deferrals;
+
+	static void commit(String key, ResourceLockMetrics.Snapshot snapshot) {
+		var event = new ResourceLockContentionEvent();
+		if (event.shouldCommit()) {
+			event.key = key;
+			event.acquisitions = snapshot.acquisitions();
+			event.waitTime = snapshot.waitTime().toNanos();
+			event.maxWaitTime = snapshot.maxWaitTime().toNanos();
+			event.holdTime = snapshot.holdTime().toNanos();
+			event.deferrals = snapshot.deferrals();
+			event.commit();
+		}
+	}
+
+}
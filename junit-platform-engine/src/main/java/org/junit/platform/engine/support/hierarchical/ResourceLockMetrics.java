@@ -0,0 +1,256 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * Contention metrics of {@link ResourceLock ResourceLocks}, collected per
+ * {@linkplain ExclusiveResource#getKey() resource key}.
+ *
+ * <p>For each key, the number of acquisitions, the time tasks spent waiting
+ * to acquire a lock for it, the time they held it, and the number of times a
+ * task was deferred or parked because of it are recorded.
+ *
+ * <p>Hold times are measured per thread since resource locks are always
+ * released by the thread that acquired them and nested locks are released in
+ * reverse order of their acquisition. Locks that are still held when the
+ * metrics are reported, most notably the global read-write lock of the root
+ * descriptor, contribute the time they have been held so far.
+ *
+ * @since 6.0
+ * @see ResourceLock#METRICS_ENABLED_PROPERTY_NAME
+ */
+class ResourceLockMetrics {
+
+	static final String REPORT_ENTRY_KEY_PREFIX = "resourceLock.";
+
+	private final Map<String, ResourceMetrics> metricsByKey = new ConcurrentHashMap<>();
+	private final ThreadLocal<Deque<HeldLock>> heldLocks = ThreadLocal.withInitial(ArrayDeque::new);
+
+	static void recordDeferred(ResourceLock resourceLock) {
+		if (resourceLock instanceof MeasuredResourceLock measuredLock) {
+			ResourceLockMetrics metrics = measuredLock.getMetrics();
+			if (metrics != null) {
+				metrics.recordDeferred(resourceLock.getResources());
+			}
+		}
+	}
+
+	/**
+	 * Try to acquire the supplied lock without blocking and, if it records
+	 * metrics, report the time since the supplied start time as time spent
+	 * waiting for it, for example, while its task was parked.
+	 */
+	static boolean tryAcquire(ResourceLock resourceLock, long waitStartNanos) throws InterruptedException {
+		if (resourceLock instanceof MeasuredResourceLock measuredLock) {
+			return measuredLock.tryAcquire(waitStartNanos);
+		}
+		return resourceLock.tryAcquire();
+	}
+
+	void recordAcquired(List<ExclusiveResource> resources, long waitStartNanos) {
+		long now = System.nanoTime();
+		long waitNanos = now - waitStartNanos;
+		for (ExclusiveResource resource : resources) {
+			getMetrics(resource).recordAcquired(waitNanos);
+		}
+		this.heldLocks.get().push(new HeldLock(resources, now));
+	}
+
+	void recordReleased() {
+		HeldLock heldLock = this.heldLocks.get().poll();
+		if (heldLock != null) {
+			heldLock.recordHoldTime(System.nanoTime());
+		}
+	}
+
+	/**
+	 * Record the time the locks held by the current thread have been held so
+	 * far; the remainder is recorded once they are released.
+	 */
+	void recordHoldTimesOfHeldLocks() {
+		long now = System.nanoTime();
+		this.heldLocks.get().forEach(heldLock -> heldLock.recordHoldTime(now));
+	}
+
+	void recordDeferred(List<ExclusiveResource> resources) {
+		for (ExclusiveResource resource : resources) {
+			getMetrics(resource).deferrals.increment();
+		}
+	}
+
+	private ResourceMetrics getMetrics(ExclusiveResource resource) {
+		return this.metricsByKey.computeIfAbsent(resource.getKey(), __ -> new ResourceMetrics());
+	}
+
+	Map<String, Snapshot> getSnapshots() {
+		Map<String, Snapshot> snapshots = new TreeMap<>();
+		this.metricsByKey.forEach((key, metrics) -> snapshots.put(key, metrics.toSnapshot()));
+		return snapshots;
+	}
+
+	Optional<ReportEntry> toReportEntry() {
+		Map<String, Snapshot> snapshots = getSnapshots();
+		if (snapshots.isEmpty()) {
+			return Optional.empty();
+		}
+		Map<String, String> keyValuePairs = new LinkedHashMap<>();
+		snapshots.forEach((key, snapshot) -> keyValuePairs.put(REPORT_ENTRY_KEY_PREFIX + key, snapshot.toString()));
+		return Optional.of(ReportEntry.from(keyValuePairs));
+	}
+
+	/**
+	 * Create an {@link EngineExecutionListener} that publishes the collected
+	 * metrics as a {@link ReportEntry} for the supplied root descriptor right
+	 * before its execution is reported as finished and also records them as
+	 * Java Flight Recorder events, if available.
+	 */
+	EngineExecutionListener reportingListener(EngineExecutionListener delegate, TestDescriptor rootDescriptor) {
+		return new ReportingListener(delegate, rootDescriptor);
+	}
+
+	private void report(EngineExecutionListener listener, TestDescriptor rootDescriptor) {
+		recordHoldTimesOfHeldLocks();
+		toReportEntry().ifPresent(entry -> listener.reportingEntryPublished(rootDescriptor, entry));
+		if (JfrUtils.isJfrAvailable()) {
+			getSnapshots().forEach(ResourceLockContentionEvent::commit);
+		}
+	}
+
+	/**
+	 * A {@link ResourceLock} that records {@link ResourceLockMetrics}.
+	 */
+	interface MeasuredResourceLock extends ResourceLock {
+
+		@Nullable
+		ResourceLockMetrics getMetrics();
+
+		/**
+		 * Try to acquire this lock without blocking, recording the time since
+		 * the supplied start time as wait time if it was acquired.
+		 *
+		 * @see #tryAcquire()
+		 */
+		boolean tryAcquire(long waitStartNanos);
+
+	}
+
+	record Snapshot(long acquisitions, Duration waitTime, Duration maxWaitTime, Duration holdTime, long deferrals) {
+
+		@Override
+		public String toString() {
+			return "acquisitions=%d, waitTime=%s, maxWaitTime=%s, holdTime=%s, deferrals=%d".formatted(acquisitions,
+				waitTime, maxWaitTime, holdTime, deferrals);
+		}
+	}
+
+	private static class ResourceMetrics {
+
+		private final LongAdder acquisitions = new LongAdder();
+		private final LongAdder waitNanos = new LongAdder();
+		private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+		private final LongAdder holdNanos = new LongAdder();
+		private final LongAdder deferrals = new LongAdder();
+
+		void recordAcquired(long waitNanos) {
+			this.acquisitions.increment();
+			this.waitNanos.add(waitNanos);
+			this.maxWaitNanos.accumulate(waitNanos);
+		}
+
+		Snapshot toSnapshot() {
+			return new Snapshot(acquisitions.sum(), Duration.ofNanos(waitNanos.sum()),
+				Duration.ofNanos(maxWaitNanos.get()), Duration.ofNanos(holdNanos.sum()), deferrals.sum());
+		}
+	}
+
+	private class HeldLock {
+
+		private final List<ExclusiveResource> resources;
+		private long since;
+
+		HeldLock(List<ExclusiveResource> resources, long acquisitionTime) {
+			this.resources = resources;
+			this.since = acquisitionTime;
+		}
+
+		void recordHoldTime(long now) {
+			long holdNanos = now - this.since;
+			for (ExclusiveResource resource : this.resources) {
+				getMetrics(resource).holdNanos.add(holdNanos);
+			}
+			this.since = now;
+		}
+	}
+
+	private class ReportingListener implements EngineExecutionListener {
+
+		private final EngineExecutionListener delegate;
+		private final TestDescriptor rootDescriptor;
+
+		ReportingListener(EngineExecutionListener delegate, TestDescriptor rootDescriptor) {
+			this.delegate = delegate;
+			this.rootDescriptor = rootDescriptor;
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+			delegate.dynamicTestRegistered(testDescriptor);
+		}
+
+		@Override
+		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+			delegate.executionSkipped(testDescriptor, reason);
+		}
+
+		@Override
+		public void executionStarted(TestDescriptor testDescriptor) {
+			delegate.executionStarted(testDescriptor);
+		}
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+			if (testDescriptor == rootDescriptor) {
+				report(delegate, rootDescriptor);
+			}
+			delegate.executionFinished(testDescriptor, testExecutionResult);
+		}
+
+		@Override
+		public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+			delegate.reportingEntryPublished(testDescriptor, entry);
+		}
+
+		@Override
+		public void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
+			delegate.fileEntryPublished(testDescriptor, file);
+		}
+	}
+
+}
@@ -17,19 +17,26 @@ import java.util.List;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.util.ToStringBuilder;
 
 /**
  * @since 1.3
  */
-class SingleLock implements ResourceLock {
+class SingleLock implements ResourceLockMetrics.MeasuredResourceLock {
 
 	private final List<ExclusiveResource> resources;
 	private final Lock lock;
+	private final @Nullable ResourceLockMetrics metrics;
 
 	SingleLock(ExclusiveResource resource, Lock lock) {
+		this(resource, lock, null);
+	}
+
+	SingleLock(ExclusiveResource resource, Lock lock, @Nullable ResourceLockMetrics metrics) {
 		this.resources = singletonList(resource);
 		this.lock = lock;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -42,14 +49,40 @@ class SingleLock implements ResourceLock {
 		return this.lock;
 	}
 
+	@Override
+	public @Nullable ResourceLockMetrics getMetrics() {
+		return this.metrics;
+	}
+
 	@Override
 	public ResourceLock acquire() throws InterruptedException {
+		long startTime = System.nanoTime();
 		ForkJoinPool.managedBlock(new SingleLockManagedBlocker());
+		if (this.metrics != null) {
+			this.metrics.recordAcquired(this.resources, startTime);
+		}
 		return this;
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		return tryAcquire(System.nanoTime());
+	}
+
+	@Override
+	public boolean tryAcquire(long waitStartNanos) {
+		boolean acquired = this.lock.tryLock();
+		if (acquired && this.metrics != null) {
+			this.metrics.recordAcquired(this.resources, waitStartNanos);
+		}
+		return acquired;
+	}
+
 	@Override
 	public void release() {
+		if (this.metrics != null) {
+			this.metrics.recordReleased();
+		}
 		this.lock.unlock();
 	}
 
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Durations of previously executed tests and containers, keyed by their
+ * {@link UniqueId}.
+ *
+ * <p>The history is stored in a local file whose path is configured via the
+ * {@value #FILE_PROPERTY_NAME} configuration parameter. Each line of the
+ * UTF-8 encoded file consists of a duration in milliseconds, a tab
+ * character, and the string representation of a unique ID. Durations are
+ * stored in the order they were recorded, least recently recorded first, so
+ * that stale ones can be discarded once the history exceeds the size
+ * configured via the {@value #MAX_ENTRIES_PROPERTY_NAME} configuration
+ * parameter.
+ *
+ * <p>When the configuration parameter is set, the launcher records the
+ * durations of all finished tests and containers in the file after each test
+ * run, and {@link HierarchicalTestEngine HierarchicalTestEngines} use it to
+ * submit sibling {@linkplain Node.ExecutionMode#CONCURRENT concurrent} nodes
+ * longest first. Nodes without a recorded duration are submitted before all
+ * others since they might be new and slow.
+ *
+ * <p>Concurrent reads are safe, but recording durations while the history
+ * is being read or written by other threads is not.
+ *
+ * @since 6.0
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class TestDurationHistory {
+
+	/**
+	 * Property name used to set the path of the file that stores the duration
+	 * history: {@value}
+	 *
+	 * <p>No default value; if not set, durations are neither recorded nor
+	 * used to order concurrently executed nodes.
+	 */
+	public static final String FILE_PROPERTY_NAME = "junit.platform.execution.duration.history.file";
+
+	/**
+	 * Property name used to set the maximum number of durations that are
+	 * retained in the history file: {@value}
+	 *
+	 * <p>When the history is written after a test run, the durations that
+	 * were recorded least recently, e.g. of tests that have been removed, are
+	 * discarded until at most this many remain.
+	 *
+	 * <p>Defaults to {@value #DEFAULT_MAX_ENTRIES}.
+	 */
+	public static final String MAX_ENTRIES_PROPERTY_NAME = "junit.platform.execution.duration.history.maxEntries";
+
+	/**
+	 * Default maximum number of durations that are retained in the history
+	 * file: {@value}
+	 *
+	 * @see #MAX_ENTRIES_PROPERTY_NAME
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+	private static final char SEPARATOR = '\t';
+
+	private final Map<String, Long> durationsInMillis;
+
+	private TestDurationHistory(Map<String, Long> durationsInMillis) {
+		this.durationsInMillis = durationsInMillis;
+	}
+
+	/**
+	 * Create an empty {@code TestDurationHistory}.
+	 *
+	 * @return a new, empty history; never {@code null}
+	 */
+	public static TestDurationHistory empty() {
+		return new TestDurationHistory(new LinkedHashMap<>());
+	}
+
+	/**
+	 * Get the path of the history file configured via the
+	 * {@value #FILE_PROPERTY_NAME} configuration parameter, if any.
+	 *
+	 * @param configurationParameters the configuration parameters to use;
+	 * never {@code null}
+	 * @return an {@code Optional} containing the path; never {@code null} but
+	 * potentially empty
+	 */
+	public static Optional<Path> getFile(ConfigurationParameters configurationParameters) {
+		return configurationParameters.get(FILE_PROPERTY_NAME) //
+				.map(String::strip) //
+				.filter(path -> !path.isEmpty()) //
+				.map(Path::of);
+	}
+
+	/**
+	 * Get the maximum number of durations to retain configured via the
+	 * {@value #MAX_ENTRIES_PROPERTY_NAME} configuration parameter or
+	 * {@value #DEFAULT_MAX_ENTRIES} if it is not set.
+	 *
+	 * @param configurationParameters the configuration parameters to use;
+	 * never {@code null}
+	 * @return the maximum number of durations; always positive
+	 */
+	public static int getMaxEntries(ConfigurationParameters configurationParameters) {
+		return configurationParameters.get(MAX_ENTRIES_PROPERTY_NAME, value -> {
+			int result = Integer.parseInt(value.strip());
+			Preconditions.condition(result > 0, "value must be positive");
+			return result;
+		}).orElse(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Read the history stored in the supplied file.
+	 *
+	 * <p>If the file does not exist, an empty history is returned. Malformed
+	 * lines are ignored.
+	 *
+	 * @param file the file to read; never {@code null}
+	 * @return the history; never {@code null}
+	 * @throws IOException if the file exists but cannot be read
+	 */
+	public static TestDurationHistory read(Path file) throws IOException {
+		Preconditions.notNull(file, "file must not be null");
+		TestDurationHistory history = empty();
+		if (!Files.exists(file)) {
+			return history;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int separatorIndex = line.indexOf(SEPARATOR);
+				if (separatorIndex > 0 && separatorIndex < line.length() - 1) {
+					try {
+						long millis = Long.parseLong(line, 0, separatorIndex, 10);
+						history.durationsInMillis.put(line.substring(separatorIndex + 1), millis);
+					}
+					catch (NumberFormatException ignored) {
+						// skip malformed line
+					}
+				}
+			}
+		}
+		return history;
+	}
+
+	/**
+	 * Get the recorded duration of the test or container with the supplied
+	 * unique ID.
+	 *
+	 * @param uniqueId the unique ID to look up; never {@code null}
+	 * @return an {@code Optional} containing the recorded duration; never
+	 * {@code null} but potentially empty
+	 */
+	public Optional<Duration> getDuration(UniqueId uniqueId) {
+		return Optional.ofNullable(this.durationsInMillis.get(uniqueId.toString())).map(Duration::ofMillis);
+	}
+
+	/**
+	 * Record the duration of the test or container with the supplied unique
+	 * ID, replacing any previously recorded duration.
+	 *
+	 * <p>The duration becomes the most recently recorded one.
+	 *
+	 * @param uniqueId the unique ID of the test or container; never
+	 * {@code null}
+	 * @param duration the duration to record; never {@code null} or
+	 * negative
+	 */
+	public void record(UniqueId uniqueId, Duration duration) {
+		Preconditions.notNull(uniqueId, "uniqueId must not be null");
+		Preconditions.notNull(duration, "duration must not be null");
+		Preconditions.condition(!duration.isNegative(), "duration must not be negative");
+		String key = uniqueId.toString();
+		this.durationsInMillis.remove(key);
+		this.durationsInMillis.put(key, duration.toMillis());
+	}
+
+	/**
+	 * Remove the least recently recorded durations until at most the
+	 * supplied number of durations remain.
+	 *
+	 * @param maxEntries the maximum number of durations to retain; must not
+	 * be negative
+	 */
+	public void retainMostRecent(int maxEntries) {
+		Preconditions.condition(maxEntries >= 0, "maxEntries must not be negative");
+		Iterator<String> iterator = this.durationsInMillis.keySet().iterator();
+		for (int excess = this.durationsInMillis.size() - maxEntries; excess > 0; excess--) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * {@return whether this history does not contain any durations}
+	 */
+	public boolean isEmpty() {
+		return this.durationsInMillis.isEmpty();
+	}
+
+	/**
+	 * Write this history to the supplied file, replacing its contents.
+	 *
+	 * <p>The history is first written to a temporary file in the same
+	 * directory which is then moved to the target file so that concurrent
+	 * readers never observe a partially written file.
+	 *
+	 * @param file the file to write; never {@code null}
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(Path file) throws IOException {
+		Preconditions.notNull(file, "file must not be null");
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+				for (Map.Entry<String, Long> entry : this.durationsInMillis.entrySet()) {
+					writer.write(Long.toString(entry.getValue()));
+					writer.write(SEPARATOR);
+					writer.write(entry.getKey());
+					writer.newLine();
+				}
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+}
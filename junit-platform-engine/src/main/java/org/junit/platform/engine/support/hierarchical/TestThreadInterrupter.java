@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps track of the threads that are currently executing tests so they can
+ * be interrupted when cancellation is requested.
+ *
+ * <p>Threads are only interrupted while they are registered. Once
+ * {@link #interruptAll()} has been called, threads are interrupted as soon as
+ * they are registered. A thread may be registered multiple times, e.g. when
+ * a test executes dynamic tests in the same thread, and remains registered
+ * until it has been unregistered as often.
+ *
+ * @since 6.0
+ * @see HierarchicalTestEngine#INTERRUPT_ON_CANCELLATION_PROPERTY_NAME
+ */
+class TestThreadInterrupter {
+
+	private final Map<Thread, Integer> registrations = new HashMap<>();
+
+	private final Set<Thread> interruptedThreads = new HashSet<>();
+
+	private boolean interrupted;
+
+	synchronized void register(Thread thread) {
+		this.registrations.merge(thread, 1, Integer::sum);
+		if (this.interrupted) {
+			interrupt(thread);
+		}
+	}
+
+	/**
+	 * Unregister the supplied thread.
+	 *
+	 * @return whether this interrupter interrupted the thread while it was
+	 * registered and the thread is no longer registered
+	 */
+	synchronized boolean unregister(Thread thread) {
+		Integer count = this.registrations.get(thread);
+		if (count == null) {
+			return false;
+		}
+		if (count > 1) {
+			this.registrations.put(thread, count - 1);
+			return false;
+		}
+		this.registrations.remove(thread);
+		return this.interruptedThreads.remove(thread);
+	}
+
+	synchronized void interruptAll() {
+		this.interrupted = true;
+		this.registrations.keySet().forEach(this::interrupt);
+	}
+
+	private void interrupt(Thread thread) {
+		this.interruptedThreads.add(thread);
+		thread.interrupt();
+	}
+
+}
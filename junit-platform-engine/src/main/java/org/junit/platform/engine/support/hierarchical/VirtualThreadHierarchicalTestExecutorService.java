@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Objects.requireNonNullElse;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+
+/**
+ * A {@linkplain HierarchicalTestExecutorService executor service} that
+ * executes each {@linkplain Node.ExecutionMode#CONCURRENT concurrent}
+ * {@linkplain TestTask test task} on its own virtual thread.
+ *
+ * <p>In contrast to {@link ForkJoinPoolHierarchicalTestExecutorService}, the
+ * number of concurrently executing tasks is not capped by a configured
+ * parallelism. This makes this service a good fit for test suites that spend
+ * most of their time waiting for I/O. Exclusive resources are still honored
+ * by acquiring each task's {@linkplain TestTask#getResourceLock() resource
+ * lock} on the thread that executes it.
+ *
+ * <p>Virtual threads require Java 21 or later. Instantiating this service on
+ * an older runtime results in a {@link JUnitException}.
+ *
+ * @since 6.0
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @see ParallelHierarchicalTestExecutorServiceFactory
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class VirtualThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	private final ThreadFactory threadFactory;
+	private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+	private final Set<Thread> activeThreads = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Create a new {@code VirtualThreadHierarchicalTestExecutorService}.
+	 *
+	 * @throws JUnitException if virtual threads are not supported by the
+	 * current runtime
+	 */
+	public VirtualThreadHierarchicalTestExecutorService() {
+		this(createVirtualThreadFactory());
+		LoggerFactory.getLogger(getClass()).config(() -> "Using virtual threads for concurrent test execution");
+	}
+
+	// package-private for testing
+	VirtualThreadHierarchicalTestExecutorService(ThreadFactory threadFactory) {
+		this.threadFactory = threadFactory;
+	}
+
+	private static ThreadFactory createVirtualThreadFactory() {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "junit-virtual-", 0L);
+			return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+		}
+		catch (Exception cause) {
+			throw new JUnitException("Virtual threads are not supported by the current runtime; Java 21 or later "
+					+ "is required to use " + VirtualThreadHierarchicalTestExecutorService.class.getSimpleName(),
+				cause);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("NullAway")
+	public Future<@Nullable Void> submit(TestTask testTask) {
+		if (testTask.getExecutionMode() == SAME_THREAD) {
+			executeWithLock(testTask);
+			return completedFuture(null);
+		}
+		return fork(testTask);
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> tasks) {
+		if (tasks.size() == 1) {
+			executeWithLock(tasks.get(0));
+			return;
+		}
+		List<TestTask> isolatedTasks = new ArrayList<>();
+		List<TestTask> sameThreadTasks = new ArrayList<>();
+		List<CompletableFuture<@Nullable Void>> concurrentTasks = new ArrayList<>();
+		for (TestTask testTask : tasks) {
+			if (requiresGlobalReadWriteLock(testTask)) {
+				isolatedTasks.add(testTask);
+			}
+			else if (testTask.getExecutionMode() == SAME_THREAD) {
+				sameThreadTasks.add(testTask);
+			}
+			else {
+				concurrentTasks.add(fork(testTask));
+			}
+		}
+		sameThreadTasks.forEach(this::executeWithLock);
+		concurrentTasks.forEach(VirtualThreadHierarchicalTestExecutorService::join);
+		isolatedTasks.forEach(this::executeWithLock);
+	}
+
+	private static boolean requiresGlobalReadWriteLock(TestTask testTask) {
+		return testTask.getResourceLock().getResources().contains(GLOBAL_READ_WRITE);
+	}
+
+	private CompletableFuture<@Nullable Void> fork(TestTask testTask) {
+		CompletableFuture<@Nullable Void> future = new CompletableFuture<>();
+		Thread thread = threadFactory.newThread(() -> {
+			Thread currentThread = Thread.currentThread();
+			currentThread.setContextClassLoader(contextClassLoader);
+			try {
+				executeWithLock(testTask);
+				future.complete(null);
+			}
+			catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+			finally {
+				activeThreads.remove(currentThread);
+			}
+		});
+		activeThreads.add(thread);
+		thread.start();
+		return future;
+	}
+
+	@SuppressWarnings("try")
+	private void executeWithLock(TestTask testTask) {
+		try (ResourceLock ignored = testTask.getResourceLock().acquire()) {
+			testTask.execute();
+		}
+		catch (InterruptedException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	private static void join(CompletableFuture<@Nullable Void> future) {
+		try {
+			future.join();
+		}
+		catch (CompletionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
+		}
+	}
+
+	@Override
+	public void close() {
+		activeThreads.forEach(Thread::interrupt);
+		activeThreads.clear();
+	}
+
+}
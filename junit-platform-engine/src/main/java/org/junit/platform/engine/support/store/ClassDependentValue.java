@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.store;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Set;
+
+import org.apiguardian.api.API;
+
+/**
+ * A {@code ClassDependentValue} is a value stored in a
+ * {@link NamespacedHierarchicalStore} that was derived from classes, for
+ * example, the results of scanning the classpath.
+ *
+ * <p>Long-lived hosts that reuse a launcher session across changes to the
+ * classes under test notify the session of changed classes which, in turn,
+ * removes all values affected by them from its store. Values that don't
+ * implement this interface are retained.
+ *
+ * @since 6.0
+ * @see NamespacedHierarchicalStore#removeIf(java.util.function.Predicate)
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public interface ClassDependentValue {
+
+	/**
+	 * Determine whether this value is affected by changes to the classes with
+	 * the supplied names, including their addition or removal.
+	 *
+	 * @param changedClassNames the fully qualified names of the changed
+	 * classes; never {@code null}
+	 * @return {@code true} if this value must no longer be used
+	 */
+	boolean isAffectedBy(Set<String> changedClassNames);
+
+}
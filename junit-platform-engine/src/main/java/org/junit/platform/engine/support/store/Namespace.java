@@ -66,8 +66,12 @@ public final class Namespace {
 
 	private final List<Object> parts;
 
+	// Namespaces are used as keys for every store lookup
+	private final int hashCode;
+
 	private Namespace(List<Object> parts) {
 		this.parts = List.copyOf(parts);
+		this.hashCode = this.parts.hashCode();
 	}
 
 	@Override
@@ -84,7 +88,7 @@ public final class Namespace {
 
 	@Override
 	public int hashCode() {
-		return this.parts.hashCode();
+		return this.hashCode;
 	}
 
 	/**
@@ -18,12 +18,16 @@ import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
@@ -44,15 +48,36 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
  * <p>This class is thread-safe. Please note, however, that thread safety is
  * not guaranteed while the {@link #close()} method is being invoked.
  *
+ * <p>Values are stored in maps per namespace that are only created once the
+ * first value is stored in this store or namespace, respectively. Looking up
+ * a value does not allocate any objects once it has been computed.
+ *
  * @param <N> Namespace type
  * @since 1.10
  */
 @API(status = MAINTAINED, since = "1.13.3")
 public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
-	private final AtomicInteger insertOrderSequence = new AtomicInteger();
+	private static final VarHandle INSERT_ORDER_SEQUENCE;
+	private static final VarHandle STORED_VALUES;
+
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			INSERT_ORDER_SEQUENCE = lookup.findVarHandle(NamespacedHierarchicalStore.class, "insertOrderSequence",
+				int.class);
+			STORED_VALUES = lookup.findVarHandle(NamespacedHierarchicalStore.class, "storedValues",
+				ConcurrentMap.class);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
 
-	private final ConcurrentMap<CompositeKey<N>, StoredValue> storedValues = new ConcurrentHashMap<>(4);
+	@SuppressWarnings("unused") // updated via INSERT_ORDER_SEQUENCE
+	private volatile int insertOrderSequence;
+
+	private volatile @Nullable ConcurrentMap<N, ConcurrentMap<Object, StoredValue<N>>> storedValues;
 
 	private final @Nullable NamespacedHierarchicalStore<N> parentStore;
 
@@ -130,10 +155,12 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	public void close() {
 		if (!this.closed) {
 			try {
-				if (this.closeAction != null) {
+				ConcurrentMap<N, ConcurrentMap<Object, StoredValue<N>>> storedValues = this.storedValues;
+				if (this.closeAction != null && storedValues != null) {
 					ThrowableCollector throwableCollector = new ThrowableCollector(__ -> false);
-					this.storedValues.entrySet().stream() //
-							.map(e -> e.getValue().evaluateSafely(e.getKey())) //
+					storedValues.values().stream() //
+							.flatMap(valuesByKey -> valuesByKey.values().stream()) //
+							.map(StoredValue::evaluateSafely) //
 							.filter(it -> it != null && it.value != null) //
 							.sorted(EvaluatedValue.REVERSE_INSERT_ORDER) //
 							.forEach(it -> throwableCollector.execute(() -> it.close(this.closeAction)));
@@ -157,7 +184,7 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * closed
 	 */
 	public @Nullable Object get(N namespace, Object key) {
-		StoredValue storedValue = getStoredValue(new CompositeKey<>(namespace, key));
+		StoredValue<N> storedValue = getStoredValue(checkNamespace(namespace), checkKey(key));
 		return StoredValue.evaluateIfNotNull(storedValue);
 	}
 
@@ -198,11 +225,10 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	public <K, V extends @Nullable Object> @Nullable Object getOrComputeIfAbsent(N namespace, K key,
 			Function<? super K, ? extends V> defaultCreator) {
 		Preconditions.notNull(defaultCreator, "defaultCreator must not be null");
-		CompositeKey<N> compositeKey = new CompositeKey<>(namespace, key);
-		StoredValue storedValue = getStoredValue(compositeKey);
+		StoredValue<N> storedValue = getStoredValue(checkNamespace(namespace), checkKey(key));
 		if (storedValue == null) {
-			storedValue = this.storedValues.computeIfAbsent(compositeKey,
-				__ -> newStoredValue(new MemoizingSupplier(() -> {
+			storedValue = getOrCreateValuesByKey(namespace).computeIfAbsent(key,
+				__ -> newStoredValue(namespace, key, new MemoizingSupplier(() -> {
 					rejectIfClosed();
 					return defaultCreator.apply(key);
 				})));
@@ -228,16 +254,15 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	@API(status = MAINTAINED, since = "6.0")
 	public <K, V> Object computeIfAbsent(N namespace, K key, Function<? super K, ? extends V> defaultCreator) {
 		Preconditions.notNull(defaultCreator, "defaultCreator must not be null");
-		CompositeKey<N> compositeKey = new CompositeKey<>(namespace, key);
-		StoredValue storedValue = getStoredValue(compositeKey);
+		StoredValue<N> storedValue = getStoredValue(checkNamespace(namespace), checkKey(key));
 		var result = StoredValue.evaluateIfNotNull(storedValue);
 		if (result == null) {
-			StoredValue newStoredValue = this.storedValues.compute(compositeKey, (__, oldStoredValue) -> {
+			StoredValue<N> newStoredValue = getOrCreateValuesByKey(namespace).compute(key, (__, oldStoredValue) -> {
 				if (StoredValue.evaluateIfNotNull(oldStoredValue) == null) {
 					rejectIfClosed();
 					var computedValue = Preconditions.notNull(defaultCreator.apply(key),
 						"defaultCreator must not return null");
-					return newStoredValue(() -> {
+					return newStoredValue(namespace, key, () -> {
 						rejectIfClosed();
 						return computedValue;
 					});
@@ -317,8 +342,10 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public @Nullable Object put(N namespace, Object key, @Nullable Object value)
 			throws NamespacedHierarchicalStoreException {
+		checkNamespace(namespace);
+		checkKey(key);
 		rejectIfClosed();
-		StoredValue oldValue = this.storedValues.put(new CompositeKey<>(namespace, key), newStoredValue(() -> value));
+		StoredValue<N> oldValue = getOrCreateValuesByKey(namespace).put(key, newStoredValue(namespace, key, () -> value));
 		return StoredValue.evaluateIfNotNull(oldValue);
 	}
 
@@ -336,8 +363,11 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * closed
 	 */
 	public @Nullable Object remove(N namespace, Object key) {
+		checkNamespace(namespace);
+		checkKey(key);
 		rejectIfClosed();
-		StoredValue previous = this.storedValues.remove(new CompositeKey<>(namespace, key));
+		ConcurrentMap<Object, StoredValue<N>> valuesByKey = getValuesByKey(namespace);
+		StoredValue<N> previous = valuesByKey != null ? valuesByKey.remove(key) : null;
 		return StoredValue.evaluateIfNotNull(previous);
 	}
 
@@ -362,21 +392,91 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		return castToRequiredType(key, value, requiredType);
 	}
 
-	private StoredValue newStoredValue(Supplier<@Nullable Object> value) {
-		return new StoredValue(this.insertOrderSequence.getAndIncrement(), value);
+	/**
+	 * Remove all values stored in this store that match the supplied
+	 * predicate.
+	 *
+	 * <p>Values stored in the parent store are not affected. Values whose
+	 * computation failed are never removed. The {@link CloseAction} will
+	 * <em>not</em> be called for removed values.
+	 *
+	 * @param predicate the predicate to apply to stored non-null values;
+	 * never {@code null}
+	 * @return the number of removed values
+	 * @throws NamespacedHierarchicalStoreException if this store has already been
+	 * closed
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public int removeIf(Predicate<Object> predicate) {
+		Preconditions.notNull(predicate, "predicate must not be null");
+		rejectIfClosed();
+		ConcurrentMap<N, ConcurrentMap<Object, StoredValue<N>>> storedValues = this.storedValues;
+		if (storedValues == null) {
+			return 0;
+		}
+		int removed = 0;
+		for (ConcurrentMap<Object, StoredValue<N>> valuesByKey : storedValues.values()) {
+			for (Map.Entry<Object, StoredValue<N>> entry : valuesByKey.entrySet()) {
+				EvaluatedValue<N> evaluatedValue = entry.getValue().evaluateSafely();
+				if (evaluatedValue != null && evaluatedValue.value != null && predicate.test(evaluatedValue.value)
+						&& valuesByKey.remove(entry.getKey(), entry.getValue())) {
+					removed++;
+				}
+			}
+		}
+		return removed;
+	}
+
+	private StoredValue<N> newStoredValue(N namespace, Object key, Supplier<@Nullable Object> value) {
+		int order = (int) INSERT_ORDER_SEQUENCE.getAndAdd(this, 1);
+		return new StoredValue<>(namespace, key, order, value);
 	}
 
-	private @Nullable StoredValue getStoredValue(CompositeKey<N> compositeKey) {
-		StoredValue storedValue = this.storedValues.get(compositeKey);
-		if (storedValue != null) {
-			return storedValue;
-		}
-		if (this.parentStore != null) {
-			return this.parentStore.getStoredValue(compositeKey);
+	private @Nullable StoredValue<N> getStoredValue(N namespace, Object key) {
+		NamespacedHierarchicalStore<N> current = this;
+		while (current != null) {
+			ConcurrentMap<Object, StoredValue<N>> valuesByKey = current.getValuesByKey(namespace);
+			if (valuesByKey != null) {
+				StoredValue<N> storedValue = valuesByKey.get(key);
+				if (storedValue != null) {
+					return storedValue;
+				}
+			}
+			current = current.parentStore;
 		}
 		return null;
 	}
 
+	private @Nullable ConcurrentMap<Object, StoredValue<N>> getValuesByKey(N namespace) {
+		ConcurrentMap<N, ConcurrentMap<Object, StoredValue<N>>> storedValues = this.storedValues;
+		return storedValues != null ? storedValues.get(namespace) : null;
+	}
+
+	private ConcurrentMap<Object, StoredValue<N>> getOrCreateValuesByKey(N namespace) {
+		ConcurrentMap<N, ConcurrentMap<Object, StoredValue<N>>> storedValues = this.storedValues;
+		if (storedValues == null) {
+			ConcurrentMap<N, ConcurrentMap<Object, StoredValue<N>>> newStoredValues = new ConcurrentHashMap<>(4);
+			@SuppressWarnings("unchecked")
+			var witness = (ConcurrentMap<N, ConcurrentMap<Object, StoredValue<N>>>) STORED_VALUES.compareAndExchange(
+				this, null, newStoredValues);
+			storedValues = witness != null ? witness : newStoredValues;
+		}
+		ConcurrentMap<Object, StoredValue<N>> valuesByKey = storedValues.get(namespace);
+		if (valuesByKey == null) {
+			valuesByKey = storedValues.computeIfAbsent(namespace, __ -> new ConcurrentHashMap<>(4));
+		}
+		return valuesByKey;
+	}
+
+	private static <N> N checkNamespace(N namespace) {
+		return Preconditions.notNull(namespace, "namespace must not be null");
+	}
+
+	private static Object checkKey(Object key) {
+		return Preconditions.notNull(key, "key must not be null");
+	}
+
 	private <T> @Nullable T castToRequiredType(Object key, @Nullable Object value, Class<T> requiredType) {
 		Preconditions.notNull(requiredType, "requiredType must not be null");
 		if (value == null) {
@@ -406,20 +506,11 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		}
 	}
 
-	private record CompositeKey<N>(N namespace, Object key) {
+	private record StoredValue<N>(N namespace, Object key, int order, Supplier<@Nullable Object> supplier) {
 
-		CompositeKey {
-			Preconditions.notNull(namespace, "namespace must not be null");
-			Preconditions.notNull(key, "key must not be null");
-		}
-
-	}
-
-	private record StoredValue(int order, Supplier<@Nullable Object> supplier) {
-
-		private <N> @Nullable EvaluatedValue<N> evaluateSafely(CompositeKey<N> compositeKey) {
+		private @Nullable EvaluatedValue<N> evaluateSafely() {
 			try {
-				return new EvaluatedValue<>(compositeKey, this.order, evaluate());
+				return new EvaluatedValue<>(this.namespace, this.key, this.order, evaluate());
 			}
 			catch (Throwable t) {
 				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
@@ -431,20 +522,20 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 			return this.supplier.get();
 		}
 
-		static @Nullable Object evaluateIfNotNull(@Nullable StoredValue value) {
+		static @Nullable Object evaluateIfNotNull(@Nullable StoredValue<?> value) {
 			return value != null ? value.evaluate() : null;
 		}
 
 	}
 
-	private record EvaluatedValue<N>(CompositeKey<N> compositeKey, int order, @Nullable Object value) {
+	private record EvaluatedValue<N>(N namespace, Object key, int order, @Nullable Object value) {
 
 		private static final Comparator<EvaluatedValue<?>> REVERSE_INSERT_ORDER = comparing(
 			(EvaluatedValue<?> it) -> it.order).reversed();
 
 		private void close(CloseAction<N> closeAction) throws Throwable {
 			if (this.value != null) {
-				closeAction.close(this.compositeKey.namespace, this.compositeKey.key, this.value);
+				closeAction.close(this.namespace, this.key, this.value);
 			}
 		}
 
@@ -454,6 +545,11 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * Thread-safe {@link Supplier} that memoizes the result of calling its
 	 * delegate and ensures it is called at most once.
 	 *
+	 * <p>The thread that first calls {@link #get()} claims the computation
+	 * without acquiring a lock; concurrent callers wait for it to complete.
+	 * Once the value has been computed, {@link #get()} only performs a single
+	 * volatile read.
+	 *
 	 * <p>If the delegate throws an exception, it is stored and rethrown every
 	 * time {@link #get()} is called.
 	 *
@@ -461,9 +557,20 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	private static class MemoizingSupplier implements Supplier<@Nullable Object> {
 
+		private static final VarHandle VALUE;
+
+		static {
+			try {
+				VALUE = MethodHandles.lookup().findVarHandle(MemoizingSupplier.class, "value", Object.class);
+			}
+			catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
 		private static final Object NO_VALUE_SET = new Object();
 
-		private final Supplier<@Nullable Object> delegate;
+		private @Nullable Supplier<@Nullable Object> delegate;
 
 		@Nullable
 		private volatile Object value = NO_VALUE_SET;
@@ -474,30 +581,87 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
 		@Override
 		public @Nullable Object get() {
-			if (this.value == NO_VALUE_SET) {
-				computeValue();
+			Object currentValue = this.value;
+			if (currentValue == NO_VALUE_SET || currentValue instanceof Computation) {
+				currentValue = computeOrAwaitValue(currentValue);
 			}
-			if (this.value instanceof Failure failure) {
+			if (currentValue instanceof Failure failure) {
 				throw ExceptionUtils.throwAsUncheckedException(failure.throwable);
 			}
-			return this.value;
+			return currentValue;
 		}
 
-		private synchronized void computeValue() {
-			try {
-				if (this.value == NO_VALUE_SET) {
-					this.value = this.delegate.get();
+		private @Nullable Object computeOrAwaitValue(@Nullable Object currentValue) {
+			if (currentValue == NO_VALUE_SET) {
+				Computation computation = new Computation(Thread.currentThread());
+				Object witness = VALUE.compareAndExchange(this, NO_VALUE_SET, computation);
+				if (witness == NO_VALUE_SET) {
+					return computeValue(computation);
 				}
+				currentValue = witness;
+			}
+			if (currentValue instanceof Computation computation) {
+				computation.awaitCompletion();
+				return this.value;
+			}
+			return currentValue;
+		}
+
+		private @Nullable Object computeValue(Computation computation) {
+			Object result;
+			Throwable unrecoverable = null;
+			try {
+				result = requireNonNull(this.delegate).get();
 			}
 			catch (Throwable t) {
-				this.value = new Failure(t);
-				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+				result = new Failure(t);
+				unrecoverable = t;
+			}
+			finally {
+				this.delegate = null;
 			}
+			this.value = result;
+			computation.complete();
+			if (unrecoverable != null) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(unrecoverable);
+			}
+			return result;
 		}
 
 		private record Failure(Throwable throwable) {
 		}
 
+		private record Computation(Thread thread, CountDownLatch latch) {
+
+			Computation(Thread thread) {
+				this(thread, new CountDownLatch(1));
+			}
+
+			void complete() {
+				this.latch.countDown();
+			}
+
+			void awaitCompletion() {
+				if (this.thread == Thread.currentThread()) {
+					throw new NamespacedHierarchicalStoreException(
+						"Recursive update: the value is being computed by the current thread");
+				}
+				boolean interrupted = false;
+				while (true) {
+					try {
+						this.latch.await();
+						break;
+					}
+					catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
 	}
 
 	/**
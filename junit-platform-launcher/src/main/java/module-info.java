@@ -43,6 +43,9 @@ module org.junit.platform.launcher {
 	uses org.junit.platform.launcher.PostDiscoveryFilter;
 	uses org.junit.platform.launcher.TestExecutionListener;
 
+	provides org.junit.platform.launcher.LauncherSessionListener
+			with org.junit.platform.launcher.listeners.IncrementalTestSelectionListener;
 	provides org.junit.platform.launcher.TestExecutionListener
-			with org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
+			with org.junit.platform.launcher.listeners.UniqueIdTrackingListener,
+				org.junit.platform.launcher.listeners.TestDurationHistoryListener;
 }
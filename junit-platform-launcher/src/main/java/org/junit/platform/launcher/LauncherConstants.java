@@ -80,6 +80,37 @@ public class LauncherConstants {
 	 */
 	public static final int CAPTURE_MAX_BUFFER_DEFAULT = 4 * 1024 * 1024;
 
+	/**
+	 * Property name used to configure the number of bytes of captured output
+	 * of a single test or container after which it is written to a file
+	 * instead of being buffered in memory: {@value}
+	 *
+	 * <p>If set, output that exceeds this threshold is written to a file in
+	 * the {@linkplain org.junit.platform.engine.reporting.OutputDirectoryProvider#getRootDirectory()
+	 * root output directory} and published as a
+	 * {@link org.junit.platform.engine.reporting.FileEntry FileEntry} via
+	 * {@link TestExecutionListener#fileEntryPublished(TestIdentifier, org.junit.platform.engine.reporting.FileEntry)}
+	 * instead of as part of the {@link ReportEntry}. The file name contains the
+	 * display name of the test or container. The {@code ReportEntry} then
+	 * only contains a short message pointing to the file. Consequently,
+	 * reporters that only consider report entries, such as the legacy XML
+	 * reports, don't include the output itself, for example, in their
+	 * {@code system-out} and {@code system-err} elements.
+	 *
+	 * <p>Output written to a file is not limited by
+	 * {@value #CAPTURE_MAX_BUFFER_PROPERTY_NAME} which then only applies to
+	 * output buffered in memory. Hence, the threshold should be less than the
+	 * maximum buffer size.
+	 *
+	 * <p>Value must be a non-negative integer. No default value; if not set,
+	 * captured output is always buffered in memory.
+	 *
+	 * @since 6.0
+	 * @see #CAPTURE_MAX_BUFFER_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME = "junit.platform.output.capture.spillThreshold";
+
 	/**
 	 * Key used to publish captured output to {@link System#out} as part of a
 	 * {@link ReportEntry}: {@value}
@@ -266,6 +297,259 @@ public class LauncherConstants {
 	@API(status = EXPERIMENTAL, since = "6.0")
 	public static final String DISCOVERY_ISSUE_FAILURE_PHASE_PROPERTY_NAME = "junit.platform.discovery.issue.failure.phase";
 
+	/**
+	 * Property name used to set the path of the file that stores a snapshot
+	 * of the tests discovered for requests that scan the classpath or the
+	 * module path: {@value}
+	 *
+	 * <p>If set, the launcher stores the unique IDs of the tests and
+	 * containers discovered by each engine in the file after a discovery run
+	 * that did not encounter any issues. Subsequent requests with the same
+	 * selectors, filters, {@code junit.*} configuration parameters, engines,
+	 * and classpath contents select the cached unique IDs instead of scanning
+	 * for tests. Requests that contain selectors other than
+	 * {@linkplain org.junit.platform.engine.discovery.ClasspathRootSelector
+	 * classpath root},
+	 * {@linkplain org.junit.platform.engine.discovery.PackageSelector package},
+	 * or {@linkplain org.junit.platform.engine.discovery.ModuleSelector module}
+	 * selectors or discovery filters other than the built-in class name or
+	 * package name filters are never cached. Engines still load the cached
+	 * classes, so the cache only avoids scanning the classpath.
+	 *
+	 * <p>No default value; if not set, the discovery cache is disabled.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String DISCOVERY_CACHE_FILE_PROPERTY_NAME = "junit.platform.discovery.cache.file";
+
+	/**
+	 * Property name used to enable concurrent test discovery in multiple
+	 * test engines: {@value}
+	 *
+	 * <p>If enabled, the launcher asks all engines that are not excluded by
+	 * an {@link EngineFilter} to discover tests concurrently using a bounded
+	 * thread pool whose size does not exceed the number of available
+	 * processors. Registered {@link LauncherDiscoveryListener
+	 * LauncherDiscoveryListeners} are still notified of the events of one
+	 * engine after another in the order in which the engines are registered,
+	 * but only once the discovery of the respective engine has finished.
+	 *
+	 * <p>All registered engines must support being asked to discover tests
+	 * concurrently with other engines.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME = "junit.platform.discovery.parallel.enabled";
+
+	/**
+	 * Property name used to enable the concurrent execution of multiple test
+	 * engines: {@value}
+	 *
+	 * <p>If enabled, the launcher executes the tests of each engine on a
+	 * separate thread so that, for example, the tests of JUnit Jupiter and
+	 * JUnit Vintage are executed at the same time. Registered
+	 * {@link TestExecutionListener TestExecutionListeners} receive the
+	 * execution events of different engines concurrently, just like the
+	 * events of an engine that executes its tests in parallel.
+	 *
+	 * <p>All registered engines must support being executed concurrently with
+	 * other engines.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.execution.engines.parallel.enabled";
+
+	/**
+	 * Property name used to enable the asynchronous dispatch of events to
+	 * registered {@link TestExecutionListener TestExecutionListeners}:
+	 * {@value}
+	 *
+	 * <p>If enabled, events are published to a queue on the thread that
+	 * reported them and dispatched to all registered listeners by a single,
+	 * dedicated thread. Thus, slow listeners no longer delay the execution of
+	 * tests. Each listener still receives all events in the order in which
+	 * they were reported, and all events are dispatched before the
+	 * {@link Launcher} returns from executing a test plan.
+	 *
+	 * <p>Listeners must not rely on being called on the thread that executes
+	 * the corresponding test or on the time at which they are called, for
+	 * example, to measure durations.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME = "junit.platform.execution.listeners.async.enabled";
+
+	/**
+	 * Property name used to set the zero-based index of the shard of tests to
+	 * execute: {@value}
+	 *
+	 * <p>If set, {@value #SHARD_TOTAL_PROPERTY_NAME} must be set as well, and
+	 * the value must be greater than or equal to {@code 0} and less than the
+	 * total number of shards. The top-level containers and tests of all test
+	 * engines are then partitioned into that many shards, and only those
+	 * assigned to the shard with this index are executed.
+	 *
+	 * <p>No default value; if not set, all tests are executed.
+	 *
+	 * @since 6.0
+	 * @see ShardFilter
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String SHARD_INDEX_PROPERTY_NAME = "junit.platform.shard.index";
+
+	/**
+	 * Property name used to set the total number of shards the tests are
+	 * partitioned into: {@value}
+	 *
+	 * <p>Must be set in conjunction with {@value #SHARD_INDEX_PROPERTY_NAME}
+	 * and be greater than or equal to {@code 1}.
+	 *
+	 * @since 6.0
+	 * @see ShardFilter
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String SHARD_TOTAL_PROPERTY_NAME = "junit.platform.shard.total";
+
+	/**
+	 * Property name used to set the strategy used to assign top-level
+	 * containers and tests to shards: {@value}
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <ul>
+	 * <li>{@code hash}: assigns each top-level container or test based on a
+	 * hash of its unique ID</li>
+	 * <li>{@code duration}: balances the recorded durations of the top-level
+	 * containers and tests across all shards using the
+	 * {@link org.junit.platform.engine.support.hierarchical.TestDurationHistory
+	 * TestDurationHistory} file configured via
+	 * {@value org.junit.platform.engine.support.hierarchical.TestDurationHistory#FILE_PROPERTY_NAME}</li>
+	 * </ul>
+	 *
+	 * <p>If not set, defaults to {@code hash}.
+	 *
+	 * @since 6.0
+	 * @see ShardFilter
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String SHARD_STRATEGY_PROPERTY_NAME = "junit.platform.shard.strategy";
+
+	/**
+	 * Property name used to set the number of JVMs to fork to execute tests:
+	 * {@value}
+	 *
+	 * <p>If set to a positive number, the top-level containers and tests of
+	 * each test engine, for example, top-level test classes, are distributed
+	 * across a pool of up to that many JVMs that are forked from the current
+	 * one. Each forked JVM executes one top-level container or test at a time
+	 * and reports all events back to the current JVM where they are passed on
+	 * to registered {@link TestExecutionListener TestExecutionListeners}. If a
+	 * forked JVM terminates unexpectedly, the tests it was executing are
+	 * reported as failed and a new JVM is forked for the remaining ones.
+	 *
+	 * <p>Forked JVMs use the same Java installation, class path, and
+	 * configuration parameters as the current JVM. Test engines must be
+	 * registered via Java's {@link java.util.ServiceLoader} mechanism and be
+	 * able to resolve {@linkplain
+	 * org.junit.platform.engine.discovery.UniqueIdSelector unique ID
+	 * selectors}.
+	 *
+	 * <p>Defaults to {@code 0}, i.e. tests are executed in the current JVM.
+	 *
+	 * @since 6.0
+	 * @see #FORK_JVM_ARGUMENTS_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String FORK_COUNT_PROPERTY_NAME = "junit.platform.execution.fork.count";
+
+	/**
+	 * Property name used to set additional whitespace-separated arguments
+	 * passed to forked JVMs, for example, system properties or the maximum
+	 * heap size: {@value}
+	 *
+	 * <p>Only applies if {@value #FORK_COUNT_PROPERTY_NAME} is set.
+	 *
+	 * @since 6.0
+	 * @see #FORK_COUNT_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String FORK_JVM_ARGUMENTS_PROPERTY_NAME = "junit.platform.execution.fork.jvmArgs";
+
+	/**
+	 * Property name used to enable warming up all test engines when a
+	 * {@link LauncherSession} is opened: {@value}
+	 *
+	 * <p>If enabled, each test engine is asked to discover an empty request
+	 * before the session is returned so that the first discovery request
+	 * passed to the session's {@link Launcher} does not incur the cost of
+	 * initializing the engines. This is intended for long-lived hosts such as
+	 * IDEs or watch-mode runners that reuse a session for multiple requests.
+	 *
+	 * <p>Since engines are warmed up before any request is passed to the
+	 * {@link Launcher}, this configuration parameter can only be supplied as a
+	 * JVM system property or via the JUnit Platform configuration file.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 * @see LauncherSession#invalidate(java.util.Set)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String SESSION_WARM_UP_ENABLED_PROPERTY_NAME = "junit.platform.launcher.session.warmup.enabled";
+
+	/**
+	 * Property name used to set the number of failures after which the
+	 * execution of the remaining tests is cancelled: {@value}
+	 *
+	 * <p>Every test or container whose execution is reported as failed counts
+	 * towards this limit unless {@value #FAIL_FAST_TAG_EXPRESSION_PROPERTY_NAME}
+	 * is set as well. Once the limit is reached, the {@link
+	 * org.junit.platform.engine.CancellationToken CancellationToken} passed to
+	 * test engines is cancelled immediately on the thread that reported the
+	 * failure, i.e. before any {@link TestExecutionListener} is notified.
+	 * Test engines then skip all tests that have not been started yet and,
+	 * depending on their configuration, interrupt running ones. Cancelling the
+	 * token of the {@link LauncherExecutionRequest} still cancels the
+	 * execution as well.
+	 *
+	 * <p>Value must be a positive integer. Defaults to {@code 1} if only
+	 * {@value #FAIL_FAST_TAG_EXPRESSION_PROPERTY_NAME} is set; otherwise,
+	 * execution is not cancelled due to failures.
+	 *
+	 * @since 6.0
+	 * @see org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine#INTERRUPT_ON_CANCELLATION_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String FAIL_FAST_MAX_FAILURES_PROPERTY_NAME = "junit.platform.execution.failfast.maxFailures";
+
+	/**
+	 * Property name used to set a tag expression that restricts which
+	 * failures count towards {@value #FAIL_FAST_MAX_FAILURES_PROPERTY_NAME}:
+	 * {@value}
+	 *
+	 * <p>If set, only failures of tests and containers whose tags match the
+	 * expression are counted, for example, {@code smoke} to stop on the first
+	 * failure of a smoke test. Please refer to the JUnit User Guide for the
+	 * syntax of tag expressions.
+	 *
+	 * <p>No default value; if not set, all failures are counted.
+	 *
+	 * @since 6.0
+	 * @see #FAIL_FAST_MAX_FAILURES_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String FAIL_FAST_TAG_EXPRESSION_PROPERTY_NAME = "junit.platform.execution.failfast.tags";
+
 	private LauncherConstants() {
 		/* no-op */
 	}
@@ -10,10 +10,15 @@
 
 package org.junit.platform.launcher;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.Set;
+
 import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.support.store.ClassDependentValue;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.junit.platform.launcher.core.LauncherFactory;
@@ -23,6 +28,12 @@ import org.junit.platform.launcher.core.LauncherFactory;
  * wishes to repeatedly <em>discover</em> and <em>execute</em> tests using one
  * or more {@linkplain org.junit.platform.engine.TestEngine test engines}.
  *
+ * <p>Test engines, listeners, and filters are loaded once per session, and
+ * data such as the results of scanning the classpath is shared by all
+ * requests via the session's {@linkplain #getStore() store}. Long-lived hosts
+ * should therefore reuse a session for repeated requests and call
+ * {@link #invalidate(Set)} when classes change.
+ *
  * @since 1.8
  * @see Launcher
  * @see LauncherSessionListener
@@ -65,4 +76,28 @@ public interface LauncherSession extends AutoCloseable {
 	@API(status = MAINTAINED, since = "1.13.3")
 	NamespacedHierarchicalStore<Namespace> getStore();
 
+	/**
+	 * Invalidate all data stored in this session that is affected by changes
+	 * to the classes with the supplied names, including their addition or
+	 * removal.
+	 *
+	 * <p>The default implementation removes all values from this session's
+	 * {@linkplain #getStore() store} that implement
+	 * {@link ClassDependentValue} and are
+	 * {@linkplain ClassDependentValue#isAffectedBy(Set) affected} by the
+	 * supplied classes. All other data, such as loaded test engines and
+	 * registered listeners, is retained.
+	 *
+	 * @param changedClassNames the fully qualified names of the changed
+	 * classes; never {@code null}
+	 * @since 6.0
+	 * @see ClassDependentValue
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default void invalidate(Set<String> changedClassNames) {
+		Preconditions.notNull(changedClassNames, "changedClassNames must not be null");
+		getStore().removeIf(
+			value -> value instanceof ClassDependentValue dependentValue && dependentValue.isAffectedBy(changedClassNames));
+	}
+
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Comparator.comparing;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_TOTAL_PROPERTY_NAME;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.TestDurationHistory;
+
+/**
+ * {@code ShardFilter} is a {@link PostDiscoveryFilter} that partitions the
+ * discovered tests into a fixed number of shards and only includes those
+ * assigned to a single shard.
+ *
+ * <p>Tests are assigned to shards by their top-level container or test,
+ * i.e. the child of the engine descriptor they are contained in; for example,
+ * a top-level test class. Thus, all tests of such a container are always
+ * executed in the same shard. Since the assignment only depends on the
+ * discovered {@link TestDescriptor} tree, sharding is supported for all test
+ * engines. All processes that execute a shard of the same test suite must
+ * discover the same tests and be configured with the same total number of
+ * shards and strategy; the union of their shards then contains each test
+ * exactly once.
+ *
+ * <p>The filter is applied automatically if the
+ * {@value LauncherConstants#SHARD_INDEX_PROPERTY_NAME} and
+ * {@value LauncherConstants#SHARD_TOTAL_PROPERTY_NAME} configuration
+ * parameters are set.
+ *
+ * @since 6.0
+ * @see LauncherConstants#SHARD_INDEX_PROPERTY_NAME
+ * @see LauncherConstants#SHARD_TOTAL_PROPERTY_NAME
+ * @see LauncherConstants#SHARD_STRATEGY_PROPERTY_NAME
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class ShardFilter implements PostDiscoveryFilter {
+
+	private static final String HASH_STRATEGY = "hash";
+	private static final String DURATION_STRATEGY = "duration";
+
+	private final int shardIndex;
+	private final int shardTotal;
+	private final @Nullable TestDurationHistory history;
+
+	private final Map<UniqueId, Integer> assignedShards = new HashMap<>();
+	private final long[] assignedDurations;
+
+	/**
+	 * Create a {@code ShardFilter} that assigns each top-level container or
+	 * test to a shard based on a hash of its {@link UniqueId}.
+	 *
+	 * <p>The assignment of a top-level container or test does not depend on
+	 * any other containers or tests. Hence, adding or removing test classes
+	 * only affects the shards they are assigned to.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include; must be
+	 * greater than or equal to {@code 0} and less than {@code shardTotal}
+	 * @param shardTotal the total number of shards; must be greater than or
+	 * equal to {@code 1}
+	 * @throws PreconditionViolationException if the index or total is invalid
+	 */
+	public static ShardFilter byUniqueIdHash(int shardIndex, int shardTotal) {
+		return new ShardFilter(shardIndex, shardTotal, null);
+	}
+
+	/**
+	 * Create a {@code ShardFilter} that balances the durations of the
+	 * top-level containers and tests recorded in the supplied
+	 * {@link TestDurationHistory} across all shards.
+	 *
+	 * <p>The top-level containers and tests of each test engine are assigned
+	 * longest first to the shard with the smallest total duration so far.
+	 * Containers and tests without a recorded duration are assumed to take as
+	 * long as the average recorded one. Since the assignment depends on all
+	 * discovered containers and tests and their recorded durations, all
+	 * shards must be computed using the same history.
+	 *
+	 * @param shardIndex the zero-based index of the shard to include; must be
+	 * greater than or equal to {@code 0} and less than {@code shardTotal}
+	 * @param shardTotal the total number of shards; must be greater than or
+	 * equal to {@code 1}
+	 * @param history the history of recorded durations; never {@code null}
+	 * @throws PreconditionViolationException if the index or total is invalid
+	 * or the history is {@code null}
+	 */
+	public static ShardFilter byDuration(int shardIndex, int shardTotal, TestDurationHistory history) {
+		Preconditions.notNull(history, "history must not be null");
+		return new ShardFilter(shardIndex, shardTotal, history);
+	}
+
+	/**
+	 * Create a {@code ShardFilter} based on the
+	 * {@value LauncherConstants#SHARD_INDEX_PROPERTY_NAME},
+	 * {@value LauncherConstants#SHARD_TOTAL_PROPERTY_NAME}, and
+	 * {@value LauncherConstants#SHARD_STRATEGY_PROPERTY_NAME} configuration
+	 * parameters, if set.
+	 *
+	 * @throws JUnitException if the configuration parameters are invalid
+	 */
+	@API(status = INTERNAL, since = "6.0")
+	public static Optional<PostDiscoveryFilter> create(ConfigurationParameters configurationParameters) {
+		Optional<Integer> shardIndex = configurationParameters.getInteger(SHARD_INDEX_PROPERTY_NAME);
+		Optional<Integer> shardTotal = configurationParameters.getInteger(SHARD_TOTAL_PROPERTY_NAME);
+		if (shardIndex.isEmpty() && shardTotal.isEmpty()) {
+			return Optional.empty();
+		}
+		if (shardIndex.isEmpty() || shardTotal.isEmpty()) {
+			throw new JUnitException("Configuration parameters '%s' and '%s' must be set in conjunction".formatted(
+				SHARD_INDEX_PROPERTY_NAME, SHARD_TOTAL_PROPERTY_NAME));
+		}
+		String strategy = configurationParameters.get(SHARD_STRATEGY_PROPERTY_NAME) //
+				.map(value -> value.strip().toLowerCase(Locale.ROOT)) //
+				.orElse(HASH_STRATEGY);
+		try {
+			return switch (strategy) {
+				case HASH_STRATEGY -> Optional.of(byUniqueIdHash(shardIndex.get(), shardTotal.get()));
+				case DURATION_STRATEGY -> Optional.of(
+					byDuration(shardIndex.get(), shardTotal.get(), readHistory(configurationParameters)));
+				default -> throw new JUnitException("Invalid value of configuration parameter '%s': %s".formatted(
+					SHARD_STRATEGY_PROPERTY_NAME, strategy));
+			};
+		}
+		catch (PreconditionViolationException ex) {
+			throw new JUnitException("Invalid shard configuration: " + ex.getMessage(), ex);
+		}
+	}
+
+	private static TestDurationHistory readHistory(ConfigurationParameters configurationParameters) {
+		Path file = TestDurationHistory.getFile(configurationParameters).orElseThrow(
+			() -> new JUnitException("Configuration parameter '%s' must be set to use the '%s' shard strategy".formatted(
+				TestDurationHistory.FILE_PROPERTY_NAME, DURATION_STRATEGY)));
+		try {
+			return TestDurationHistory.read(file);
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to read test duration history from " + file.toAbsolutePath(), ex);
+		}
+	}
+
+	private ShardFilter(int shardIndex, int shardTotal, @Nullable TestDurationHistory history) {
+		Preconditions.condition(shardTotal >= 1, () -> "shard total must be at least 1 but was " + shardTotal);
+		Preconditions.condition(shardIndex >= 0 && shardIndex < shardTotal,
+			() -> "shard index must be at least 0 and less than %d but was %d".formatted(shardTotal, shardIndex));
+		this.shardIndex = shardIndex;
+		this.shardTotal = shardTotal;
+		this.history = history;
+		this.assignedDurations = new long[shardTotal];
+	}
+
+	@Override
+	public FilterResult apply(TestDescriptor descriptor) {
+		if (descriptor.isRoot()) {
+			return FilterResult.included("engine descriptors are contained in all shards");
+		}
+		TestDescriptor topLevelDescriptor = descriptor;
+		Optional<TestDescriptor> parent = descriptor.getParent();
+		while (parent.isPresent() && !parent.get().isRoot()) {
+			topLevelDescriptor = parent.get();
+			parent = topLevelDescriptor.getParent();
+		}
+		int shard = getShard(topLevelDescriptor);
+		return FilterResult.includedIf(shard == this.shardIndex, //
+			() -> "assigned to shard " + this.shardIndex, //
+			() -> "assigned to shard " + shard);
+	}
+
+	private synchronized int getShard(TestDescriptor topLevelDescriptor) {
+		if (this.history == null) {
+			return Math.floorMod(mix(topLevelDescriptor.getUniqueId().toString().hashCode()), this.shardTotal);
+		}
+		Integer shard = this.assignedShards.get(topLevelDescriptor.getUniqueId());
+		if (shard == null) {
+			Set<? extends TestDescriptor> siblings = topLevelDescriptor.getParent() //
+					.map(TestDescriptor::getChildren) //
+					.orElseGet(() -> Set.of(topLevelDescriptor));
+			assignByDuration(this.history, siblings);
+			shard = this.assignedShards.get(topLevelDescriptor.getUniqueId());
+		}
+		return shard == null ? 0 : shard;
+	}
+
+	/**
+	 * Assign all supplied descriptors that have not been assigned yet using
+	 * the <em>longest processing time first</em> heuristic.
+	 */
+	private void assignByDuration(TestDurationHistory history, Iterable<? extends TestDescriptor> descriptors) {
+		List<UniqueId> uniqueIds = new ArrayList<>();
+		Map<UniqueId, Long> durations = new HashMap<>();
+		long recordedTotal = 0;
+		for (TestDescriptor descriptor : descriptors) {
+			UniqueId uniqueId = descriptor.getUniqueId();
+			if (!this.assignedShards.containsKey(uniqueId)) {
+				uniqueIds.add(uniqueId);
+				Optional<Duration> duration = history.getDuration(uniqueId);
+				if (duration.isPresent()) {
+					long millis = Math.max(1, duration.get().toMillis());
+					durations.put(uniqueId, millis);
+					recordedTotal += millis;
+				}
+			}
+		}
+		long defaultDuration = durations.isEmpty() ? 1 : Math.max(1, recordedTotal / durations.size());
+		uniqueIds.sort(comparing((UniqueId uniqueId) -> durations.getOrDefault(uniqueId, defaultDuration)).reversed() //
+				.thenComparing(UniqueId::toString));
+		for (UniqueId uniqueId : uniqueIds) {
+			int shard = 0;
+			for (int i = 1; i < this.shardTotal; i++) {
+				if (this.assignedDurations[i] < this.assignedDurations[shard]) {
+					shard = i;
+				}
+			}
+			this.assignedDurations[shard] += durations.getOrDefault(uniqueId, defaultDuration);
+			this.assignedShards.put(uniqueId, shard);
+		}
+	}
+
+	/**
+	 * Spread the bits of the supplied hash code so that similar unique IDs
+	 * are distributed evenly across shards.
+	 */
+	private static int mix(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+
+}
@@ -77,13 +77,29 @@ public final class TestIdentifier implements Serializable {
 		UniqueId uniqueId = testDescriptor.getUniqueId();
 		String displayName = testDescriptor.getDisplayName();
 		TestSource source = testDescriptor.getSource().orElse(null);
-		Set<TestTag> tags = testDescriptor.getTags();
+		Set<TestTag> tags = copyOf(testDescriptor.getTags());
 		Type type = testDescriptor.getType();
 		UniqueId parentId = testDescriptor.getParent().map(TestDescriptor::getUniqueId).orElse(null);
 		String legacyReportingName = testDescriptor.getLegacyReportingName();
 		return new TestIdentifier(uniqueId, displayName, source, tags, type, parentId, legacyReportingName);
 	}
 
+	/**
+	 * Create a new {@link TestIdentifier} from a {@link TestDescriptor} that
+	 * shares equal display names, sources, and tags with other identifiers
+	 * created using the supplied {@link TestIdentifierInterner}.
+	 */
+	static TestIdentifier from(TestDescriptor testDescriptor, TestIdentifierInterner interner) {
+		UniqueId uniqueId = testDescriptor.getUniqueId();
+		String displayName = interner.intern(testDescriptor.getDisplayName());
+		TestSource source = testDescriptor.getSource().map(interner::intern).orElse(null);
+		Set<TestTag> tags = interner.intern(testDescriptor.getTags());
+		Type type = testDescriptor.getType();
+		UniqueId parentId = testDescriptor.getParent().map(TestDescriptor::getUniqueId).orElse(null);
+		String legacyReportingName = interner.intern(testDescriptor.getLegacyReportingName());
+		return new TestIdentifier(uniqueId, displayName, source, tags, type, parentId, legacyReportingName);
+	}
+
 	private TestIdentifier(UniqueId uniqueId, String displayName, @Nullable TestSource source, Set<TestTag> tags,
 			Type type, @Nullable UniqueId parentId, String legacyReportingName) {
 		Preconditions.notNull(type, "TestDescriptor.Type must not be null");
@@ -91,12 +107,20 @@ public final class TestIdentifier implements Serializable {
 		this.parentId = parentId;
 		this.displayName = displayName;
 		this.source = source;
-		this.tags = copyOf(tags);
+		this.tags = tags;
 		this.type = type;
-		this.legacyReportingName = legacyReportingName;
+		this.legacyReportingName = sameOrEqual(legacyReportingName, displayName);
+	}
+
+	/**
+	 * Return {@code other} if it is equal to {@code value} so that only one
+	 * instance is retained; otherwise, return {@code value}.
+	 */
+	private static String sameOrEqual(String value, String other) {
+		return value.equals(other) ? other : value;
 	}
 
-	private Set<TestTag> copyOf(Set<TestTag> tags) {
+	static Set<TestTag> copyOf(Set<TestTag> tags) {
 		return switch (tags.size()) {
 			case 0 -> emptySet();
 			case 1 -> singleton(getOnlyElement(tags));
@@ -289,7 +313,7 @@ public final class TestIdentifier implements Serializable {
 		type = serializedForm.type;
 		String parentId = serializedForm.parentId;
 		this.parentId = parentId == null ? null : UniqueId.parse(parentId);
-		legacyReportingName = serializedForm.legacyReportingName;
+		legacyReportingName = sameOrEqual(serializedForm.legacyReportingName, serializedForm.displayName);
 	}
 
 	/**
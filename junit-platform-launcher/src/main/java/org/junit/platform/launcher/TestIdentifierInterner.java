@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * Pool of values that are shared between the {@link TestIdentifier
+ * TestIdentifiers} of a {@link TestPlan}.
+ *
+ * <p>Display names, {@link TestSource TestSources} such as the
+ * {@code ClassSource} of a test class, and sets of {@link TestTag TestTags}
+ * are often equal for many tests in large test plans. Interning them ensures
+ * that a single instance is retained for all of them.
+ *
+ * <p>Instances of this class are not thread-safe and should only be used
+ * while creating a {@code TestPlan}.
+ *
+ * @since 6.0
+ */
+final class TestIdentifierInterner {
+
+	private final Map<String, String> strings = new HashMap<>();
+	private final Map<TestSource, TestSource> sources = new HashMap<>();
+	private final Map<List<TestTag>, Set<TestTag>> tagSets = new HashMap<>();
+
+	String intern(String value) {
+		return this.strings.computeIfAbsent(value, __ -> value);
+	}
+
+	TestSource intern(TestSource source) {
+		return this.sources.computeIfAbsent(source, __ -> source);
+	}
+
+	/**
+	 * Intern the supplied tags, preserving their iteration order.
+	 */
+	Set<TestTag> intern(Set<TestTag> tags) {
+		if (tags.isEmpty()) {
+			return TestIdentifier.copyOf(tags);
+		}
+		return this.tagSets.computeIfAbsent(List.copyOf(tags), __ -> TestIdentifier.copyOf(tags));
+	}
+
+}
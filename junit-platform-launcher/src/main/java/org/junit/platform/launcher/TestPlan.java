@@ -14,16 +14,15 @@ import static java.util.Collections.emptySet;
 import static java.util.Collections.synchronizedSet;
 import static java.util.Collections.unmodifiableSet;
 import static org.apiguardian.api.API.Status.DEPRECATED;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -61,8 +60,7 @@ import org.junit.platform.engine.reporting.OutputDirectoryProvider;
 public class TestPlan {
 
 	private final Set<TestIdentifier> roots = synchronizedSet(new LinkedHashSet<>(4));
-	private final Map<UniqueId, Set<TestIdentifier>> children = new ConcurrentHashMap<>(32);
-	private final Map<UniqueId, TestIdentifier> allIdentifiers = new ConcurrentHashMap<>(32);
+	private final TestPlanIndex index;
 
 	private final boolean containsTests;
 	private final ConfigurationParameters configurationParameters;
@@ -89,15 +87,21 @@ public class TestPlan {
 			ConfigurationParameters configurationParameters, OutputDirectoryProvider outputDirectoryProvider) {
 		Preconditions.notNull(engineDescriptors, "Cannot create TestPlan from a null collection of TestDescriptors");
 		Preconditions.notNull(configurationParameters, "Cannot create TestPlan from null ConfigurationParameters");
-		TestPlan testPlan = new TestPlan(containsTests, configurationParameters, outputDirectoryProvider);
-		TestDescriptor.Visitor visitor = descriptor -> testPlan.addInternal(TestIdentifier.from(descriptor));
-		engineDescriptors.forEach(engineDescriptor -> engineDescriptor.accept(visitor));
+		TestPlanIndex index = TestPlanIndex.build(engineDescriptors, new TestIdentifierInterner());
+		TestPlan testPlan = new TestPlan(containsTests, configurationParameters, outputDirectoryProvider, index);
+		testPlan.roots.addAll(index.getInitialRoots());
 		return testPlan;
 	}
 
 	@API(status = INTERNAL, since = "1.4")
 	protected TestPlan(boolean containsTests, ConfigurationParameters configurationParameters,
 			OutputDirectoryProvider outputDirectoryProvider) {
+		this(containsTests, configurationParameters, outputDirectoryProvider, new TestPlanIndex());
+	}
+
+	private TestPlan(boolean containsTests, ConfigurationParameters configurationParameters,
+			OutputDirectoryProvider outputDirectoryProvider, TestPlanIndex index) {
+		this.index = index;
 		this.containsTests = containsTests;
 		this.configurationParameters = configurationParameters;
 		this.outputDirectoryProvider = outputDirectoryProvider;
@@ -106,25 +110,12 @@ public class TestPlan {
 	@API(status = INTERNAL, since = "1.8")
 	public void addInternal(TestIdentifier testIdentifier) {
 		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
-		allIdentifiers.put(testIdentifier.getUniqueIdObject(), testIdentifier);
-
-		// Root identifiers. Typically, a test engine.
-		if (testIdentifier.getParentIdObject().isEmpty()) {
-			roots.add(testIdentifier);
-			return;
-		}
 
-		// Identifiers without a parent in this test plan. Could be a test
-		// engine that is used in a suite.
-		UniqueId parentId = testIdentifier.getParentIdObject().get();
-		if (!allIdentifiers.containsKey(parentId)) {
+		// Root identifiers, typically a test engine, and identifiers without
+		// a parent in this test plan, e.g. a test engine that is used in a suite.
+		if (index.add(testIdentifier)) {
 			roots.add(testIdentifier);
-			return;
 		}
-
-		Set<TestIdentifier> directChildren = children.computeIfAbsent(parentId,
-			key -> synchronizedSet(new LinkedHashSet<>(16)));
-		directChildren.add(testIdentifier);
 	}
 
 	/**
@@ -169,7 +160,8 @@ public class TestPlan {
 	 */
 	@API(status = MAINTAINED, since = "1.10")
 	public Set<TestIdentifier> getChildren(UniqueId parentId) {
-		return children.containsKey(parentId) ? unmodifiableSet(children.get(parentId)) : emptySet();
+		Set<TestIdentifier> children = index.getChildren(parentId);
+		return children == null ? emptySet() : children;
 	}
 
 	/**
@@ -201,7 +193,7 @@ public class TestPlan {
 	@API(status = MAINTAINED, since = "1.10")
 	public TestIdentifier getTestIdentifier(UniqueId uniqueId) {
 		Preconditions.notNull(uniqueId, () -> "uniqueId must not be null");
-		return Preconditions.notNull(allIdentifiers.get(uniqueId),
+		return Preconditions.notNull(index.get(uniqueId),
 			() -> "No TestIdentifier with unique ID [" + uniqueId + "] has been added to this TestPlan.");
 	}
 
@@ -215,25 +207,41 @@ public class TestPlan {
 	 */
 	public long countTestIdentifiers(Predicate<? super TestIdentifier> predicate) {
 		Preconditions.notNull(predicate, "Predicate must not be null");
-		return allIdentifiers.values().stream().filter(predicate).count();
+		return index.count(predicate);
+	}
+
+	/**
+	 * Count the {@link TestIdentifier TestIdentifiers} that
+	 * {@linkplain TestIdentifier#isTest() are tests} among the supplied
+	 * identifier and its descendants.
+	 *
+	 * <p>The counts are maintained as identifiers are added to the test
+	 * plan, including dynamically registered tests.
+	 *
+	 * @param parent the identifier to count the tests for; never {@code null}
+	 * @return the number of tests in the subtree of the supplied identifier
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public long countTests(TestIdentifier parent) {
+		Preconditions.notNull(parent, "parent must not be null");
+		long count = index.countTests(parent);
+		return count >= 0 ? count : (parent.isTest() ? 1 : 0);
 	}
 
 	/**
 	 * Get all descendants of the supplied {@link TestIdentifier} (i.e.,
 	 * all of its children and their children, recursively).
 	 *
+	 * <p>The descendants are returned in depth-first order.
+	 *
 	 * @param parent the identifier to look up the descendants for; never {@code null}
 	 * @return an unmodifiable set of the parent's descendants, potentially empty
 	 */
 	public Set<TestIdentifier> getDescendants(TestIdentifier parent) {
 		Preconditions.notNull(parent, "parent must not be null");
-		Set<TestIdentifier> result = new LinkedHashSet<>(16);
-		Set<TestIdentifier> children = getChildren(parent);
-		result.addAll(children);
-		for (TestIdentifier child : children) {
-			result.addAll(getDescendants(child));
-		}
-		return unmodifiableSet(result);
+		Set<TestIdentifier> descendants = index.getDescendants(parent);
+		return descendants == null ? emptySet() : descendants;
 	}
 
 	/**
@@ -0,0 +1,432 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.synchronizedList;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Index of the {@link TestIdentifier TestIdentifiers} in a {@link TestPlan}.
+ *
+ * <p>The identifiers present when discovery finished are stored in immutable
+ * arrays. Each of them is assigned an integer node ID according to its
+ * position in a depth-first, pre-order traversal of the tree. Hence, the
+ * descendants of a node occupy a contiguous range of node IDs that ends
+ * where the node's subtree ends. The parent node ID and the number of
+ * children and tests of each node are precomputed when the index is built.
+ *
+ * <p>Identifiers added afterwards, e.g. for dynamic tests, are kept in a
+ * separate overlay that records the children added to each parent and the
+ * number of tests added to each subtree. Sets of children and descendants
+ * are returned as views of the arrays unless identifiers have been added to
+ * the respective subtree, in which case they are returned as snapshots.
+ *
+ * <p>Identifiers may be added and queried concurrently. Additions are
+ * serialized while queries don't acquire any locks.
+ *
+ * @since 6.0
+ */
+final class TestPlanIndex {
+
+	private static final int NOT_FOUND = -1;
+
+	private final TestIdentifier[] identifiers;
+	private final int[] parents;
+	private final int[] subtreeEnds;
+	private final int[] childCounts;
+	private final int[] testCounts;
+	private final Map<UniqueId, Integer> nodeIds;
+
+	private final Map<UniqueId, TestIdentifier> addedIdentifiers = new ConcurrentHashMap<>();
+	private final Map<UniqueId, List<TestIdentifier>> addedChildren = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of tests added to the subtree of each identifier; identifiers
+	 * without added descendants have no entry.
+	 */
+	private final Map<UniqueId, Integer> addedTestCounts = new ConcurrentHashMap<>();
+
+	static TestPlanIndex build(Collection<TestDescriptor> engineDescriptors, TestIdentifierInterner interner) {
+		return new Builder(interner).build(engineDescriptors);
+	}
+
+	TestPlanIndex() {
+		this(new TestIdentifier[0], new int[0], new int[0], new int[0], new int[0]);
+	}
+
+	private TestPlanIndex(TestIdentifier[] identifiers, int[] parents, int[] subtreeEnds, int[] childCounts,
+			int[] testCounts) {
+		this.identifiers = identifiers;
+		this.parents = parents;
+		this.subtreeEnds = subtreeEnds;
+		this.childCounts = childCounts;
+		this.testCounts = testCounts;
+		this.nodeIds = new HashMap<>(Math.max(16, (int) (identifiers.length / 0.75f) + 1));
+		for (int nodeId = 0; nodeId < identifiers.length; nodeId++) {
+			this.nodeIds.put(identifiers[nodeId].getUniqueIdObject(), nodeId);
+		}
+	}
+
+	/**
+	 * Get the identifiers that were roots when this index was built.
+	 */
+	List<TestIdentifier> getInitialRoots() {
+		List<TestIdentifier> roots = new ArrayList<>();
+		for (int nodeId = 0; nodeId < this.identifiers.length; nodeId = this.subtreeEnds[nodeId]) {
+			roots.add(this.identifiers[nodeId]);
+		}
+		return roots;
+	}
+
+	/**
+	 * Add the supplied identifier as a child of its parent, if present.
+	 *
+	 * <p>Identifiers with a unique ID that has already been added are
+	 * ignored.
+	 *
+	 * @return {@code true} if the identifier was added and its parent is
+	 * not part of this index
+	 */
+	synchronized boolean add(TestIdentifier identifier) {
+		UniqueId uniqueId = identifier.getUniqueIdObject();
+		if (this.nodeIds.containsKey(uniqueId) || this.addedIdentifiers.putIfAbsent(uniqueId, identifier) != null) {
+			return false;
+		}
+		TestIdentifier parent = getParent(identifier);
+		if (parent == null) {
+			return true;
+		}
+		this.addedChildren.computeIfAbsent(parent.getUniqueIdObject(),
+			__ -> synchronizedList(new ArrayList<>())).add(identifier);
+		int testCount = identifier.isTest() ? 1 : 0;
+		for (TestIdentifier ancestor = parent; ancestor != null; ancestor = getParent(ancestor)) {
+			this.addedTestCounts.merge(ancestor.getUniqueIdObject(), testCount, Integer::sum);
+		}
+		return false;
+	}
+
+	@Nullable
+	TestIdentifier get(UniqueId uniqueId) {
+		Integer nodeId = this.nodeIds.get(uniqueId);
+		return nodeId == null ? this.addedIdentifiers.get(uniqueId) : this.identifiers[nodeId];
+	}
+
+	/**
+	 * Get the children of the identifier with the supplied unique ID as an
+	 * unmodifiable set, or {@code null} if it is not part of this index.
+	 */
+	@Nullable
+	Set<TestIdentifier> getChildren(UniqueId parentId) {
+		int nodeId = nodeId(parentId);
+		if (nodeId != NOT_FOUND && !this.addedChildren.containsKey(parentId)) {
+			return new Children(nodeId);
+		}
+		if (nodeId == NOT_FOUND && !this.addedIdentifiers.containsKey(parentId)) {
+			return null;
+		}
+		return unmodifiableSet(new LinkedHashSet<>(childrenOf(parentId)));
+	}
+
+	/**
+	 * Get the descendants of the supplied identifier in depth-first order as
+	 * an unmodifiable set, or {@code null} if it is not part of this index.
+	 */
+	@Nullable
+	Set<TestIdentifier> getDescendants(TestIdentifier parent) {
+		UniqueId parentId = parent.getUniqueIdObject();
+		int nodeId = nodeId(parentId);
+		if (nodeId != NOT_FOUND && !this.addedTestCounts.containsKey(parentId)) {
+			return new NodeRange(nodeId + 1, this.subtreeEnds[nodeId]);
+		}
+		if (nodeId == NOT_FOUND && !this.addedIdentifiers.containsKey(parentId)) {
+			return null;
+		}
+		Set<TestIdentifier> descendants = new LinkedHashSet<>();
+		collectDescendants(parentId, descendants);
+		return unmodifiableSet(descendants);
+	}
+
+	/**
+	 * Count the tests in the subtree of the supplied identifier, including
+	 * itself, or return {@code -1} if it is not part of this index.
+	 */
+	long countTests(TestIdentifier parent) {
+		UniqueId parentId = parent.getUniqueIdObject();
+		int nodeId = nodeId(parentId);
+		long count;
+		if (nodeId != NOT_FOUND) {
+			count = this.testCounts[nodeId];
+		}
+		else if (this.addedIdentifiers.containsKey(parentId)) {
+			count = parent.isTest() ? 1 : 0;
+		}
+		else {
+			return -1;
+		}
+		return count + this.addedTestCounts.getOrDefault(parentId, 0);
+	}
+
+	long count(Predicate<? super TestIdentifier> predicate) {
+		long count = 0;
+		for (TestIdentifier identifier : this.identifiers) {
+			if (predicate.test(identifier)) {
+				count++;
+			}
+		}
+		for (TestIdentifier identifier : this.addedIdentifiers.values()) {
+			if (predicate.test(identifier)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private int nodeId(UniqueId uniqueId) {
+		Integer nodeId = this.nodeIds.get(uniqueId);
+		return nodeId == null ? NOT_FOUND : nodeId;
+	}
+
+	private int nodeIdOf(Object object) {
+		if (object instanceof TestIdentifier identifier) {
+			int nodeId = nodeId(identifier.getUniqueIdObject());
+			if (nodeId != NOT_FOUND && this.identifiers[nodeId].equals(identifier)) {
+				return nodeId;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	private @Nullable TestIdentifier getParent(TestIdentifier child) {
+		int nodeId = nodeId(child.getUniqueIdObject());
+		if (nodeId != NOT_FOUND) {
+			int parentNodeId = this.parents[nodeId];
+			return parentNodeId == NOT_FOUND ? null : this.identifiers[parentNodeId];
+		}
+		UniqueId parentId = child.getParentIdObject().orElse(null);
+		return parentId == null ? null : get(parentId);
+	}
+
+	private List<TestIdentifier> childrenOf(UniqueId parentId) {
+		List<TestIdentifier> children = new ArrayList<>();
+		int nodeId = nodeId(parentId);
+		if (nodeId != NOT_FOUND) {
+			for (int child = nodeId + 1; child < this.subtreeEnds[nodeId]; child = this.subtreeEnds[child]) {
+				children.add(this.identifiers[child]);
+			}
+		}
+		List<TestIdentifier> added = this.addedChildren.get(parentId);
+		if (added != null) {
+			children.addAll(Arrays.asList(added.toArray(new TestIdentifier[0])));
+		}
+		return children;
+	}
+
+	private void collectDescendants(UniqueId parentId, Set<TestIdentifier> descendants) {
+		for (TestIdentifier child : childrenOf(parentId)) {
+			descendants.add(child);
+			UniqueId childId = child.getUniqueIdObject();
+			int nodeId = nodeId(childId);
+			if (nodeId != NOT_FOUND && !this.addedTestCounts.containsKey(childId)) {
+				descendants.addAll(Arrays.asList(this.identifiers).subList(nodeId + 1, this.subtreeEnds[nodeId]));
+			}
+			else {
+				collectDescendants(childId, descendants);
+			}
+		}
+	}
+
+	private static class Builder {
+
+		private final TestIdentifierInterner interner;
+		private final Set<UniqueId> uniqueIds = new HashSet<>();
+
+		private TestIdentifier[] identifiers = new TestIdentifier[64];
+		private int[] parents = new int[64];
+		private int[] subtreeEnds = new int[64];
+		private int[] childCounts = new int[64];
+		private int[] testCounts = new int[64];
+		private int size;
+
+		Builder(TestIdentifierInterner interner) {
+			this.interner = interner;
+		}
+
+		TestPlanIndex build(Collection<TestDescriptor> engineDescriptors) {
+			// pending.get(depth) iterates over the children of path[depth - 1]
+			List<Iterator<? extends TestDescriptor>> pending = new ArrayList<>();
+			int[] path = new int[16];
+			int depth = 0;
+			pending.add(engineDescriptors.iterator());
+			while (depth >= 0) {
+				Iterator<? extends TestDescriptor> siblings = pending.get(depth);
+				if (siblings.hasNext()) {
+					TestDescriptor descriptor = siblings.next();
+					if (!this.uniqueIds.add(descriptor.getUniqueId())) {
+						continue;
+					}
+					if (depth == path.length) {
+						path = Arrays.copyOf(path, depth * 2);
+					}
+					path[depth] = add(TestIdentifier.from(descriptor, this.interner),
+						depth == 0 ? NOT_FOUND : path[depth - 1]);
+					depth++;
+					Iterator<? extends TestDescriptor> children = descriptor.getChildren().iterator();
+					if (depth == pending.size()) {
+						pending.add(children);
+					}
+					else {
+						pending.set(depth, children);
+					}
+				}
+				else if (--depth >= 0) {
+					finish(path[depth]);
+				}
+			}
+			return new TestPlanIndex(Arrays.copyOf(this.identifiers, this.size),
+				Arrays.copyOf(this.parents, this.size), Arrays.copyOf(this.subtreeEnds, this.size),
+				Arrays.copyOf(this.childCounts, this.size), Arrays.copyOf(this.testCounts, this.size));
+		}
+
+		private int add(TestIdentifier identifier, int parent) {
+			if (this.size == this.identifiers.length) {
+				int capacity = this.size * 2;
+				this.identifiers = Arrays.copyOf(this.identifiers, capacity);
+				this.parents = Arrays.copyOf(this.parents, capacity);
+				this.subtreeEnds = Arrays.copyOf(this.subtreeEnds, capacity);
+				this.childCounts = Arrays.copyOf(this.childCounts, capacity);
+				this.testCounts = Arrays.copyOf(this.testCounts, capacity);
+			}
+			int nodeId = this.size++;
+			this.identifiers[nodeId] = identifier;
+			this.parents[nodeId] = parent;
+			return nodeId;
+		}
+
+		private void finish(int nodeId) {
+			// all descendants have been added at this point
+			int childCount = 0;
+			int testCount = this.identifiers[nodeId].isTest() ? 1 : 0;
+			for (int child = nodeId + 1; child < this.size; child = this.subtreeEnds[child]) {
+				childCount++;
+				testCount += this.testCounts[child];
+			}
+			this.subtreeEnds[nodeId] = this.size;
+			this.childCounts[nodeId] = childCount;
+			this.testCounts[nodeId] = testCount;
+		}
+	}
+
+	private final class Children extends AbstractSet<TestIdentifier> {
+
+		private final int parent;
+
+		Children(int parent) {
+			this.parent = parent;
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			return new Iterator<>() {
+
+				private int next = parent + 1;
+
+				@Override
+				public boolean hasNext() {
+					return this.next < subtreeEnds[parent];
+				}
+
+				@Override
+				public TestIdentifier next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					int current = this.next;
+					this.next = subtreeEnds[current];
+					return identifiers[current];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return childCounts[this.parent];
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			int nodeId = nodeIdOf(object);
+			return nodeId != NOT_FOUND && parents[nodeId] == this.parent;
+		}
+	}
+
+	private final class NodeRange extends AbstractSet<TestIdentifier> {
+
+		private final int start;
+		private final int end;
+
+		NodeRange(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			return new Iterator<>() {
+
+				private int next = start;
+
+				@Override
+				public boolean hasNext() {
+					return this.next < end;
+				}
+
+				@Override
+				public TestIdentifier next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return identifiers[this.next++];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return this.end - this.start;
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			int nodeId = nodeIdOf(object);
+			return nodeId >= this.start && nodeId < this.end;
+		}
+	}
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that publishes events to a lock-free queue
+ * which a dedicated thread drains to its delegate.
+ *
+ * <p>Since there's only a single dispatcher thread, the delegate receives
+ * all events in the order in which they were published. Whenever the thread
+ * is woken up, it dispatches all events that have been published in the
+ * meantime in one batch before parking again.
+ *
+ * <p>All events are dispatched before
+ * {@link #testPlanExecutionFinished(TestPlan)} returns. Afterwards, the
+ * dispatcher thread is stopped and the listener must not be used anymore.
+ *
+ * @since 6.0
+ * @see org.junit.platform.launcher.LauncherConstants#ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME
+ */
+class AsynchronousTestExecutionListener implements TestExecutionListener {
+
+	private final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+	private final TestExecutionListener delegate;
+	private final Thread dispatcher;
+
+	private volatile boolean closed;
+	private volatile @Nullable Throwable failure;
+
+	static Optional<AsynchronousTestExecutionListener> create(ConfigurationParameters configurationParameters,
+			TestExecutionListener delegate) {
+		boolean enabled = configurationParameters.getBoolean(ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+		if (!enabled) {
+			return Optional.empty();
+		}
+		AsynchronousTestExecutionListener listener = new AsynchronousTestExecutionListener(delegate);
+		listener.dispatcher.start();
+		return Optional.of(listener);
+	}
+
+	private AsynchronousTestExecutionListener(TestExecutionListener delegate) {
+		this.delegate = delegate;
+		this.dispatcher = new Thread(this::dispatchEvents, "junit-listener-dispatcher");
+		this.dispatcher.setDaemon(true);
+		this.dispatcher.setContextClassLoader(Thread.currentThread().getContextClassLoader());
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		publish(() -> delegate.testPlanExecutionStarted(testPlan));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		publish(() -> delegate.testPlanExecutionFinished(testPlan));
+		close();
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		publish(() -> delegate.dynamicTestRegistered(testIdentifier));
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		publish(() -> delegate.executionSkipped(testIdentifier, reason));
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		publish(() -> delegate.executionStarted(testIdentifier));
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		publish(() -> delegate.executionFinished(testIdentifier, testExecutionResult));
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		publish(() -> delegate.reportingEntryPublished(testIdentifier, entry));
+	}
+
+	@Override
+	public void fileEntryPublished(TestIdentifier testIdentifier, FileEntry file) {
+		publish(() -> delegate.fileEntryPublished(testIdentifier, file));
+	}
+
+	private void publish(Runnable event) {
+		if (this.failure == null) {
+			this.events.add(event);
+			LockSupport.unpark(this.dispatcher);
+		}
+	}
+
+	/**
+	 * Dispatch all remaining events, stop the dispatcher thread, and wait
+	 * for it to terminate.
+	 *
+	 * <p>Rethrows any unrecoverable exception that was thrown by the delegate.
+	 */
+	void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		LockSupport.unpark(this.dispatcher);
+		boolean interrupted = false;
+		while (this.dispatcher.isAlive()) {
+			try {
+				this.dispatcher.join();
+			}
+			catch (InterruptedException ex) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		Throwable failure = this.failure;
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+	}
+
+	private void dispatchEvents() {
+		try {
+			while (true) {
+				boolean closed = this.closed;
+				Runnable event;
+				while ((event = this.events.poll()) != null) {
+					event.run();
+				}
+				if (closed) {
+					return;
+				}
+				LockSupport.park(this);
+			}
+		}
+		catch (Throwable throwable) {
+			// CompositeTestExecutionListener only lets unrecoverable exceptions through
+			this.failure = throwable;
+			this.events.clear();
+		}
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.platform.engine.DiscoveryIssue;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.SelectorResolutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.EngineDiscoveryResult;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
+
+/**
+ * {@link LauncherDiscoveryListener} that forwards all engine-level events to
+ * a thread-confined {@link DiscoveryIssueCollector} and records them so they
+ * can later be replayed to another listener in their original order.
+ *
+ * <p>Used to discover tests in multiple engines concurrently while still
+ * notifying the registered listeners one engine after another.
+ *
+ * @since 6.0
+ */
+class BufferingLauncherDiscoveryListener implements LauncherDiscoveryListener {
+
+	private final List<Consumer<LauncherDiscoveryListener>> events = new ArrayList<>();
+	private final DiscoveryIssueCollector issueCollector;
+
+	BufferingLauncherDiscoveryListener(DiscoveryIssueCollector issueCollector) {
+		this.issueCollector = issueCollector;
+	}
+
+	@Override
+	public void engineDiscoveryStarted(UniqueId engineId) {
+		issueCollector.engineDiscoveryStarted(engineId);
+		record(listener -> listener.engineDiscoveryStarted(engineId));
+	}
+
+	@Override
+	public void engineDiscoveryFinished(UniqueId engineId, EngineDiscoveryResult result) {
+		issueCollector.engineDiscoveryFinished(engineId, result);
+		record(listener -> listener.engineDiscoveryFinished(engineId, result));
+	}
+
+	@Override
+	public void selectorProcessed(UniqueId engineId, DiscoverySelector selector, SelectorResolutionResult result) {
+		issueCollector.selectorProcessed(engineId, selector, result);
+		record(listener -> listener.selectorProcessed(engineId, selector, result));
+	}
+
+	@Override
+	public void issueEncountered(UniqueId engineId, DiscoveryIssue issue) {
+		issueCollector.issueEncountered(engineId, issue);
+		record(listener -> listener.issueEncountered(engineId, issue));
+	}
+
+	private synchronized void record(Consumer<LauncherDiscoveryListener> event) {
+		this.events.add(event);
+	}
+
+	/**
+	 * Replay all recorded events to the supplied listener.
+	 */
+	synchronized void replayTo(LauncherDiscoveryListener listener) {
+		this.events.forEach(event -> event.accept(listener));
+		this.events.clear();
+	}
+
+}
@@ -17,8 +17,12 @@ import static org.junit.platform.launcher.core.LauncherPhase.EXECUTION;
 
 import java.util.Collection;
 
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
@@ -42,6 +46,8 @@ import org.junit.platform.launcher.TestPlan;
  */
 class DefaultLauncher implements Launcher {
 
+	private static final Logger logger = LoggerFactory.getLogger(DefaultLauncher.class);
+
 	private final LauncherListenerRegistry listenerRegistry = new LauncherListenerRegistry();
 	private final EngineExecutionOrchestrator executionOrchestrator = new EngineExecutionOrchestrator(
 		listenerRegistry.testExecutionListeners);
@@ -99,8 +105,31 @@ class DefaultLauncher implements Launcher {
 			launcherExecutionRequest.getCancellationToken());
 	}
 
+	/**
+	 * Warm up this launcher and its test engines by discovering an empty
+	 * request so that the classes needed for discovery are loaded and
+	 * initialized in advance.
+	 *
+	 * <p>Registered {@link LauncherDiscoveryListener LauncherDiscoveryListeners}
+	 * are notified about the warm-up discovery like any other one.
+	 *
+	 * @see org.junit.platform.launcher.LauncherConstants#SESSION_WARM_UP_ENABLED_PROPERTY_NAME
+	 */
+	void warmUp(ConfigurationParameters configurationParameters) {
+		try {
+			discover(LauncherDiscoveryRequestBuilder.request() //
+					.parentConfigurationParameters(configurationParameters) //
+					.enableImplicitConfigurationParameters(false) //
+					.build(), DISCOVERY);
+		}
+		catch (Throwable throwable) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+			logger.debug(throwable, () -> "Failed to warm up launcher");
+		}
+	}
+
 	private LauncherDiscoveryResult discover(LauncherDiscoveryRequest discoveryRequest, LauncherPhase phase) {
-		return discoveryOrchestrator.discover(discoveryRequest, phase);
+		return discoveryOrchestrator.discover(discoveryRequest, phase, sessionLevelStore);
 	}
 
 	private void execute(InternalTestPlan internalTestPlan, Collection<? extends TestExecutionListener> listeners,
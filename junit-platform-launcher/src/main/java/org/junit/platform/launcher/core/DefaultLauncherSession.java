@@ -12,11 +12,17 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.platform.engine.support.store.NamespacedHierarchicalStore.CloseAction.closeAutoCloseables;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.junit.platform.launcher.Launcher;
@@ -34,6 +40,8 @@ import org.junit.platform.launcher.TestPlan;
  */
 class DefaultLauncherSession implements LauncherSession {
 
+	private static final Logger logger = LoggerFactory.getLogger(DefaultLauncherSession.class);
+
 	private static final LauncherInterceptor NOOP_INTERCEPTOR = new LauncherInterceptor() {
 		@Override
 		public <T> T intercept(Invocation<T> invocation) {
@@ -50,27 +58,48 @@ class DefaultLauncherSession implements LauncherSession {
 		closeAutoCloseables());
 	private final LauncherInterceptor interceptor;
 	private final LauncherSessionListener listener;
-	private final DelegatingLauncher launcher;
+	private final Function<NamespacedHierarchicalStore<Namespace>, Launcher> launcherFactory;
+	private final BooleanSupplier launcherOutdated;
+	private final SessionLauncher launcher;
 
 	DefaultLauncherSession(List<LauncherInterceptor> interceptors, //
 			Supplier<LauncherSessionListener> listenerSupplier, //
 			Function<NamespacedHierarchicalStore<Namespace>, Launcher> launcherFactory //
 	) {
-		interceptor = composite(interceptors);
-		Launcher launcher;
+		this(interceptors, listenerSupplier, launcherFactory, () -> false);
+	}
+
+	/**
+	 * @param launcherOutdated determines whether the launcher needs to be
+	 * recreated via the supplied factory when this session is
+	 * {@linkplain #invalidate(Set) invalidated}, for example, because the
+	 * configuration it was created with has changed
+	 */
+	DefaultLauncherSession(List<LauncherInterceptor> interceptors, //
+			Supplier<LauncherSessionListener> listenerSupplier, //
+			Function<NamespacedHierarchicalStore<Namespace>, Launcher> launcherFactory, //
+			BooleanSupplier launcherOutdated //
+	) {
+		this.interceptor = composite(interceptors);
+		this.launcherFactory = launcherFactory;
+		this.launcherOutdated = launcherOutdated;
 		if (interceptor == NOOP_INTERCEPTOR) {
 			this.listener = listenerSupplier.get();
-			launcher = launcherFactory.apply(this.store);
 		}
 		else {
 			this.listener = interceptor.intercept(listenerSupplier::get);
-			launcher = new InterceptingLauncher(interceptor.intercept(() -> launcherFactory.apply(this.store)),
-				interceptor);
 		}
-		this.launcher = new DelegatingLauncher(launcher);
+		this.launcher = new SessionLauncher(createLauncher());
 		listener.launcherSessionOpened(this);
 	}
 
+	private Launcher createLauncher() {
+		if (interceptor == NOOP_INTERCEPTOR) {
+			return launcherFactory.apply(this.store);
+		}
+		return new InterceptingLauncher(interceptor.intercept(() -> launcherFactory.apply(this.store)), interceptor);
+	}
+
 	@Override
 	public Launcher getLauncher() {
 		return launcher;
@@ -95,6 +124,56 @@ class DefaultLauncherSession implements LauncherSession {
 		return store;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>In addition, the launcher of this session is recreated if the
+	 * configuration it was created with is outdated, for example, because the
+	 * {@value org.junit.platform.engine.ConfigurationParameters#CONFIG_FILE_NAME}
+	 * file has been modified. Listeners registered via {@link #getLauncher()}
+	 * are registered with the new launcher as well.
+	 */
+	@Override
+	public void invalidate(Set<String> changedClassNames) {
+		LauncherSession.super.invalidate(changedClassNames);
+		if (launcher.delegate != ClosedLauncher.INSTANCE && launcherOutdated.getAsBoolean()) {
+			logger.config(() -> "Recreating launcher of session since its configuration has changed");
+			launcher.replaceDelegate(createLauncher());
+		}
+	}
+
+	/**
+	 * Remembers all registered listeners so they can be registered with a
+	 * recreated launcher.
+	 */
+	private static class SessionLauncher extends DelegatingLauncher {
+
+		private final List<LauncherDiscoveryListener> discoveryListeners = new ArrayList<>();
+		private final List<TestExecutionListener> executionListeners = new ArrayList<>();
+
+		SessionLauncher(Launcher delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public void registerLauncherDiscoveryListeners(LauncherDiscoveryListener... listeners) {
+			super.registerLauncherDiscoveryListeners(listeners);
+			discoveryListeners.addAll(Arrays.asList(listeners));
+		}
+
+		@Override
+		public void registerTestExecutionListeners(TestExecutionListener... listeners) {
+			super.registerTestExecutionListeners(listeners);
+			executionListeners.addAll(Arrays.asList(listeners));
+		}
+
+		void replaceDelegate(Launcher launcher) {
+			launcher.registerLauncherDiscoveryListeners(discoveryListeners.toArray(new LauncherDiscoveryListener[0]));
+			launcher.registerTestExecutionListeners(executionListeners.toArray(new TestExecutionListener[0]));
+			this.delegate = launcher;
+		}
+	}
+
 	private static class ClosedLauncher implements Launcher {
 
 		static final ClosedLauncher INSTANCE = new ClosedLauncher();
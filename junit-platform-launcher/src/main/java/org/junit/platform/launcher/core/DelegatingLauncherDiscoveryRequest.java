@@ -11,11 +11,14 @@
 package org.junit.platform.launcher.core;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.reporting.OutputDirectoryProvider;
+import org.junit.platform.engine.support.store.Namespace;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.junit.platform.launcher.EngineFilter;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
@@ -66,4 +69,9 @@ class DelegatingLauncherDiscoveryRequest implements LauncherDiscoveryRequest {
 	public OutputDirectoryProvider getOutputDirectoryProvider() {
 		return this.request.getOutputDirectoryProvider();
 	}
+
+	@Override
+	public Optional<NamespacedHierarchicalStore<Namespace>> getSessionStore() {
+		return this.request.getSessionStore();
+	}
 }
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.DiscoverySelectorIdentifier;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.discovery.ModuleSelector;
+import org.junit.platform.engine.discovery.PackageNameFilter;
+import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+
+/**
+ * Persistent cache of the unique IDs discovered by each {@link TestEngine}
+ * for a {@link LauncherDiscoveryRequest} that scans the classpath or the
+ * module path.
+ *
+ * <p>The snapshot is stored in the file configured via
+ * {@value LauncherConstants#DISCOVERY_CACHE_FILE_PROPERTY_NAME} along with
+ * a key that is derived from the request's selectors; its discovery filters,
+ * which must be built-in {@link ClassNameFilter ClassNameFilters} or
+ * {@link PackageNameFilter PackageNameFilters}, and engine filters; the
+ * configuration parameters whose keys start with {@code junit.}; the IDs and
+ * versions of all registered test engines; the paths of the entries on the
+ * classpath and module path and the sizes and modification times of
+ * archives among them; and the sizes and modification times of the files
+ * in the selected classpath roots and in the directories of selected
+ * packages. Archives are not opened and other directories are not visited.
+ * If the key of a snapshot matches the one of a subsequent request, engines
+ * are asked to resolve {@link UniqueIdSelector UniqueIdSelectors} for the
+ * cached IDs instead of scanning for tests.
+ *
+ * <p>Only the children of each engine's root descriptor are stored so that
+ * engines still create their descriptors and report any discovery issues.
+ * Hence, engines still load and inspect the cached classes; only scanning
+ * the classpath for them is avoided.
+ *
+ * @since 6.0
+ * @see LauncherConstants#DISCOVERY_CACHE_FILE_PROPERTY_NAME
+ */
+final class DiscoveryCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(DiscoveryCache.class);
+
+	private static final String ROOT_PACKAGE_PATH = "";
+
+	private static final String JUNIT_PARAMETER_PREFIX = "junit.";
+
+	private final Path file;
+	private final String key;
+
+	/**
+	 * Create a {@code DiscoveryCache} for the supplied request, if it is
+	 * enabled and all of the request's selectors are eligible for caching.
+	 */
+	static Optional<DiscoveryCache> create(LauncherDiscoveryRequest request, Iterable<TestEngine> testEngines) {
+		Optional<Path> file = getFile(request.getConfigurationParameters());
+		if (file.isEmpty()) {
+			return Optional.empty();
+		}
+		List<DiscoverySelector> selectors = request.getSelectorsByType(DiscoverySelector.class);
+		if (selectors.isEmpty() || !selectors.stream().allMatch(DiscoveryCache::isCacheable)) {
+			logger.debug(() -> "Not using discovery cache since the request contains selectors other than "
+					+ "classpath root, package, or module selectors.");
+			return Optional.empty();
+		}
+		if (!request.getFiltersByType(DiscoveryFilter.class).stream().allMatch(DiscoveryCache::isCacheable)) {
+			logger.debug(() -> "Not using discovery cache since the request contains discovery filters other than "
+					+ "built-in class name or package name filters.");
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(new DiscoveryCache(file.get(), computeKey(request, selectors, testEngines)));
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Failed to compute key for discovery cache " + file.get().toAbsolutePath());
+			return Optional.empty();
+		}
+	}
+
+	static Optional<Path> getFile(ConfigurationParameters configurationParameters) {
+		return configurationParameters.get(LauncherConstants.DISCOVERY_CACHE_FILE_PROPERTY_NAME) //
+				.map(String::strip) //
+				.filter(path -> !path.isEmpty()) //
+				.map(Path::of);
+	}
+
+	private static boolean isCacheable(DiscoverySelector selector) {
+		return (selector instanceof ClasspathRootSelector || selector instanceof PackageSelector
+				|| selector instanceof ModuleSelector) && selector.toIdentifier().isPresent();
+	}
+
+	private static boolean isCacheable(DiscoveryFilter<?> filter) {
+		return (filter instanceof ClassNameFilter || filter instanceof PackageNameFilter)
+				&& filter.getClass().getPackageName().equals(ClassNameFilter.class.getPackageName());
+	}
+
+	DiscoveryCache(Path file, String key) {
+		this.file = file;
+		this.key = key;
+	}
+
+	/**
+	 * Read the snapshot stored in the cache file.
+	 *
+	 * @return the cached unique IDs of the children of each engine's root
+	 * descriptor keyed by engine ID; empty if the file does not exist, cannot
+	 * be read, or was written for a different key
+	 */
+	Optional<Map<String, List<UniqueId>>> read() {
+		if (!Files.exists(this.file)) {
+			return Optional.empty();
+		}
+		try (BufferedReader reader = Files.newBufferedReader(this.file, UTF_8)) {
+			if (!this.key.equals(reader.readLine())) {
+				logger.debug(() -> "Discovery cache " + this.file.toAbsolutePath() + " is stale");
+				return Optional.empty();
+			}
+			Map<String, List<UniqueId>> uniqueIdsByEngineId = new LinkedHashMap<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				UniqueId uniqueId = UniqueId.parse(line);
+				String engineId = uniqueId.getEngineId().orElseThrow(
+					() -> new JUnitException("Unique ID without engine segment: " + uniqueId));
+				List<UniqueId> uniqueIds = uniqueIdsByEngineId.computeIfAbsent(engineId, __ -> new ArrayList<>());
+				if (uniqueId.getSegments().size() > 1) {
+					uniqueIds.add(uniqueId);
+				}
+			}
+			logger.debug(() -> "Using discovery cache " + this.file.toAbsolutePath());
+			return Optional.of(uniqueIdsByEngineId);
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Failed to read discovery cache " + this.file.toAbsolutePath());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Write a snapshot of the children of the supplied engine root
+	 * descriptors to the cache file, replacing its contents.
+	 */
+	void write(List<TestDescriptor> engineDescriptors) {
+		try {
+			Path directory = this.file.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			Path tempFile = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+			try {
+				try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+					writer.write(this.key);
+					writer.newLine();
+					for (TestDescriptor engineDescriptor : engineDescriptors) {
+						writer.write(engineDescriptor.getUniqueId().toString());
+						writer.newLine();
+						for (TestDescriptor child : engineDescriptor.getChildren()) {
+							writer.write(child.getUniqueId().toString());
+							writer.newLine();
+						}
+					}
+				}
+				Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+			logger.debug(() -> "Wrote discovery cache " + this.file.toAbsolutePath());
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Failed to write discovery cache " + this.file.toAbsolutePath());
+		}
+	}
+
+	/**
+	 * Create a request that selects the supplied unique IDs instead of the
+	 * selectors of the supplied request.
+	 */
+	static LauncherDiscoveryRequest withCachedSelectors(LauncherDiscoveryRequest request, List<UniqueId> uniqueIds) {
+		List<UniqueIdSelector> selectors = uniqueIds.stream().map(uniqueId -> selectUniqueId(uniqueId)).toList();
+		return new DelegatingLauncherDiscoveryRequest(request) {
+			@Override
+			public <T extends DiscoverySelector> List<T> getSelectorsByType(Class<T> selectorType) {
+				return selectors.stream() //
+						.filter(selectorType::isInstance) //
+						.map(selectorType::cast) //
+						.collect(toList());
+			}
+		};
+	}
+
+	private static String computeKey(LauncherDiscoveryRequest request, List<DiscoverySelector> selectors,
+			Iterable<TestEngine> testEngines) throws NoSuchAlgorithmException, IOException {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		for (DiscoverySelector selector : selectors) {
+			update(digest, "selector", selector.toIdentifier().map(DiscoverySelectorIdentifier::toString).orElse(""));
+		}
+		for (DiscoveryFilter<?> filter : request.getFiltersByType(DiscoveryFilter.class)) {
+			// the string representations of the built-in filters contain their patterns or package names
+			update(digest, "filter", filter.toString());
+		}
+		for (EngineFilter filter : request.getEngineFilters()) {
+			update(digest, "engineFilter", filter.getClass().getName() + ":" + filter.isIncludeFilter() + ":"
+					+ String.join(",", filter.getEngineIds()));
+		}
+		for (TestEngine testEngine : testEngines) {
+			update(digest, "engine", testEngine.getId() + ":" + testEngine.getVersion().orElse(""));
+		}
+		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+		for (String key : new TreeSet<>(configurationParameters.keySet())) {
+			if (key.startsWith(JUNIT_PARAMETER_PREFIX)) {
+				update(digest, "parameter", key + "=" + configurationParameters.get(key).orElse(""));
+			}
+		}
+		List<String> packagePaths = getPackagePaths(selectors);
+		for (Path entry : getPathEntries("java.class.path")) {
+			fingerprint(digest, entry, packagePaths);
+		}
+		boolean modulesSelected = selectors.stream().anyMatch(ModuleSelector.class::isInstance);
+		for (Path entry : getPathEntries("jdk.module.path")) {
+			fingerprint(digest, entry, modulesSelected ? List.of(ROOT_PACKAGE_PATH) : packagePaths);
+		}
+		for (DiscoverySelector selector : selectors) {
+			if (selector instanceof ClasspathRootSelector classpathRootSelector) {
+				fingerprint(digest, Path.of(classpathRootSelector.getClasspathRoot()), List.of(ROOT_PACKAGE_PATH));
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static List<String> getPackagePaths(List<DiscoverySelector> selectors) {
+		return selectors.stream() //
+				.filter(PackageSelector.class::isInstance) //
+				.map(selector -> ((PackageSelector) selector).getPackageName().replace('.', '/')) //
+				.distinct() //
+				.toList();
+	}
+
+	private static List<Path> getPathEntries(String property) {
+		List<Path> entries = new ArrayList<>();
+		for (String entry : System.getProperty(property, "").split(File.pathSeparator)) {
+			if (!entry.isBlank()) {
+				entries.add(Path.of(entry));
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Fingerprint the supplied classpath or module path entry.
+	 *
+	 * <p>Archives and directories are identified by their path. In addition,
+	 * archives are fingerprinted by their size and modification time without
+	 * reading their entries, while only the files in the subdirectories of
+	 * directories that correspond to the supplied package paths are
+	 * fingerprinted by their sizes and modification times.
+	 */
+	private static void fingerprint(MessageDigest digest, Path entry, List<String> packagePaths) throws IOException {
+		if (!Files.exists(entry)) {
+			update(digest, "missing", entry.toString());
+			return;
+		}
+		update(digest, "root", entry.toAbsolutePath().toString());
+		if (!Files.isDirectory(entry)) {
+			update(digest, "file", fingerprint(Files.readAttributes(entry, BasicFileAttributes.class)));
+			return;
+		}
+		Map<String, String> files = new TreeMap<>();
+		for (String packagePath : packagePaths) {
+			Path directory = entry.resolve(packagePath);
+			if (Files.isDirectory(directory)) {
+				Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+					@Override
+					public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+						files.put(entry.relativize(file).toString().replace(File.separatorChar, '/'),
+							fingerprint(attributes));
+						return FileVisitResult.CONTINUE;
+					}
+				});
+			}
+		}
+		files.forEach((path, fingerprint) -> update(digest, path, fingerprint));
+	}
+
+	private static String fingerprint(BasicFileAttributes attributes) {
+		return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+	}
+
+	private static void update(MessageDigest digest, String type, String value) {
+		digest.update(type.getBytes(UTF_8));
+		digest.update((byte) 0);
+		digest.update(value.getBytes(UTF_8));
+		digest.update((byte) '\n');
+	}
+
+}
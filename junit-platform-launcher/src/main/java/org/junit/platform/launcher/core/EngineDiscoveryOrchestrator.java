@@ -21,12 +21,19 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.Filter;
@@ -35,11 +42,16 @@ import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.store.Namespace;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.junit.platform.launcher.EngineDiscoveryResult;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.ShardFilter;
 import org.junit.platform.launcher.core.LauncherDiscoveryResult.EngineResultInfo;
+import org.junit.platform.launcher.listeners.IncrementalTestSelectionFilter;
 
 /**
  * Orchestrates test discovery using the configured test engines.
@@ -77,11 +89,14 @@ public class EngineDiscoveryOrchestrator {
 	 * {@linkplain TestDescriptor#prune() prunes} the resulting test tree.
 	 */
 	public LauncherDiscoveryResult discover(LauncherDiscoveryRequest request) {
-		return discover(request, Optional.empty(), UniqueId::forEngine);
+		return discover(request, Optional.empty(), UniqueId::forEngine, DiscoveryCache.create(request, testEngines),
+			Optional.empty(), true);
 	}
 
-	LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, LauncherPhase phase) {
-		return discover(request, Optional.of(phase), UniqueId::forEngine);
+	LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, LauncherPhase phase,
+			NamespacedHierarchicalStore<Namespace> sessionLevelStore) {
+		return discover(request, Optional.of(phase), UniqueId::forEngine, DiscoveryCache.create(request, testEngines),
+			Optional.of(sessionLevelStore), true);
 	}
 
 	/**
@@ -97,14 +112,20 @@ public class EngineDiscoveryOrchestrator {
 	 * the returned result. As such execution by
 	 * {@link EngineExecutionOrchestrator} will not emit start or emit events
 	 * for engines without tests.
+	 *
+	 * <p>Since the tests discovered by the suite engine are already subject to
+	 * the {@link ShardFilter} and {@link IncrementalTestSelectionFilter} of
+	 * the enclosing discovery, they are not applied again.
 	 */
 	public LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, UniqueId parentId) {
-		LauncherDiscoveryResult result = discover(request, Optional.empty(), parentId::appendEngine);
+		LauncherDiscoveryResult result = discover(request, Optional.empty(), parentId::appendEngine, Optional.empty(),
+			Optional.empty(), false);
 		return result.withRetainedEngines(TestDescriptor::containsTests);
 	}
 
 	private LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, Optional<LauncherPhase> phase,
-			Function<String, UniqueId> uniqueIdCreator) {
+			Function<String, UniqueId> uniqueIdCreator, Optional<DiscoveryCache> discoveryCache,
+			Optional<NamespacedHierarchicalStore<Namespace>> sessionLevelStore, boolean topLevel) {
 		DiscoveryIssueCollector issueCollector = new DiscoveryIssueCollector(request.getConfigurationParameters());
 		LauncherDiscoveryListener listener = getLauncherDiscoveryListener(request, issueCollector);
 		LauncherDiscoveryRequest delegatingRequest = new DelegatingLauncherDiscoveryRequest(request) {
@@ -112,12 +133,17 @@ public class EngineDiscoveryOrchestrator {
 			public LauncherDiscoveryListener getDiscoveryListener() {
 				return listener;
 			}
+
+			@Override
+			public Optional<NamespacedHierarchicalStore<Namespace>> getSessionStore() {
+				return sessionLevelStore.isPresent() ? sessionLevelStore : super.getSessionStore();
+			}
 		};
 		listener.launcherDiscoveryStarted(request);
 		LauncherDiscoveryResult discoveryResult;
 		try {
 			Map<TestEngine, EngineResultInfo> testEngineResults = discoverSafely(delegatingRequest, phase,
-				issueCollector, uniqueIdCreator);
+				issueCollector, uniqueIdCreator, discoveryCache, topLevel);
 			discoveryResult = new LauncherDiscoveryResult(testEngineResults, request.getConfigurationParameters(),
 				request.getOutputDirectoryProvider());
 		}
@@ -155,9 +181,11 @@ public class EngineDiscoveryOrchestrator {
 
 	private Map<TestEngine, EngineResultInfo> discoverSafely(LauncherDiscoveryRequest request,
 			Optional<LauncherPhase> phase, DiscoveryIssueCollector issueCollector,
-			Function<String, UniqueId> uniqueIdCreator) {
+			Function<String, UniqueId> uniqueIdCreator, Optional<DiscoveryCache> discoveryCache, boolean topLevel) {
 		Map<TestEngine, EngineResultInfo> testEngineDescriptors = new LinkedHashMap<>();
 		EngineFilterer engineFilterer = new EngineFilterer(request.getEngineFilters());
+		Map<String, List<UniqueId>> cachedUniqueIds = discoveryCache.flatMap(DiscoveryCache::read).orElse(null);
+		List<TestEngine> includedTestEngines = new ArrayList<>();
 
 		for (TestEngine testEngine : this.testEngines) {
 			boolean engineIsExcluded = engineFilterer.isExcluded(testEngine);
@@ -168,17 +196,34 @@ public class EngineDiscoveryOrchestrator {
 				continue;
 			}
 
-			logger.debug(() -> "Discovering tests%s in engine '%s'.".formatted(
-				phase.map(" during Launcher %s phase"::formatted).orElse(""), testEngine.getId()));
+			includedTestEngines.add(testEngine);
+		}
 
-			EngineResultInfo engineResult = discoverEngineRoot(testEngine, request, issueCollector, uniqueIdCreator);
-			testEngineDescriptors.put(testEngine, engineResult);
+		if (includedTestEngines.size() > 1 && isParallelDiscoveryEnabled(request)) {
+			discoverConcurrently(includedTestEngines, request, phase, uniqueIdCreator, cachedUniqueIds,
+				testEngineDescriptors);
+		}
+		else {
+			for (TestEngine testEngine : includedTestEngines) {
+				logDiscoveryStart(testEngine, phase);
+				EngineResultInfo engineResult = discoverEngineRoot(testEngine,
+					getEngineRequest(testEngine, request, cachedUniqueIds), issueCollector, uniqueIdCreator);
+				testEngineDescriptors.put(testEngine, engineResult);
+			}
 		}
 
 		engineFilterer.performSanityChecks();
 
+		if (cachedUniqueIds == null) {
+			discoveryCache.ifPresent(cache -> writeDiscoveryCache(cache, testEngineDescriptors.values()));
+		}
+
 		List<PostDiscoveryFilter> filters = new ArrayList<>(postDiscoveryFilters);
 		filters.addAll(request.getPostDiscoveryFilters());
+		if (topLevel) {
+			ShardFilter.create(request.getConfigurationParameters()).ifPresent(filters::add);
+			IncrementalTestSelectionFilter.create(request).ifPresent(filters::add);
+		}
 
 		applyPostDiscoveryFilters(testEngineDescriptors, filters);
 		prune(testEngineDescriptors);
@@ -186,6 +231,98 @@ public class EngineDiscoveryOrchestrator {
 		return testEngineDescriptors;
 	}
 
+	private static boolean isParallelDiscoveryEnabled(LauncherDiscoveryRequest request) {
+		return request.getConfigurationParameters() //
+				.getBoolean(LauncherConstants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+	}
+
+	private static void logDiscoveryStart(TestEngine testEngine, Optional<LauncherPhase> phase) {
+		logger.debug(() -> "Discovering tests%s in engine '%s'.".formatted(
+			phase.map(" during Launcher %s phase"::formatted).orElse(""), testEngine.getId()));
+	}
+
+	private static LauncherDiscoveryRequest getEngineRequest(TestEngine testEngine, LauncherDiscoveryRequest request,
+			@Nullable Map<String, List<UniqueId>> cachedUniqueIds) {
+		List<UniqueId> uniqueIds = cachedUniqueIds == null ? null : cachedUniqueIds.get(testEngine.getId());
+		return uniqueIds == null ? request : DiscoveryCache.withCachedSelectors(request, uniqueIds);
+	}
+
+	/**
+	 * Discover tests in the supplied engines concurrently.
+	 *
+	 * <p>Each engine reports its events to a separate
+	 * {@link BufferingLauncherDiscoveryListener} and
+	 * {@link DiscoveryIssueCollector}. Once an engine has finished, its events
+	 * are replayed to the request's listener on the calling thread in the
+	 * order in which the engines are registered.
+	 */
+	private void discoverConcurrently(List<TestEngine> testEngines, LauncherDiscoveryRequest request,
+			Optional<LauncherPhase> phase, Function<String, UniqueId> uniqueIdCreator,
+			@Nullable Map<String, List<UniqueId>> cachedUniqueIds,
+			Map<TestEngine, EngineResultInfo> testEngineDescriptors) {
+
+		int poolSize = Math.min(testEngines.size(), Runtime.getRuntime().availableProcessors());
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		AtomicInteger threadCounter = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(poolSize, runnable -> {
+			Thread thread = new Thread(runnable, "junit-discovery-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		});
+		try {
+			List<ConcurrentDiscovery> discoveries = new ArrayList<>();
+			for (TestEngine testEngine : testEngines) {
+				DiscoveryIssueCollector engineIssueCollector = new DiscoveryIssueCollector(
+					request.getConfigurationParameters());
+				BufferingLauncherDiscoveryListener listener = new BufferingLauncherDiscoveryListener(
+					engineIssueCollector);
+				LauncherDiscoveryRequest engineRequest = new DelegatingLauncherDiscoveryRequest(
+					getEngineRequest(testEngine, request, cachedUniqueIds)) {
+					@Override
+					public LauncherDiscoveryListener getDiscoveryListener() {
+						return listener;
+					}
+				};
+				Future<EngineResultInfo> future = executorService.submit(() -> {
+					logDiscoveryStart(testEngine, phase);
+					return discoverEngineRoot(testEngine, engineRequest, engineIssueCollector, uniqueIdCreator);
+				});
+				discoveries.add(new ConcurrentDiscovery(testEngine, listener, future));
+			}
+			for (ConcurrentDiscovery discovery : discoveries) {
+				EngineResultInfo engineResult = await(discovery.future());
+				discovery.listener().replayTo(request.getDiscoveryListener());
+				testEngineDescriptors.put(discovery.testEngine(), engineResult);
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static EngineResultInfo await(Future<EngineResultInfo> future) {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new JUnitException("Interrupted while waiting for test discovery to finish", ex);
+		}
+	}
+
+	private static void writeDiscoveryCache(DiscoveryCache discoveryCache, Collection<EngineResultInfo> engineResults) {
+		boolean successful = engineResults.stream().allMatch(engineResult -> engineResult.getCause().isEmpty()
+				&& engineResult.getDiscoveryIssueNotifier() == DiscoveryIssueNotifier.NO_ISSUES);
+		if (successful) {
+			discoveryCache.write(engineResults.stream().map(EngineResultInfo::getRootDescriptor).toList());
+		}
+	}
+
 	private EngineResultInfo discoverEngineRoot(TestEngine testEngine, LauncherDiscoveryRequest request,
 			DiscoveryIssueCollector issueCollector, Function<String, UniqueId> uniqueIdCreator) {
 		UniqueId uniqueEngineId = uniqueIdCreator.apply(testEngine.getId());
@@ -274,4 +411,8 @@ public class EngineDiscoveryOrchestrator {
 		testEngineResults.values().forEach(result -> result.getRootDescriptor().accept(visitor));
 	}
 
+	private record ConcurrentDiscovery(TestEngine testEngine, BufferingLauncherDiscoveryListener listener,
+			Future<EngineResultInfo> future) {
+	}
+
 }
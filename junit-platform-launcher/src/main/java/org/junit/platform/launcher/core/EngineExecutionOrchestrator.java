@@ -12,16 +12,25 @@ package org.junit.platform.launcher.core;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherPhase.getDiscoveryIssueFailurePhase;
 import static org.junit.platform.launcher.core.ListenerRegistry.forEngineExecutionListeners;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.CancellationToken;
@@ -62,7 +71,8 @@ public class EngineExecutionOrchestrator {
 		ConfigurationParameters configurationParameters = internalTestPlan.getConfigurationParameters();
 		ListenerRegistry<TestExecutionListener> testExecutionListenerListeners = buildListenerRegistryForExecution(
 			listeners);
-		withInterceptedStreams(configurationParameters, testExecutionListenerListeners,
+		withInterceptedStreams(configurationParameters, internalTestPlan.getOutputDirectoryProvider(),
+			testExecutionListenerListeners,
 			testExecutionListener -> execute(internalTestPlan, EngineExecutionListener.NOOP, testExecutionListener,
 				requestLevelStore, cancellationToken));
 	}
@@ -147,17 +157,27 @@ public class EngineExecutionOrchestrator {
 	}
 
 	private void withInterceptedStreams(ConfigurationParameters configurationParameters,
-			ListenerRegistry<TestExecutionListener> listenerRegistry, Consumer<TestExecutionListener> action) {
-
-		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeListener();
+			OutputDirectoryProvider outputDirectoryProvider, ListenerRegistry<TestExecutionListener> listenerRegistry,
+			Consumer<TestExecutionListener> action) {
+
+		ListenerRegistry<TestExecutionListener> registry = listenerRegistry;
+		TestExecutionListener testExecutionListener = registry.getCompositeListener();
+		Optional<AsynchronousTestExecutionListener> asynchronousTestExecutionListener = AsynchronousTestExecutionListener.create(
+			configurationParameters, testExecutionListener);
+		if (asynchronousTestExecutionListener.isPresent()) {
+			// streams must still be intercepted on the thread that executes the test
+			testExecutionListener = asynchronousTestExecutionListener.get();
+			registry = ListenerRegistry.forTestExecutionListeners().add(testExecutionListener);
+		}
 		Optional<StreamInterceptingTestExecutionListener> streamInterceptingTestExecutionListener = StreamInterceptingTestExecutionListener.create(
-			configurationParameters, testExecutionListener::reportingEntryPublished);
-		streamInterceptingTestExecutionListener.ifPresent(listenerRegistry::add);
+			configurationParameters, outputDirectoryProvider, testExecutionListener);
+		streamInterceptingTestExecutionListener.ifPresent(registry::add);
 		try {
-			action.accept(listenerRegistry.getCompositeListener());
+			action.accept(registry.getCompositeListener());
 		}
 		finally {
 			streamInterceptingTestExecutionListener.ifPresent(StreamInterceptingTestExecutionListener::unregister);
+			asynchronousTestExecutionListener.ifPresent(AsynchronousTestExecutionListener::close);
 		}
 	}
 
@@ -175,8 +195,99 @@ public class EngineExecutionOrchestrator {
 		ConfigurationParameters configurationParameters = discoveryResult.getConfigurationParameters();
 		EngineExecutionListener listener = selectExecutionListener(engineExecutionListener, configurationParameters);
 
-		for (TestEngine testEngine : discoveryResult.getTestEngines()) {
-			failOrExecuteEngine(discoveryResult, listener, testEngine, requestLevelStore, cancellationToken);
+		CancellationToken engineCancellationToken = cancellationToken;
+		Optional<FailFastEngineExecutionListener> failFastListener = FailFastEngineExecutionListener.create(
+			configurationParameters, listener, cancellationToken);
+		if (failFastListener.isPresent()) {
+			listener = failFastListener.get();
+			engineCancellationToken = failFastListener.get().getCancellationToken();
+		}
+
+		List<TestEngine> testEngines = List.copyOf(discoveryResult.getTestEngines());
+		try {
+			if (testEngines.size() > 1 && isParallelEngineExecutionEnabled(configurationParameters)) {
+				executeConcurrently(discoveryResult, listener, testEngines, requestLevelStore,
+					engineCancellationToken);
+			}
+			else {
+				for (TestEngine testEngine : testEngines) {
+					failOrExecuteEngine(discoveryResult, listener, testEngine, requestLevelStore,
+						engineCancellationToken);
+				}
+			}
+		}
+		finally {
+			failFastListener.ifPresent(FailFastEngineExecutionListener::close);
+		}
+	}
+
+	private static boolean isParallelEngineExecutionEnabled(ConfigurationParameters configurationParameters) {
+		return configurationParameters.getBoolean(PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+	}
+
+	/**
+	 * Execute the supplied engines concurrently, each on its own thread, and
+	 * wait for all of them to finish.
+	 */
+	private void executeConcurrently(LauncherDiscoveryResult discoveryResult, EngineExecutionListener listener,
+			List<TestEngine> testEngines, NamespacedHierarchicalStore<Namespace> requestLevelStore,
+			CancellationToken cancellationToken) {
+
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		AtomicInteger threadCounter = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(testEngines.size(), runnable -> {
+			Thread thread = new Thread(runnable, "junit-engine-execution-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		});
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (TestEngine testEngine : testEngines) {
+				futures.add(executorService.submit(() -> failOrExecuteEngine(discoveryResult, listener, testEngine,
+					requestLevelStore, cancellationToken)));
+			}
+			Throwable failure = null;
+			for (Future<?> future : futures) {
+				try {
+					awaitUninterruptibly(future);
+				}
+				catch (ExecutionException ex) {
+					if (failure == null) {
+						failure = ex.getCause();
+					}
+					else {
+						failure.addSuppressed(ex.getCause());
+					}
+				}
+			}
+			if (failure != null) {
+				throw ExceptionUtils.throwAsUncheckedException(failure);
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static void awaitUninterruptibly(Future<?> future) throws ExecutionException {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					future.get();
+					return;
+				}
+				catch (InterruptedException ex) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
 		}
 	}
 
@@ -243,8 +354,14 @@ public class EngineExecutionOrchestrator {
 		OutcomeDelayingEngineExecutionListener delayingListener = new OutcomeDelayingEngineExecutionListener(listener,
 			engineDescriptor);
 		try {
-			testEngine.execute(ExecutionRequest.create(engineDescriptor, delayingListener, configurationParameters,
-				outputDirectoryProvider, requestLevelStore, cancellationToken));
+			Optional<ForkedEngineExecutor> forkedEngineExecutor = ForkedEngineExecutor.create(configurationParameters);
+			if (forkedEngineExecutor.isPresent()) {
+				forkedEngineExecutor.get().execute(engineDescriptor, delayingListener, cancellationToken);
+			}
+			else {
+				testEngine.execute(ExecutionRequest.create(engineDescriptor, delayingListener, configurationParameters,
+					outputDirectoryProvider, requestLevelStore, cancellationToken));
+			}
 			discoveryIssueNotifier.logNonCriticalIssues(testEngine);
 			delayingListener.reportEngineOutcome();
 		}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
+import static org.junit.platform.launcher.LauncherConstants.FAIL_FAST_MAX_FAILURES_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FAIL_FAST_TAG_EXPRESSION_PROPERTY_NAME;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.tagexpression.TagExpression;
+
+/**
+ * Cancels its own {@link CancellationToken} once the configured number of
+ * failures has been reported and forwards all events to its delegate.
+ *
+ * <p>The token is also cancelled when the token of the execution request is
+ * cancelled and is meant to be passed to test engines instead. It must be
+ * {@linkplain #close() closed} once execution has finished.
+ *
+ * @since 6.0
+ * @see org.junit.platform.launcher.LauncherConstants#FAIL_FAST_MAX_FAILURES_PROPERTY_NAME
+ * @see org.junit.platform.launcher.LauncherConstants#FAIL_FAST_TAG_EXPRESSION_PROPERTY_NAME
+ */
+class FailFastEngineExecutionListener extends DelegatingEngineExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(FailFastEngineExecutionListener.class);
+
+	private final CancellationToken cancellationToken = CancellationToken.create();
+	private final AtomicInteger remainingFailures;
+	private final Optional<TagExpression> tagExpression;
+	private final CancellationToken.Registration requestCancellationRegistration;
+
+	static Optional<FailFastEngineExecutionListener> create(ConfigurationParameters configurationParameters,
+			EngineExecutionListener delegate, CancellationToken requestCancellationToken) {
+
+		Optional<Integer> maxFailures = configurationParameters.get(FAIL_FAST_MAX_FAILURES_PROPERTY_NAME, value -> {
+			int result = Integer.parseInt(value.strip());
+			Preconditions.condition(result > 0, "value must be a positive integer");
+			return result;
+		});
+		Optional<TagExpression> tagExpression = configurationParameters.get(FAIL_FAST_TAG_EXPRESSION_PROPERTY_NAME,
+			FailFastEngineExecutionListener::parseTagExpression);
+		if (maxFailures.isEmpty() && tagExpression.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(new FailFastEngineExecutionListener(delegate, maxFailures.orElse(1), tagExpression,
+			requestCancellationToken));
+	}
+
+	private static TagExpression parseTagExpression(String value) {
+		return TagExpression.parseFrom(value).tagExpressionOrThrow(
+			message -> new JUnitException("Unable to parse tag expression \"" + value + "\": " + message));
+	}
+
+	private FailFastEngineExecutionListener(EngineExecutionListener delegate, int maxFailures,
+			Optional<TagExpression> tagExpression, CancellationToken requestCancellationToken) {
+		super(delegate);
+		this.remainingFailures = new AtomicInteger(maxFailures);
+		this.tagExpression = tagExpression;
+		this.requestCancellationRegistration = requestCancellationToken.onCancellation(this.cancellationToken::cancel);
+	}
+
+	CancellationToken getCancellationToken() {
+		return this.cancellationToken;
+	}
+
+	/**
+	 * Stop propagating cancellation of the request's token to this listener's
+	 * token once execution has finished.
+	 */
+	void close() {
+		this.requestCancellationRegistration.close();
+	}
+
+	@Override
+	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		if (testExecutionResult.getStatus() == FAILED && matchesTagExpression(testDescriptor)
+				&& this.remainingFailures.decrementAndGet() == 0) {
+			logger.info(() -> "Cancelling execution after failure of " + testDescriptor.getUniqueId());
+			this.cancellationToken.cancel();
+		}
+		super.executionFinished(testDescriptor, testExecutionResult);
+	}
+
+	private boolean matchesTagExpression(TestDescriptor testDescriptor) {
+		return this.tagExpression.map(expression -> expression.evaluate(testDescriptor.getTags())).orElse(true);
+	}
+
+}
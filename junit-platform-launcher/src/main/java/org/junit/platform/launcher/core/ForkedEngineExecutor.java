@@ -0,0 +1,593 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.platform.launcher.LauncherConstants.FORK_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FORK_JVM_ARGUMENTS_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_TOTAL_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.BATCH_FINISHED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.EXECUTE;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.EXECUTION_FINISHED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.EXECUTION_SKIPPED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.EXECUTION_STARTED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.EXIT;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.FILE_ENTRY_PUBLISHED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.readNullableString;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.readResult;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.readSerializable;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.readString;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.readStringMap;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.writeString;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.writeStringMap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.listeners.IncrementalTestSelectionListener;
+
+/**
+ * Executes the tests of a single engine in a pool of forked JVMs.
+ *
+ * <p>The top-level containers and tests of the engine, i.e. the children of
+ * its engine descriptor, are handed out one at a time to the next idle JVM
+ * which discovers and executes them using {@linkplain
+ * org.junit.platform.engine.discovery.UniqueIdSelector unique ID selectors}
+ * for all of their static leaves. Thus, the tests that were excluded by
+ * filters in this JVM are not executed in the forked JVM either. The events
+ * reported by the forked JVMs are replayed to the supplied
+ * {@link EngineExecutionListener} using the test descriptors of this JVM.
+ *
+ * <p>If a forked JVM terminates unexpectedly, all tests it started but did
+ * not finish are reported as failed and a new JVM is started for the
+ * remaining tests.
+ *
+ * @since 6.0
+ * @see ForkedJvmMain
+ * @see ForkedJvmProtocol
+ */
+class ForkedEngineExecutor {
+
+	private static final Logger logger = LoggerFactory.getLogger(ForkedEngineExecutor.class);
+
+	private static final long CONNECT_TIMEOUT_MILLIS = 60_000;
+
+	/**
+	 * Configuration parameters that must not be applied in forked JVMs since
+	 * they have already been applied in this one.
+	 */
+	private static final Set<String> EXCLUDED_CONFIGURATION_PARAMETERS = Set.of(FORK_COUNT_PROPERTY_NAME,
+		FORK_JVM_ARGUMENTS_PROPERTY_NAME, SHARD_INDEX_PROPERTY_NAME, SHARD_TOTAL_PROPERTY_NAME,
+		SHARD_STRATEGY_PROPERTY_NAME, IncrementalTestSelectionListener.FILE_PROPERTY_NAME);
+
+	private final int forkCount;
+	private final List<String> command;
+	private final String classPath;
+	private final Map<String, String> configurationParameters;
+
+	static Optional<ForkedEngineExecutor> create(ConfigurationParameters configurationParameters) {
+		return configurationParameters.getInteger(FORK_COUNT_PROPERTY_NAME) //
+				.filter(forkCount -> forkCount > 0) //
+				.map(forkCount -> new ForkedEngineExecutor(forkCount, configurationParameters));
+	}
+
+	private ForkedEngineExecutor(int forkCount, ConfigurationParameters configurationParameters) {
+		this.forkCount = forkCount;
+		this.command = createCommand(configurationParameters);
+		this.classPath = Stream.of("java.class.path", "jdk.module.path") //
+				.map(key -> System.getProperty(key, "")) //
+				.filter(path -> !path.isBlank()) //
+				.reduce((first, second) -> first + File.pathSeparator + second) //
+				.orElse("");
+		this.configurationParameters = new LinkedHashMap<>();
+		for (String key : configurationParameters.keySet()) {
+			if (!EXCLUDED_CONFIGURATION_PARAMETERS.contains(key)) {
+				configurationParameters.get(key).ifPresent(value -> this.configurationParameters.put(key, value));
+			}
+		}
+	}
+
+	private static List<String> createCommand(ConfigurationParameters configurationParameters) {
+		List<String> command = new ArrayList<>();
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		configurationParameters.get(FORK_JVM_ARGUMENTS_PROPERTY_NAME) //
+				.map(String::strip) //
+				.filter(arguments -> !arguments.isEmpty()) //
+				.ifPresent(arguments -> command.addAll(Arrays.asList(arguments.split("\\s+"))));
+		command.add(ForkedJvmMain.class.getName());
+		return command;
+	}
+
+	void execute(TestDescriptor engineDescriptor, EngineExecutionListener listener,
+			CancellationToken cancellationToken) {
+
+		Replay replay = new Replay(engineDescriptor, listener);
+		listener.executionStarted(engineDescriptor);
+		Queue<TestDescriptor> pending = new ConcurrentLinkedQueue<>(engineDescriptor.getChildren());
+		int jvmCount = Math.min(this.forkCount, pending.size());
+		if (jvmCount > 0) {
+			String engineId = engineDescriptor.getUniqueId().getEngineId().orElseThrow();
+			runWorkers(jvmCount, () -> runWorker(engineId, pending, replay, cancellationToken));
+		}
+		listener.executionFinished(engineDescriptor, replay.getEngineResult(cancellationToken));
+	}
+
+	private static void runWorkers(int count, Runnable worker) {
+		AtomicInteger threadCounter = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(count, runnable -> {
+			Thread thread = new Thread(runnable, "junit-forked-jvm-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				futures.add(executorService.submit(worker));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new JUnitException("Interrupted while waiting for forked JVMs", ex);
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private void runWorker(String engineId, Queue<TestDescriptor> pending, Replay replay,
+			CancellationToken cancellationToken) {
+		ForkedJvm jvm = null;
+		try {
+			TestDescriptor next;
+			while ((next = pending.poll()) != null) {
+				if (cancellationToken.isCancellationRequested()) {
+					replay.skip(next, "Execution cancelled");
+					continue;
+				}
+				Batch batch = new Batch(next);
+				try {
+					if (jvm == null) {
+						jvm = ForkedJvm.start(this.command, this.classPath, this.configurationParameters);
+					}
+					jvm.execute(engineId, batch, replay);
+				}
+				catch (IOException ex) {
+					String description = jvm == null ? "Failed to start forked JVM" : jvm.describeTermination();
+					replay.fail(batch, new JUnitException(description, ex));
+					if (jvm != null) {
+						jvm.destroy();
+						jvm = null;
+					}
+				}
+			}
+		}
+		finally {
+			if (jvm != null) {
+				jvm.close();
+			}
+		}
+	}
+
+	/**
+	 * Replays events reported by forked JVMs using the test descriptors of
+	 * this JVM; all methods are synchronized since events of different JVMs
+	 * are replayed concurrently.
+	 */
+	private static class Replay {
+
+		private final TestDescriptor engineDescriptor;
+		private final EngineExecutionListener listener;
+		private final Map<UniqueId, TestDescriptor> descriptors = new HashMap<>();
+
+		private @Nullable TestExecutionResult engineResult;
+
+		Replay(TestDescriptor engineDescriptor, EngineExecutionListener listener) {
+			this.engineDescriptor = engineDescriptor;
+			this.listener = listener;
+			engineDescriptor.accept(descriptor -> this.descriptors.put(descriptor.getUniqueId(), descriptor));
+		}
+
+		synchronized void dynamicTestRegistered(UniqueId uniqueId, UniqueId parentId, String displayName,
+				String legacyReportingName, TestDescriptor.Type type, Set<TestTag> tags, @Nullable TestSource source) {
+			TestDescriptor parent = this.descriptors.get(parentId);
+			if (parent != null && !this.descriptors.containsKey(uniqueId)) {
+				TestDescriptor descriptor = new ForkedTestDescriptor(uniqueId, displayName, legacyReportingName, type,
+					tags, source);
+				parent.addChild(descriptor);
+				this.descriptors.put(uniqueId, descriptor);
+				this.listener.dynamicTestRegistered(descriptor);
+			}
+		}
+
+		synchronized void executionSkipped(Batch batch, UniqueId uniqueId, String reason) {
+			TestDescriptor descriptor = lookUpNonEngineDescriptor(uniqueId);
+			if (descriptor != null) {
+				batch.reported(descriptor);
+				this.listener.executionSkipped(descriptor, reason);
+			}
+		}
+
+		synchronized void executionStarted(Batch batch, UniqueId uniqueId) {
+			TestDescriptor descriptor = lookUpNonEngineDescriptor(uniqueId);
+			if (descriptor != null) {
+				batch.started(descriptor);
+				this.listener.executionStarted(descriptor);
+			}
+		}
+
+		synchronized void executionFinished(Batch batch, UniqueId uniqueId, TestExecutionResult result) {
+			if (this.engineDescriptor.getUniqueId().equals(uniqueId)) {
+				recordEngineResult(result);
+				return;
+			}
+			TestDescriptor descriptor = this.descriptors.get(uniqueId);
+			if (descriptor != null) {
+				batch.finished(descriptor);
+				this.listener.executionFinished(descriptor, result);
+			}
+		}
+
+		synchronized void reportingEntryPublished(UniqueId uniqueId, ReportEntry entry) {
+			TestDescriptor descriptor = this.descriptors.get(uniqueId);
+			if (descriptor != null) {
+				this.listener.reportingEntryPublished(descriptor, entry);
+			}
+		}
+
+		synchronized void fileEntryPublished(UniqueId uniqueId, FileEntry file) {
+			TestDescriptor descriptor = this.descriptors.get(uniqueId);
+			if (descriptor != null) {
+				this.listener.fileEntryPublished(descriptor, file);
+			}
+		}
+
+		synchronized void skip(TestDescriptor descriptor, String reason) {
+			this.listener.executionSkipped(descriptor, reason);
+		}
+
+		/**
+		 * Report all descriptors of the supplied batch that were started
+		 * but not finished as failed, innermost first.
+		 */
+		synchronized void fail(Batch batch, Throwable throwable) {
+			if (!batch.topLevelReported) {
+				this.listener.executionStarted(batch.topLevelDescriptor);
+				batch.started(batch.topLevelDescriptor);
+			}
+			Deque<TestDescriptor> unfinished = new ArrayDeque<>(batch.unfinished);
+			while (!unfinished.isEmpty()) {
+				this.listener.executionFinished(unfinished.removeLast(), TestExecutionResult.failed(throwable));
+			}
+			batch.unfinished.clear();
+		}
+
+		synchronized void finish(Batch batch) {
+			if (!batch.topLevelReported) {
+				this.listener.executionSkipped(batch.topLevelDescriptor, "Not executed by forked JVM");
+			}
+		}
+
+		synchronized TestExecutionResult getEngineResult(CancellationToken cancellationToken) {
+			if (this.engineResult != null) {
+				return this.engineResult;
+			}
+			return cancellationToken.isCancellationRequested() //
+					? TestExecutionResult.aborted(null) //
+					: TestExecutionResult.successful();
+		}
+
+		private void recordEngineResult(TestExecutionResult result) {
+			if (result.getStatus() == TestExecutionResult.Status.SUCCESSFUL) {
+				return;
+			}
+			if (this.engineResult == null) {
+				this.engineResult = result;
+			}
+			else {
+				Optional<Throwable> existing = this.engineResult.getThrowable();
+				result.getThrowable().ifPresent(throwable -> existing.ifPresent(it -> it.addSuppressed(throwable)));
+			}
+		}
+
+		private @Nullable TestDescriptor lookUpNonEngineDescriptor(UniqueId uniqueId) {
+			TestDescriptor descriptor = this.descriptors.get(uniqueId);
+			return descriptor == this.engineDescriptor ? null : descriptor;
+		}
+	}
+
+	/**
+	 * A top-level container or test that is executed in a forked JVM.
+	 */
+	private static class Batch {
+
+		private final TestDescriptor topLevelDescriptor;
+		private final Set<TestDescriptor> unfinished = new LinkedHashSet<>();
+
+		private boolean topLevelReported;
+
+		Batch(TestDescriptor topLevelDescriptor) {
+			this.topLevelDescriptor = topLevelDescriptor;
+		}
+
+		List<String> getSelectedUniqueIds() {
+			List<String> uniqueIds = new ArrayList<>();
+			this.topLevelDescriptor.accept(descriptor -> {
+				if (descriptor.getChildren().isEmpty()) {
+					uniqueIds.add(descriptor.getUniqueId().toString());
+				}
+			});
+			return uniqueIds;
+		}
+
+		void reported(TestDescriptor descriptor) {
+			if (descriptor == this.topLevelDescriptor) {
+				this.topLevelReported = true;
+			}
+		}
+
+		void started(TestDescriptor descriptor) {
+			reported(descriptor);
+			this.unfinished.add(descriptor);
+		}
+
+		void finished(TestDescriptor descriptor) {
+			this.unfinished.remove(descriptor);
+		}
+	}
+
+	/**
+	 * A forked JVM connected to this one via a loopback socket.
+	 */
+	private static class ForkedJvm {
+
+		private final Process process;
+		private final Socket socket;
+		private final DataInputStream in;
+		private final DataOutputStream out;
+		private final List<Thread> outputPumps;
+
+		static ForkedJvm start(List<String> command, String classPath, Map<String, String> configurationParameters)
+				throws IOException {
+
+			String token = UUID.randomUUID().toString();
+			try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+				List<String> arguments = new ArrayList<>(command);
+				arguments.add(String.valueOf(serverSocket.getLocalPort()));
+				arguments.add(token);
+				ProcessBuilder processBuilder = new ProcessBuilder(arguments);
+				// avoid exceeding the maximum command line length
+				processBuilder.environment().put("CLASSPATH", classPath);
+				logger.debug(() -> "Starting forked JVM: " + arguments);
+				Process process = processBuilder.start();
+				process.getOutputStream().close();
+				List<Thread> outputPumps = List.of(pump(process.getInputStream(), System.out),
+					pump(process.getErrorStream(), System.err));
+				Socket socket = accept(serverSocket, process);
+				try {
+					DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+					if (!token.equals(readString(in))) {
+						throw new IOException("Forked JVM failed to authenticate");
+					}
+					writeStringMap(out, configurationParameters);
+					out.flush();
+					return new ForkedJvm(process, socket, in, out, outputPumps);
+				}
+				catch (IOException ex) {
+					socket.close();
+					process.destroyForcibly();
+					throw ex;
+				}
+			}
+		}
+
+		private static Socket accept(ServerSocket serverSocket, Process process) throws IOException {
+			serverSocket.setSoTimeout(100);
+			long deadline = System.currentTimeMillis() + CONNECT_TIMEOUT_MILLIS;
+			while (true) {
+				try {
+					return serverSocket.accept();
+				}
+				catch (SocketTimeoutException ex) {
+					if (!process.isAlive() || System.currentTimeMillis() > deadline) {
+						process.destroyForcibly();
+						throw new IOException("Forked JVM did not connect; exit code: "
+								+ (process.isAlive() ? "none" : process.exitValue()));
+					}
+				}
+			}
+		}
+
+		/**
+		 * Copy the output of the forked JVM line by line so that lines of
+		 * different JVMs are not interleaved.
+		 */
+		private static Thread pump(InputStream source, PrintStream target) {
+			Thread thread = new Thread(() -> {
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(source))) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						target.println(line);
+					}
+				}
+				catch (IOException ignored) {
+					// forked JVM terminated
+				}
+			}, "junit-forked-jvm-output");
+			thread.setDaemon(true);
+			thread.start();
+			return thread;
+		}
+
+		private ForkedJvm(Process process, Socket socket, DataInputStream in, DataOutputStream out,
+				List<Thread> outputPumps) {
+			this.process = process;
+			this.socket = socket;
+			this.in = in;
+			this.out = out;
+			this.outputPumps = outputPumps;
+		}
+
+		void execute(String engineId, Batch batch, Replay replay) throws IOException {
+			List<String> uniqueIds = batch.getSelectedUniqueIds();
+			this.out.writeByte(EXECUTE);
+			writeString(this.out, engineId);
+			this.out.writeInt(uniqueIds.size());
+			for (String uniqueId : uniqueIds) {
+				writeString(this.out, uniqueId);
+			}
+			this.out.flush();
+			while (true) {
+				byte type = this.in.readByte();
+				if (type == BATCH_FINISHED) {
+					replay.finish(batch);
+					return;
+				}
+				UniqueId uniqueId = UniqueId.parse(readString(this.in));
+				switch (type) {
+					case DYNAMIC_TEST_REGISTERED -> readDynamicTest(uniqueId, replay);
+					case EXECUTION_SKIPPED -> replay.executionSkipped(batch, uniqueId, readString(this.in));
+					case EXECUTION_STARTED -> replay.executionStarted(batch, uniqueId);
+					case EXECUTION_FINISHED -> replay.executionFinished(batch, uniqueId, readResult(this.in));
+					case REPORTING_ENTRY_PUBLISHED -> replay.reportingEntryPublished(uniqueId,
+						ReportEntry.from(readStringMap(this.in)));
+					case FILE_ENTRY_PUBLISHED -> replay.fileEntryPublished(uniqueId,
+						FileEntry.from(Path.of(readString(this.in)), readNullableString(this.in)));
+					default -> throw new IOException("Unknown event type: " + type);
+				}
+			}
+		}
+
+		private void readDynamicTest(UniqueId uniqueId, Replay replay) throws IOException {
+			String parentId = readNullableString(this.in);
+			String displayName = readString(this.in);
+			String legacyReportingName = readString(this.in);
+			TestDescriptor.Type type = TestDescriptor.Type.values()[this.in.readUnsignedByte()];
+			int tagCount = this.in.readInt();
+			Set<TestTag> tags = new LinkedHashSet<>();
+			for (int i = 0; i < tagCount; i++) {
+				tags.add(TestTag.create(readString(this.in)));
+			}
+			TestSource source = this.in.readBoolean() //
+					? readSerializable(this.in, TestSource.class).orElse(null) //
+					: null;
+			if (parentId != null) {
+				replay.dynamicTestRegistered(uniqueId, UniqueId.parse(parentId), displayName, legacyReportingName,
+					type, tags, source);
+			}
+		}
+
+		String describeTermination() {
+			try {
+				if (this.process.waitFor(5, SECONDS)) {
+					return "Forked JVM terminated unexpectedly with exit code " + this.process.exitValue();
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return "Lost connection to forked JVM";
+		}
+
+		void close() {
+			try {
+				this.out.writeByte(EXIT);
+				this.out.flush();
+				if (!this.process.waitFor(10, SECONDS)) {
+					logger.warn(() -> "Forked JVM did not exit in time and will be destroyed");
+				}
+			}
+			catch (IOException ex) {
+				logger.debug(ex, () -> "Failed to request forked JVM to exit");
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			destroy();
+		}
+
+		void destroy() {
+			this.process.destroyForcibly();
+			try {
+				this.socket.close();
+				for (Thread outputPump : this.outputPumps) {
+					outputPump.join(MILLISECONDS.convert(1, SECONDS));
+				}
+			}
+			catch (IOException ex) {
+				logger.debug(ex, () -> "Failed to close connection to forked JVM");
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+}
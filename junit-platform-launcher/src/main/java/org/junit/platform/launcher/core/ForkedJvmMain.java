@@ -0,0 +1,207 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.BATCH_FINISHED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.EXECUTE;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.EXECUTION_FINISHED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.EXECUTION_SKIPPED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.EXECUTION_STARTED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.EXIT;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.FILE_ENTRY_PUBLISHED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.readString;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.readStringMap;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.writeResult;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.writeSerializable;
+import static org.junit.platform.launcher.core.ForkedJvmProtocol.writeString;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * Entry point of JVMs forked by the launcher to execute tests.
+ *
+ * <p>Expects the port of the loopback socket to connect to and the token to
+ * authenticate with as arguments. Executes the batches of tests it receives
+ * using a {@link org.junit.platform.launcher.Launcher Launcher} without any
+ * automatically registered listeners or post-discovery filters and streams
+ * all execution events back to the parent JVM.
+ *
+ * @since 6.0
+ * @see ForkedJvmProtocol
+ */
+@API(status = INTERNAL, since = "6.0")
+public final class ForkedJvmMain {
+
+	private ForkedJvmMain() {
+		/* no-op */
+	}
+
+	public static void main(String[] args) throws IOException {
+		int port = Integer.parseInt(args[0]);
+		String token = args[1];
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			writeString(out, token);
+			out.flush();
+			run(in, out);
+		}
+		// terminate even if tests left non-daemon threads behind
+		System.exit(0);
+	}
+
+	private static void run(DataInputStream in, DataOutputStream out) throws IOException {
+		Map<String, String> configurationParameters = readStringMap(in);
+		LauncherConfig config = LauncherConfig.builder() //
+				.enableLauncherSessionListenerAutoRegistration(false) //
+				.enableTestExecutionListenerAutoRegistration(false) //
+				.enablePostDiscoveryFilterAutoRegistration(false) //
+				.build();
+		EventWriter eventWriter = new EventWriter(out);
+		try (LauncherSession session = LauncherFactory.openSession(config)) {
+			byte command;
+			while ((command = in.readByte()) != EXIT) {
+				if (command != EXECUTE) {
+					throw new IOException("Unknown command: " + command);
+				}
+				String engineId = readString(in);
+				int count = in.readInt();
+				List<UniqueIdSelector> selectors = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					selectors.add(selectUniqueId(readString(in)));
+				}
+				session.getLauncher().execute(request() //
+						.selectors(selectors) //
+						.filters(includeEngines(engineId)) //
+						.configurationParameters(configurationParameters) //
+						.enableImplicitConfigurationParameters(false) //
+						.forExecution() //
+						.listeners(eventWriter) //
+						.build());
+				eventWriter.batchFinished();
+			}
+		}
+	}
+
+	/**
+	 * Writes all events to the parent JVM and flushes after each one so that
+	 * they can be reported in a timely manner and are not lost if this JVM
+	 * terminates unexpectedly.
+	 */
+	private static class EventWriter implements TestExecutionListener {
+
+		private final DataOutputStream out;
+
+		EventWriter(DataOutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			write(DYNAMIC_TEST_REGISTERED, testIdentifier, () -> {
+				writeString(out, testIdentifier.getParentId().orElse(null));
+				writeString(out, testIdentifier.getDisplayName());
+				writeString(out, testIdentifier.getLegacyReportingName());
+				out.writeByte(testIdentifier.getType().ordinal());
+				out.writeInt(testIdentifier.getTags().size());
+				for (TestTag tag : testIdentifier.getTags()) {
+					writeString(out, tag.getName());
+				}
+				Optional<TestSource> source = testIdentifier.getSource();
+				out.writeBoolean(source.isPresent());
+				if (source.isPresent()) {
+					writeSerializable(out, source.get());
+				}
+			});
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			write(EXECUTION_SKIPPED, testIdentifier, () -> writeString(out, reason));
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			write(EXECUTION_STARTED, testIdentifier, () -> {
+			});
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			write(EXECUTION_FINISHED, testIdentifier, () -> writeResult(out, testExecutionResult));
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			write(REPORTING_ENTRY_PUBLISHED, testIdentifier,
+				() -> ForkedJvmProtocol.writeStringMap(out, entry.getKeyValuePairs()));
+		}
+
+		@Override
+		public void fileEntryPublished(TestIdentifier testIdentifier, FileEntry file) {
+			write(FILE_ENTRY_PUBLISHED, testIdentifier, () -> {
+				writeString(out, file.getPath().toAbsolutePath().toString());
+				writeString(out, file.getMediaType().orElse(null));
+			});
+		}
+
+		synchronized void batchFinished() throws IOException {
+			out.writeByte(BATCH_FINISHED);
+			out.flush();
+		}
+
+		private synchronized void write(byte type, TestIdentifier testIdentifier, Payload payload) {
+			try {
+				out.writeByte(type);
+				writeString(out, testIdentifier.getUniqueId());
+				payload.write();
+				out.flush();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to send event to parent JVM", ex);
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface Payload {
+		void write() throws IOException;
+	}
+
+}
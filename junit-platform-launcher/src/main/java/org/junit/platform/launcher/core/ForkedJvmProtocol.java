@@ -0,0 +1,200 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.engine.TestExecutionResult;
+
+/**
+ * Binary protocol spoken between the launcher and the JVMs it forks to
+ * execute tests.
+ *
+ * <p>The parent JVM listens on a loopback socket whose port and a random
+ * token are passed to the forked JVM as command-line arguments. After
+ * connecting, the forked JVM sends the token, and the parent sends the
+ * configuration parameters to use. Afterwards, the parent sends one
+ * {@link #EXECUTE} command per batch of tests to execute, and the forked JVM
+ * replies with a stream of events terminated by {@link #BATCH_FINISHED}.
+ * Finally, the parent sends {@link #EXIT}.
+ *
+ * <p>Each message starts with a single byte denoting its type. Strings are
+ * encoded as their length in bytes followed by their UTF-8 representation
+ * where a length of {@code -1} denotes {@code null}. Objects that cannot be
+ * represented otherwise, i.e. throwables and test sources, are encoded using
+ * Java serialization along with a fallback string representation.
+ *
+ * @since 6.0
+ */
+final class ForkedJvmProtocol {
+
+	// commands sent by the parent JVM
+	static final byte EXECUTE = 1;
+	static final byte EXIT = 2;
+
+	// events sent by the forked JVM
+	static final byte DYNAMIC_TEST_REGISTERED = 1;
+	static final byte EXECUTION_SKIPPED = 2;
+	static final byte EXECUTION_STARTED = 3;
+	static final byte EXECUTION_FINISHED = 4;
+	static final byte REPORTING_ENTRY_PUBLISHED = 5;
+	static final byte FILE_ENTRY_PUBLISHED = 6;
+	static final byte BATCH_FINISHED = 7;
+
+	private ForkedJvmProtocol() {
+		/* no-op */
+	}
+
+	static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	static String readString(DataInputStream in) throws IOException {
+		String value = readNullableString(in);
+		if (value == null) {
+			throw new IOException("Unexpected null string");
+		}
+		return value;
+	}
+
+	static @Nullable String readNullableString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == -1) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	static void writeStringMap(DataOutputStream out, Map<String, String> map) throws IOException {
+		out.writeInt(map.size());
+		for (Map.Entry<String, String> entry : map.entrySet()) {
+			writeString(out, entry.getKey());
+			writeString(out, entry.getValue());
+		}
+	}
+
+	static Map<String, String> readStringMap(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		Map<String, String> map = new LinkedHashMap<>();
+		for (int i = 0; i < size; i++) {
+			map.put(readString(in), readString(in));
+		}
+		return map;
+	}
+
+	static void writeResult(DataOutputStream out, TestExecutionResult result) throws IOException {
+		out.writeByte(result.getStatus().ordinal());
+		Optional<Throwable> throwable = result.getThrowable();
+		out.writeBoolean(throwable.isPresent());
+		if (throwable.isPresent()) {
+			writeSerializable(out, throwable.get());
+		}
+	}
+
+	static TestExecutionResult readResult(DataInputStream in) throws IOException {
+		TestExecutionResult.Status status = TestExecutionResult.Status.values()[in.readUnsignedByte()];
+		@Nullable
+		Throwable throwable = in.readBoolean() ? readSerializable(in, Throwable.class).orElse(null) : null;
+		return switch (status) {
+			case SUCCESSFUL -> TestExecutionResult.successful();
+			case ABORTED -> TestExecutionResult.aborted(throwable);
+			case FAILED -> TestExecutionResult.failed(throwable);
+		};
+	}
+
+	/**
+	 * Write the supplied object using Java serialization, preceded by its
+	 * string representation which is used in case it cannot be deserialized.
+	 */
+	static void writeSerializable(DataOutputStream out, Serializable value) throws IOException {
+		writeString(out, value.toString());
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+			objectOut.writeObject(value);
+		}
+		catch (Exception ex) {
+			bytes.reset();
+		}
+		out.writeInt(bytes.size());
+		bytes.writeTo(out);
+	}
+
+	/**
+	 * Read an object written by {@link #writeSerializable}.
+	 *
+	 * @return the deserialized object; if it cannot be deserialized, a
+	 * {@link JUnitException} with its string representation as message if the
+	 * expected type is a {@link Throwable}, and empty otherwise
+	 */
+	static <T> Optional<T> readSerializable(DataInputStream in, Class<T> expectedType) throws IOException {
+		String fallback = readString(in);
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		if (bytes.length > 0) {
+			try (ObjectInputStream objectIn = new ClassLoaderAwareObjectInputStream(new ByteArrayInputStream(bytes))) {
+				Object value = objectIn.readObject();
+				if (expectedType.isInstance(value)) {
+					return Optional.of(expectedType.cast(value));
+				}
+			}
+			catch (Exception ignored) {
+				// use fallback below
+			}
+		}
+		if (expectedType.isAssignableFrom(JUnitException.class)) {
+			return Optional.of(expectedType.cast(new JUnitException(fallback)));
+		}
+		return Optional.empty();
+	}
+
+	private static class ClassLoaderAwareObjectInputStream extends ObjectInputStream {
+
+		ClassLoaderAwareObjectInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+			try {
+				return Class.forName(description.getName(), false, ClassLoaderUtils.getDefaultClassLoader());
+			}
+			catch (ClassNotFoundException ex) {
+				return super.resolveClass(description);
+			}
+		}
+	}
+
+}
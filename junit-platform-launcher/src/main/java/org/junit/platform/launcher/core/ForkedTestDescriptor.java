@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+
+/**
+ * Stand-in for a dynamic {@link org.junit.platform.engine.TestDescriptor}
+ * that was registered in a forked JVM.
+ *
+ * @since 6.0
+ * @see ForkedEngineExecutor
+ */
+class ForkedTestDescriptor extends AbstractTestDescriptor {
+
+	private final String legacyReportingName;
+	private final Type type;
+	private final Set<TestTag> tags;
+
+	ForkedTestDescriptor(UniqueId uniqueId, String displayName, String legacyReportingName, Type type,
+			Set<TestTag> tags, @Nullable TestSource source) {
+		super(uniqueId, displayName, source);
+		this.legacyReportingName = legacyReportingName;
+		this.type = type;
+		this.tags = tags;
+	}
+
+	@Override
+	public String getLegacyReportingName() {
+		return this.legacyReportingName;
+	}
+
+	@Override
+	public Type getType() {
+		return this.type;
+	}
+
+	@Override
+	public Set<TestTag> getTags() {
+		return this.tags;
+	}
+
+}
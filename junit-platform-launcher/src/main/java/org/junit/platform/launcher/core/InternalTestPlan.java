@@ -96,6 +96,11 @@ class InternalTestPlan extends TestPlan {
 		return delegate.getDescendants(parent);
 	}
 
+	@Override
+	public long countTests(TestIdentifier parent) {
+		return delegate.countTests(parent);
+	}
+
 	@Override
 	public boolean containsTests() {
 		return delegate.containsTests();
@@ -18,17 +18,18 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
@@ -42,6 +43,17 @@ import org.junit.platform.commons.util.ToStringBuilder;
 import org.junit.platform.engine.ConfigurationParameters;
 
 /**
+ * {@link ConfigurationParameters} backed by a chain of parameter providers.
+ *
+ * <p>The providers are flattened into a single immutable map the first time
+ * a parameter is looked up so that subsequent lookups take constant time.
+ * Consequently, changes to system properties after the first lookup are not
+ * reflected. The results of the typed lookups, such as
+ * {@link #getBoolean(String)} and {@link #getInteger(String)}, are cached per
+ * key; values transformed via {@link #get(String, Function)} are not since
+ * custom transformers may create a new, potentially mutable object for each
+ * call.
+ *
  * @since 1.0
  */
 class LauncherConfigurationParameters implements ConfigurationParameters {
@@ -53,6 +65,12 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 	}
 
 	private final List<ParameterProvider> providers;
+	private final Map<String, Optional<Boolean>> booleanValues = new ConcurrentHashMap<>();
+	private final Map<String, Optional<Integer>> integerValues = new ConcurrentHashMap<>();
+	private final Map<String, Optional<Long>> longValues = new ConcurrentHashMap<>();
+
+	@Nullable
+	private volatile Map<String, String> values;
 
 	private LauncherConfigurationParameters(List<ParameterProvider> providers) {
 		this.providers = providers;
@@ -65,22 +83,68 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 
 	@Override
 	public Optional<Boolean> getBoolean(String key) {
-		return get(key).map(Boolean::parseBoolean);
+		Preconditions.notBlank(key, "key must not be null or blank");
+		return booleanValues.computeIfAbsent(key, __ -> get(key).map(Boolean::parseBoolean));
+	}
+
+	@Override
+	public Optional<Integer> getInteger(String key) {
+		Preconditions.notBlank(key, "key must not be null or blank");
+		return integerValues.computeIfAbsent(key, ConfigurationParameters.super::getInteger);
+	}
+
+	@Override
+	public Optional<Long> getLong(String key) {
+		Preconditions.notBlank(key, "key must not be null or blank");
+		return longValues.computeIfAbsent(key, ConfigurationParameters.super::getLong);
 	}
 
 	@Override
 	public Set<String> keySet() {
-		return providers.stream().map(ParameterProvider::keySet).flatMap(Collection::stream).collect(
-			Collectors.toSet());
+		return values().keySet();
+	}
+
+	/**
+	 * Determine whether any of the properties files these configuration
+	 * parameters were loaded from has been modified or deleted since.
+	 *
+	 * <p>Only properties files that reside in a directory or a JAR file on
+	 * the file system are checked.
+	 *
+	 * @since 6.0
+	 */
+	boolean isConfigFileModified() {
+		return providers.stream().anyMatch(ParameterProvider::isModified);
 	}
 
 	private @Nullable String getProperty(String key) {
 		Preconditions.notBlank(key, "key must not be null or blank");
-		return providers.stream() //
-				.map(parameterProvider -> parameterProvider.getValue(key)) //
-				.filter(Objects::nonNull) //
-				.findFirst() //
-				.orElse(null);
+		return values().get(key);
+	}
+
+	private Map<String, String> values() {
+		Map<String, String> values = this.values;
+		if (values == null) {
+			synchronized (this) {
+				values = this.values;
+				if (values == null) {
+					values = flatten(providers);
+					this.values = values;
+				}
+			}
+		}
+		return values;
+	}
+
+	private static Map<String, String> flatten(List<ParameterProvider> providers) {
+		Map<String, String> values = new HashMap<>();
+		CollectionUtils.forEachInReverseOrder(providers, provider -> provider.keySet().forEach(key -> {
+			String value = provider.getValue(key);
+			if (value != null) {
+				values.put(key, value);
+			}
+		}));
+		return Map.copyOf(values);
 	}
 
 	@Override
@@ -160,6 +224,10 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 
 		Set<String> keySet();
 
+		default boolean isModified() {
+			return false;
+		}
+
 		static ParameterProvider explicit(Map<String, String> configParams) {
 			return new ParameterProvider() {
 				@Override
@@ -207,7 +275,10 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 
 		static ParameterProvider propertiesFile(String configFileName) {
 			Preconditions.notBlank(configFileName, "configFileName must not be null or blank");
-			Properties properties = loadClasspathResource(configFileName.strip());
+			Properties properties = new Properties();
+			@Nullable
+			URL configFileUrl = loadClasspathResource(configFileName.strip(), properties);
+			long lastModified = configFileUrl == null ? -1 : lastModified(configFileUrl);
 			return new ParameterProvider() {
 				@Override
 				public String getValue(String key) {
@@ -219,6 +290,11 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 					return properties.stringPropertyNames();
 				}
 
+				@Override
+				public boolean isModified() {
+					return configFileUrl != null && lastModified != -1 && lastModified(configFileUrl) != lastModified;
+				}
+
 				@Override
 				public String toString() {
 					ToStringBuilder builder = new ToStringBuilder("propertiesFile");
@@ -251,13 +327,12 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 
 	}
 
-	private static Properties loadClasspathResource(String configFileName) {
-		Properties props = new Properties();
-
+	private static @Nullable URL loadClasspathResource(String configFileName, Properties props) {
 		try {
 			URL configFileUrl = findConfigFile(configFileName);
 			if (configFileUrl != null) {
 				loadClasspathResource(configFileUrl, props);
+				return configFileUrl;
 			}
 		}
 		catch (Exception ex) {
@@ -265,8 +340,30 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 				() -> "Failed to load JUnit Platform configuration parameters from classpath resource [%s].".formatted(
 					configFileName));
 		}
+		return null;
+	}
 
-		return props;
+	/**
+	 * Get the last modification time of the file the supplied classpath
+	 * resource resides in or {@code -1} if it cannot be determined.
+	 */
+	private static long lastModified(URL url) {
+		try {
+			Path path = switch (url.getProtocol()) {
+				case "file" -> Path.of(url.toURI());
+				case "jar" -> {
+					String spec = url.getPath();
+					int separatorIndex = spec.indexOf("!/");
+					URI jarFileUri = URI.create(separatorIndex == -1 ? spec : spec.substring(0, separatorIndex));
+					yield "file".equals(jarFileUri.getScheme()) ? Path.of(jarFileUri) : null;
+				}
+				default -> null;
+			};
+			return path == null ? -1 : Files.getLastModifiedTime(path).toMillis();
+		}
+		catch (Exception ex) {
+			return -1;
+		}
 	}
 
 	private static @Nullable URL findConfigFile(String configFileName) throws IOException {
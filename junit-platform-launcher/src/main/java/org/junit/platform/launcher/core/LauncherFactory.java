@@ -13,11 +13,13 @@ package org.junit.platform.launcher.core;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.junit.platform.launcher.LauncherConstants.DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.ENABLE_LAUNCHER_INTERCEPTORS;
+import static org.junit.platform.launcher.LauncherConstants.SESSION_WARM_UP_ENABLED_PROPERTY_NAME;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -97,10 +99,18 @@ public class LauncherFactory {
 	@API(status = STABLE, since = "1.10")
 	public static LauncherSession openSession(LauncherConfig config) throws PreconditionViolationException {
 		Preconditions.notNull(config, "LauncherConfig must not be null");
-		LauncherConfigurationParameters configurationParameters = LauncherConfigurationParameters.builder().build();
-		return new DefaultLauncherSession(collectLauncherInterceptors(configurationParameters),
-			() -> createLauncherSessionListener(config),
-			sessionLevelStore -> createDefaultLauncher(config, configurationParameters, sessionLevelStore));
+		AtomicReference<LauncherConfigurationParameters> currentConfigurationParameters = new AtomicReference<>(
+			LauncherConfigurationParameters.builder().build());
+		return new DefaultLauncherSession(collectLauncherInterceptors(currentConfigurationParameters.get()),
+			() -> createLauncherSessionListener(config), sessionLevelStore -> {
+				LauncherConfigurationParameters configurationParameters = currentConfigurationParameters.updateAndGet(
+					it -> it.isConfigFileModified() ? LauncherConfigurationParameters.builder().build() : it);
+				DefaultLauncher launcher = createDefaultLauncher(config, configurationParameters, sessionLevelStore);
+				if (configurationParameters.getBoolean(SESSION_WARM_UP_ENABLED_PROPERTY_NAME).orElse(false)) {
+					launcher.warmUp(configurationParameters);
+				}
+				return launcher;
+			}, () -> currentConfigurationParameters.get().isConfigFileModified());
 	}
 
 	/**
@@ -12,34 +12,48 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_DEFAULT;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STDERR_REPORT_ENTRY_KEY;
 import static org.junit.platform.launcher.LauncherConstants.STDOUT_REPORT_ENTRY_KEY;
 
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiConsumer;
 
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.StringUtils;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.OutputDirectoryProvider;
 import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.core.CompositeTestExecutionListener.EagerTestExecutionListener;
+import org.junit.platform.launcher.core.StreamInterceptor.CapturedOutput;
+import org.junit.platform.launcher.core.StreamInterceptor.SpillFileFactory;
 
 /**
  * @since 1.3
  */
 class StreamInterceptingTestExecutionListener implements EagerTestExecutionListener {
 
+	private static final String SPILL_FILE_MEDIA_TYPE = "text/plain; charset=" + Charset.defaultCharset().name();
+
+	private static final int MAX_SPILL_FILE_NAME_LENGTH = 64;
+
 	private final Optional<StreamInterceptor> stdoutInterceptor;
 	private final Optional<StreamInterceptor> stderrInterceptor;
-	private final BiConsumer<TestIdentifier, ReportEntry> reporter;
+	private final TestExecutionListener reporter;
 
 	static Optional<StreamInterceptingTestExecutionListener> create(ConfigurationParameters configurationParameters,
-			BiConsumer<TestIdentifier, ReportEntry> reporter) {
+			OutputDirectoryProvider outputDirectoryProvider, TestExecutionListener reporter) {
 
 		boolean captureStdout = configurationParameters.getBoolean(CAPTURE_STDOUT_PROPERTY_NAME).orElse(false);
 		boolean captureStderr = configurationParameters.getBoolean(CAPTURE_STDERR_PROPERTY_NAME).orElse(false);
@@ -50,9 +64,22 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 		int maxSize = configurationParameters.get(CAPTURE_MAX_BUFFER_PROPERTY_NAME, Integer::valueOf) //
 				.orElse(CAPTURE_MAX_BUFFER_DEFAULT);
 
-		Optional<StreamInterceptor> stdoutInterceptor = captureStdout ? StreamInterceptor.registerStdout(maxSize)
+		Optional<Integer> spillThreshold = configurationParameters.get(CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME,
+			value -> {
+				int result = Integer.parseInt(value.strip());
+				Preconditions.condition(result >= 0, "value must not be negative");
+				return result;
+			});
+
+		Optional<StreamInterceptor> stdoutInterceptor = captureStdout
+				? StreamInterceptor.registerStdout(maxSize,
+					spillFileFactory(spillThreshold, outputDirectoryProvider, STDOUT_REPORT_ENTRY_KEY),
+					spillThreshold.orElse(Integer.MAX_VALUE))
 				: Optional.empty();
-		Optional<StreamInterceptor> stderrInterceptor = captureStderr ? StreamInterceptor.registerStderr(maxSize)
+		Optional<StreamInterceptor> stderrInterceptor = captureStderr
+				? StreamInterceptor.registerStderr(maxSize,
+					spillFileFactory(spillThreshold, outputDirectoryProvider, STDERR_REPORT_ENTRY_KEY),
+					spillThreshold.orElse(Integer.MAX_VALUE))
 				: Optional.empty();
 
 		if ((stdoutInterceptor.isEmpty() && captureStdout) || (stderrInterceptor.isEmpty() && captureStderr)) {
@@ -63,8 +90,26 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 		return Optional.of(new StreamInterceptingTestExecutionListener(stdoutInterceptor, stderrInterceptor, reporter));
 	}
 
+	private static @Nullable SpillFileFactory spillFileFactory(Optional<Integer> spillThreshold,
+			OutputDirectoryProvider outputDirectoryProvider, String prefix) {
+		if (spillThreshold.isEmpty()) {
+			return null;
+		}
+		return name -> {
+			Path directory = Files.createDirectories(outputDirectoryProvider.getRootDirectory());
+			return Files.createTempFile(directory, prefix + "-" + sanitizeFileName(name) + "-", ".txt");
+		};
+	}
+
+	private static String sanitizeFileName(String name) {
+		String sanitized = name.replaceAll("[^A-Za-z0-9._-]+", "_");
+		return sanitized.length() > MAX_SPILL_FILE_NAME_LENGTH
+				? sanitized.substring(0, MAX_SPILL_FILE_NAME_LENGTH)
+				: sanitized;
+	}
+
 	private StreamInterceptingTestExecutionListener(Optional<StreamInterceptor> stdoutInterceptor,
-			Optional<StreamInterceptor> stderrInterceptor, BiConsumer<TestIdentifier, ReportEntry> reporter) {
+			Optional<StreamInterceptor> stderrInterceptor, TestExecutionListener reporter) {
 		this.stdoutInterceptor = stdoutInterceptor;
 		this.stderrInterceptor = stderrInterceptor;
 		this.reporter = reporter;
@@ -77,23 +122,32 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 
 	@Override
 	public void executionJustStarted(TestIdentifier testIdentifier) {
-		stdoutInterceptor.ifPresent(StreamInterceptor::capture);
-		stderrInterceptor.ifPresent(StreamInterceptor::capture);
+		String name = testIdentifier.getDisplayName();
+		stdoutInterceptor.ifPresent(interceptor -> interceptor.capture(name));
+		stderrInterceptor.ifPresent(interceptor -> interceptor.capture(name));
 	}
 
 	@Override
 	public void executionJustFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
 		Map<String, String> map = new HashMap<>();
-		String out = stdoutInterceptor.map(StreamInterceptor::consume).orElse("");
-		if (StringUtils.isNotBlank(out)) {
-			map.put(STDOUT_REPORT_ENTRY_KEY, out);
+		stdoutInterceptor.map(StreamInterceptor::consume).ifPresent(
+			output -> publish(testIdentifier, STDOUT_REPORT_ENTRY_KEY, output, map));
+		stderrInterceptor.map(StreamInterceptor::consume).ifPresent(
+			output -> publish(testIdentifier, STDERR_REPORT_ENTRY_KEY, output, map));
+		if (!map.isEmpty()) {
+			reporter.reportingEntryPublished(testIdentifier, ReportEntry.from(map));
 		}
-		String err = stderrInterceptor.map(StreamInterceptor::consume).orElse("");
-		if (StringUtils.isNotBlank(err)) {
-			map.put(STDERR_REPORT_ENTRY_KEY, err);
+	}
+
+	private void publish(TestIdentifier testIdentifier, String key, CapturedOutput output, Map<String, String> map) {
+		Path file = output.file();
+		if (file != null) {
+			reporter.fileEntryPublished(testIdentifier, FileEntry.from(file, SPILL_FILE_MEDIA_TYPE));
+			// Point reporters that only consider report entries, such as the legacy XML reports, to the file
+			map.put(key, "Captured output exceeded the spill threshold and was written to " + file.toAbsolutePath());
 		}
-		if (!map.isEmpty()) {
-			reporter.accept(testIdentifier, ReportEntry.from(map));
+		else if (StringUtils.isNotBlank(output.text())) {
+			map.put(key, output.text());
 		}
 	}
 }
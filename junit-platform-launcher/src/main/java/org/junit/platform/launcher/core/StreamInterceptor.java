@@ -10,9 +10,14 @@
 
 package org.junit.platform.launcher.core;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Optional;
@@ -20,72 +25,112 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 
 /**
  * @since 1.3
  */
 class StreamInterceptor extends PrintStream {
 
+	private static final Logger logger = LoggerFactory.getLogger(StreamInterceptor.class);
+
 	private final Deque<RewindableByteArrayOutputStream> mostRecentOutputs = new ConcurrentLinkedDeque<>();
 
 	private final PrintStream originalStream;
 	private final Consumer<PrintStream> unregisterAction;
-	private final int maxNumberOfBytesPerThread;
 
-	private final ThreadLocal<RewindableByteArrayOutputStream> output = ThreadLocal.withInitial(
-		RewindableByteArrayOutputStream::new);
+	private final ThreadLocal<RewindableByteArrayOutputStream> output;
+
+	static Optional<StreamInterceptor> registerStdout(int maxNumberOfBytesPerThread,
+			@Nullable SpillFileFactory spillFileFactory, int spillThreshold) {
+		return register(System.out, System::setOut, maxNumberOfBytesPerThread, spillFileFactory, spillThreshold);
+	}
+
+	static Optional<StreamInterceptor> registerStderr(int maxNumberOfBytesPerThread,
+			@Nullable SpillFileFactory spillFileFactory, int spillThreshold) {
+		return register(System.err, System::setErr, maxNumberOfBytesPerThread, spillFileFactory, spillThreshold);
+	}
 
 	static Optional<StreamInterceptor> registerStdout(int maxNumberOfBytesPerThread) {
-		return register(System.out, System::setOut, maxNumberOfBytesPerThread);
+		return registerStdout(maxNumberOfBytesPerThread, null, Integer.MAX_VALUE);
 	}
 
 	static Optional<StreamInterceptor> registerStderr(int maxNumberOfBytesPerThread) {
-		return register(System.err, System::setErr, maxNumberOfBytesPerThread);
+		return registerStderr(maxNumberOfBytesPerThread, null, Integer.MAX_VALUE);
 	}
 
 	static Optional<StreamInterceptor> register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
 			int maxNumberOfBytesPerThread) {
+		return register(originalStream, streamSetter, maxNumberOfBytesPerThread, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Register a new interceptor for the supplied stream.
+	 *
+	 * @param spillFileFactory the factory for files that output of a single
+	 * capture exceeding {@code spillThreshold} bytes is written to instead of
+	 * being buffered; {@code null} to disable spilling
+	 */
+	static Optional<StreamInterceptor> register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
+			int maxNumberOfBytesPerThread, @Nullable SpillFileFactory spillFileFactory, int spillThreshold) {
 		if (originalStream instanceof StreamInterceptor) {
 			return Optional.empty();
 		}
-		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread);
+		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread,
+			spillFileFactory, spillThreshold);
 		streamSetter.accept(interceptor);
 		return Optional.of(interceptor);
 	}
 
 	private StreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
-			int maxNumberOfBytesPerThread) {
+			int maxNumberOfBytesPerThread, @Nullable SpillFileFactory spillFileFactory, int spillThreshold) {
 		super(originalStream);
 		this.originalStream = originalStream;
 		this.unregisterAction = unregisterAction;
-		this.maxNumberOfBytesPerThread = maxNumberOfBytesPerThread;
+		this.output = ThreadLocal.withInitial(
+			() -> new RewindableByteArrayOutputStream(maxNumberOfBytesPerThread, spillFileFactory, spillThreshold));
 	}
 
 	void capture() {
+		capture("output");
+	}
+
+	/**
+	 * Start capturing output written by the current thread.
+	 *
+	 * @param name the name of the capture that is passed to the
+	 * {@link SpillFileFactory} if its output is spilled to a file
+	 */
+	void capture(String name) {
 		RewindableByteArrayOutputStream out = output.get();
-		out.mark();
+		out.mark(name);
 		pushToTop(out);
 	}
 
-	String consume() {
+	CapturedOutput consume() {
 		RewindableByteArrayOutputStream out = output.get();
-		String result = out.rewind();
+		CapturedOutput result = out.rewind();
 		if (!out.isMarked()) {
 			mostRecentOutputs.remove(out);
 		}
 		return result;
 	}
 
+	/**
+	 * Restore the original stream and close the spill files of all captures
+	 * that have not been consumed.
+	 */
 	void unregister() {
 		unregisterAction.accept(originalStream);
+		mostRecentOutputs.forEach(RewindableByteArrayOutputStream::closeSpillFiles);
 	}
 
 	@Override
 	public void write(int b) {
 		RewindableByteArrayOutputStream out = getOutput();
-		if (out != null && out.size() < maxNumberOfBytesPerThread) {
+		if (out != null && out.append(new byte[] { (byte) b }, 0, 1)) {
 			pushToTop(out);
-			out.write(b);
 		}
 		super.write(b);
 	}
@@ -98,12 +143,8 @@ class StreamInterceptor extends PrintStream {
 	@Override
 	public void write(byte[] buf, int off, int len) {
 		RewindableByteArrayOutputStream out = getOutput();
-		if (out != null) {
-			int actualLength = Math.max(0, Math.min(len, maxNumberOfBytesPerThread - out.size()));
-			if (actualLength > 0) {
-				pushToTop(out);
-				out.write(buf, off, actualLength);
-			}
+		if (out != null && out.append(buf, off, len)) {
+			pushToTop(out);
 		}
 		super.write(buf, off, len);
 	}
@@ -120,26 +161,173 @@ class StreamInterceptor extends PrintStream {
 		return out.isMarked() ? out : mostRecentOutputs.peek();
 	}
 
+	/**
+	 * Creates the files that captured output is spilled to.
+	 */
+	@FunctionalInterface
+	interface SpillFileFactory {
+
+		/**
+		 * Create a new file for the output of the capture with the supplied
+		 * name.
+		 *
+		 * @param name the name passed to {@link #capture(String)}; never
+		 * {@code null} but potentially containing characters that are not
+		 * allowed in file names
+		 */
+		Path createFile(String name) throws IOException;
+
+	}
+
+	/**
+	 * Output captured since the corresponding call to {@link #capture()}
+	 * which is either buffered in memory or, if spilling is enabled and the
+	 * output exceeded the threshold, was written to a file.
+	 */
+	record CapturedOutput(String text, @Nullable Path file) {
+
+		static final CapturedOutput EMPTY = new CapturedOutput("", null);
+
+	}
+
 	static class RewindableByteArrayOutputStream extends ByteArrayOutputStream {
 
-		private final Deque<Integer> markedPositions = new ArrayDeque<>();
+		private final Deque<Mark> marks = new ArrayDeque<>();
+		private final int maxNumberOfBytes;
+		private final @Nullable SpillFileFactory spillFileFactory;
+		private final int spillThreshold;
+
+		RewindableByteArrayOutputStream(int maxNumberOfBytes, @Nullable SpillFileFactory spillFileFactory,
+				int spillThreshold) {
+			this.maxNumberOfBytes = maxNumberOfBytes;
+			this.spillFileFactory = spillFileFactory;
+			this.spillThreshold = spillThreshold;
+		}
 
-		boolean isMarked() {
-			return !markedPositions.isEmpty();
+		synchronized boolean isMarked() {
+			return !marks.isEmpty();
 		}
 
-		void mark() {
-			markedPositions.addFirst(count);
+		synchronized void mark(String name) {
+			marks.addFirst(new Mark(count, name));
 		}
 
-		String rewind() {
-			Integer position = markedPositions.pollFirst();
-			if (position == null || position == count) {
-				return "";
+		/**
+		 * Append the supplied bytes to the output of the innermost capture,
+		 * either in memory, limited by the maximum number of bytes, or to its
+		 * spill file once the output exceeds the spill threshold.
+		 *
+		 * @return whether any bytes were appended
+		 */
+		synchronized boolean append(byte[] buf, int off, int len) {
+			if (len <= 0) {
+				return false;
+			}
+			Mark mark = marks.peekFirst();
+			if (mark != null && spillFileFactory != null && mark.file == null && !mark.spillFailed
+					&& (long) count - mark.position + len > spillThreshold) {
+				spill(mark, spillFileFactory);
+			}
+			if (mark != null && mark.spillOutput != null) {
+				mark.writeToFile(buf, off, len);
+				return true;
+			}
+			int actualLength = Math.max(0, Math.min(len, maxNumberOfBytes - count));
+			if (actualLength > 0) {
+				write(buf, off, actualLength);
+				return true;
 			}
-			int length = count - position;
+			return false;
+		}
+
+		private void spill(Mark mark, SpillFileFactory spillFileFactory) {
+			try {
+				Path file = spillFileFactory.createFile(mark.name);
+				OutputStream spillOutput = new BufferedOutputStream(Files.newOutputStream(file));
+				try {
+					spillOutput.write(buf, mark.position, count - mark.position);
+				}
+				catch (IOException ex) {
+					spillOutput.close();
+					throw ex;
+				}
+				mark.file = file;
+				mark.spillOutput = spillOutput;
+				count = mark.position;
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "Failed to spill captured output to a file");
+				mark.spillFailed = true;
+			}
+		}
+
+		synchronized CapturedOutput rewind() {
+			Mark mark = marks.pollFirst();
+			if (mark == null) {
+				return CapturedOutput.EMPTY;
+			}
+			if (mark.file != null) {
+				mark.closeFile();
+				count = mark.position;
+				return new CapturedOutput("", mark.file);
+			}
+			if (mark.position == count) {
+				return CapturedOutput.EMPTY;
+			}
+			int length = count - mark.position;
 			count -= length;
-			return new String(buf, position, length, Charset.defaultCharset());
+			return new CapturedOutput(new String(buf, mark.position, length, Charset.defaultCharset()), null);
+		}
+
+		synchronized void closeSpillFiles() {
+			marks.forEach(Mark::closeFile);
+		}
+	}
+
+	private static class Mark {
+
+		final int position;
+		final String name;
+
+		@Nullable
+		Path file;
+
+		@Nullable
+		OutputStream spillOutput;
+
+		boolean spillFailed;
+
+		Mark(int position, String name) {
+			this.position = position;
+			this.name = name;
+		}
+
+		void writeToFile(byte[] buf, int off, int len) {
+			OutputStream spillOutput = this.spillOutput;
+			if (spillOutput == null) {
+				return;
+			}
+			try {
+				spillOutput.write(buf, off, len);
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "Failed to write captured output to " + this.file);
+				this.spillFailed = true;
+				closeFile();
+			}
+		}
+
+		void closeFile() {
+			OutputStream spillOutput = this.spillOutput;
+			this.spillOutput = null;
+			if (spillOutput != null) {
+				try {
+					spillOutput.close();
+				}
+				catch (IOException ex) {
+					logger.warn(ex, () -> "Failed to close captured output file " + this.file);
+				}
+			}
 		}
 	}
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * Persistent mapping of test classes to the digests of the application
+ * classes they depended on when they last executed successfully and the
+ * unique IDs of their tests that executed successfully.
+ *
+ * <p>The file starts with a line containing the format version and a
+ * fingerprint of the runtime environment, i.e. the Java version and the sizes
+ * and modification times of all archives on the class path and module path.
+ * If the fingerprint does not match the current environment, the index is
+ * considered stale. The following lines contain one
+ * {@code D<tab><class name><tab><digest>} line per distinct dependency and
+ * one {@code T<tab><test class name><tab><dependency indexes>} line per test
+ * class, with the indexes referring to the order of the dependency lines,
+ * each followed by one {@code S<tab><test class name><tab><unique ID>} line
+ * per test or container of the test class that executed successfully.
+ *
+ * @since 6.0
+ * @see IncrementalTestSelectionListener#FILE_PROPERTY_NAME
+ */
+final class ClassDependencyIndex {
+
+	private static final String FORMAT_VERSION = "2";
+	private static final String DEPENDENCY_PREFIX = "D";
+	private static final String TEST_CLASS_PREFIX = "T";
+	private static final String SUCCEEDED_TEST_PREFIX = "S";
+	private static final String SEPARATOR = "\t";
+
+	private final String fingerprint;
+	private final Map<String, Map<String, String>> dependenciesByTestClass;
+	private final Map<String, Set<String>> succeededTestsByTestClass;
+
+	static Optional<Path> getFile(ConfigurationParameters configurationParameters) {
+		return configurationParameters.get(IncrementalTestSelectionListener.FILE_PROPERTY_NAME) //
+				.map(String::strip) //
+				.filter(path -> !path.isEmpty()) //
+				.map(Path::of);
+	}
+
+	/**
+	 * Create an empty index for the current environment.
+	 */
+	static ClassDependencyIndex create() {
+		return new ClassDependencyIndex(computeFingerprint(), new TreeMap<>(), new TreeMap<>());
+	}
+
+	/**
+	 * Read the index stored in the supplied file.
+	 *
+	 * @return the index; empty if the file does not exist
+	 * @throws IOException if the file cannot be read or has an invalid format
+	 */
+	static Optional<ClassDependencyIndex> read(Path file) throws IOException {
+		if (!Files.exists(file)) {
+			return Optional.empty();
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+			String[] header = split(reader.readLine(), 2);
+			if (!FORMAT_VERSION.equals(header[0])) {
+				throw new IOException("Unsupported format version: " + header[0]);
+			}
+			List<String> dependencyNames = new ArrayList<>();
+			List<String> dependencyDigests = new ArrayList<>();
+			Map<String, Map<String, String>> dependenciesByTestClass = new TreeMap<>();
+			Map<String, Set<String>> succeededTestsByTestClass = new TreeMap<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] parts = split(line, 3);
+				if (DEPENDENCY_PREFIX.equals(parts[0])) {
+					dependencyNames.add(parts[1]);
+					dependencyDigests.add(parts[2]);
+				}
+				else if (TEST_CLASS_PREFIX.equals(parts[0])) {
+					Map<String, String> dependencies = new TreeMap<>();
+					for (String index : parts[2].split(" ")) {
+						int dependencyIndex = Integer.parseInt(index);
+						dependencies.put(dependencyNames.get(dependencyIndex), dependencyDigests.get(dependencyIndex));
+					}
+					dependenciesByTestClass.put(parts[1], dependencies);
+				}
+				else if (SUCCEEDED_TEST_PREFIX.equals(parts[0])) {
+					succeededTestsByTestClass.computeIfAbsent(parts[1], __ -> new TreeSet<>()).add(parts[2]);
+				}
+				else {
+					throw new IOException("Invalid line: " + line);
+				}
+			}
+			return Optional.of(
+				new ClassDependencyIndex(header[1], dependenciesByTestClass, succeededTestsByTestClass));
+		}
+		catch (RuntimeException ex) {
+			throw new IOException("Invalid class dependency index: " + file.toAbsolutePath(), ex);
+		}
+	}
+
+	private static String[] split(@Nullable String line, int expectedParts) throws IOException {
+		String[] parts = line == null ? new String[0] : line.split(SEPARATOR, expectedParts);
+		if (parts.length != expectedParts) {
+			throw new IOException("Invalid line: " + line);
+		}
+		return parts;
+	}
+
+	private ClassDependencyIndex(String fingerprint, Map<String, Map<String, String>> dependenciesByTestClass,
+			Map<String, Set<String>> succeededTestsByTestClass) {
+		this.fingerprint = fingerprint;
+		this.dependenciesByTestClass = dependenciesByTestClass;
+		this.succeededTestsByTestClass = succeededTestsByTestClass;
+	}
+
+	/**
+	 * Determine whether this index was recorded in a different environment.
+	 */
+	boolean isStale() {
+		return !this.fingerprint.equals(computeFingerprint());
+	}
+
+	/**
+	 * Get the digests of the recorded dependencies of the supplied test class
+	 * keyed by class name, or {@code null} if it has not been recorded.
+	 */
+	@Nullable
+	Map<String, String> getDependencies(String testClassName) {
+		return this.dependenciesByTestClass.get(testClassName);
+	}
+
+	/**
+	 * Determine whether the test or container with the supplied unique ID
+	 * executed successfully when the supplied test class was recorded.
+	 */
+	boolean hasSucceeded(String testClassName, String uniqueId) {
+		Set<String> succeededTests = this.succeededTestsByTestClass.get(testClassName);
+		return succeededTests != null && succeededTests.contains(uniqueId);
+	}
+
+	/**
+	 * Record the dependencies of the supplied test class and the unique IDs of
+	 * its tests and containers that executed successfully.
+	 *
+	 * <p>If the dependencies are unchanged, the supplied unique IDs are added
+	 * to the previously recorded ones since tests are often executed
+	 * selectively; otherwise, they replace them.
+	 */
+	void put(String testClassName, Map<String, String> dependencies, Set<String> succeededTests) {
+		Map<String, String> previousDependencies = this.dependenciesByTestClass.put(testClassName, dependencies);
+		Set<String> recordedTests = this.succeededTestsByTestClass.computeIfAbsent(testClassName,
+			__ -> new TreeSet<>());
+		if (!dependencies.equals(previousDependencies)) {
+			recordedTests.clear();
+		}
+		recordedTests.addAll(succeededTests);
+	}
+
+	void remove(Set<String> testClassNames) {
+		this.dependenciesByTestClass.keySet().removeAll(testClassNames);
+		this.succeededTestsByTestClass.keySet().removeAll(testClassNames);
+	}
+
+	/**
+	 * Write this index to the supplied file, replacing its contents.
+	 */
+	void write(Path file) throws IOException {
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+				writeLine(writer, FORMAT_VERSION, this.fingerprint);
+				Map<String, Integer> dependencyIndexes = new LinkedHashMap<>();
+				for (Map<String, String> dependencies : this.dependenciesByTestClass.values()) {
+					for (Map.Entry<String, String> dependency : dependencies.entrySet()) {
+						String key = dependency.getKey() + SEPARATOR + dependency.getValue();
+						if (!dependencyIndexes.containsKey(key)) {
+							dependencyIndexes.put(key, dependencyIndexes.size());
+							writeLine(writer, DEPENDENCY_PREFIX, key);
+						}
+					}
+				}
+				for (Map.Entry<String, Map<String, String>> entry : this.dependenciesByTestClass.entrySet()) {
+					List<String> indexes = new ArrayList<>();
+					entry.getValue().forEach((name, digest) -> indexes.add(
+						String.valueOf(dependencyIndexes.get(name + SEPARATOR + digest))));
+					writeLine(writer, TEST_CLASS_PREFIX, entry.getKey() + SEPARATOR + String.join(" ", indexes));
+					for (String uniqueId : this.succeededTestsByTestClass.getOrDefault(entry.getKey(), Set.of())) {
+						// unique IDs spanning multiple lines are omitted so such tests are always executed
+						if (uniqueId.indexOf('\n') < 0 && uniqueId.indexOf('\r') < 0) {
+							writeLine(writer, SUCCEEDED_TEST_PREFIX, entry.getKey() + SEPARATOR + uniqueId);
+						}
+					}
+				}
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private static void writeLine(BufferedWriter writer, String prefix, String value) throws IOException {
+		writer.write(prefix);
+		writer.write(SEPARATOR);
+		writer.write(value);
+		writer.newLine();
+	}
+
+	private static String computeFingerprint() {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(System.getProperty("java.version", "").getBytes(UTF_8));
+			for (String property : List.of("java.class.path", "jdk.module.path")) {
+				for (String entry : System.getProperty(property, "").split(File.pathSeparator)) {
+					Path path = Path.of(entry);
+					if (!entry.isBlank() && Files.isRegularFile(path)) {
+						BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+						digest.update((path.toAbsolutePath() + ":" + attributes.size() + ":"
+								+ attributes.lastModifiedTime().toMillis() + "\n").getBytes(UTF_8));
+					}
+				}
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		}
+		catch (NoSuchAlgorithmException | IOException ex) {
+			throw new JUnitException("Failed to compute fingerprint of runtime environment", ex);
+		}
+	}
+
+}
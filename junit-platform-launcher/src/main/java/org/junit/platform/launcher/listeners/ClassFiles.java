@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Reads application class files, i.e. class files that are located in a
+ * directory rather than an archive, and determines their digests and the
+ * classes they reference.
+ *
+ * <p>References are collected from the constant pool of each class file.
+ * Hence, they comprise all classes that are referenced by the byte code,
+ * including the types in field and method signatures and annotations, but
+ * not classes that are only loaded reflectively.
+ *
+ * <p>Instances of this class cache all class files they read and are not
+ * thread-safe.
+ *
+ * @since 6.0
+ */
+final class ClassFiles {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassFiles.class);
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final Pattern TYPE_DESCRIPTOR = Pattern.compile("L([^;<>()\\[\\s:.]+)[;<]");
+
+	private final Map<String, Optional<ClassFile>> classFiles = new HashMap<>();
+	private final ClassLoader classLoader;
+
+	ClassFiles(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Get the digest of the application class file of the supplied class.
+	 *
+	 * @return the digest; empty if the class file does not exist, cannot be
+	 * read, or is not an application class file
+	 */
+	Optional<String> getDigest(String className) {
+		return find(className).map(ClassFile::digest);
+	}
+
+	/**
+	 * Get the digests of the application class files of the supplied class
+	 * and all classes it references directly or indirectly via other
+	 * application classes.
+	 *
+	 * @return digests keyed by class name; empty if the supplied class is not
+	 * an application class
+	 */
+	Map<String, String> getDependencies(String className) {
+		Map<String, String> dependencies = new TreeMap<>();
+		Deque<String> pending = new ArrayDeque<>(List.of(className));
+		while (!pending.isEmpty()) {
+			String current = pending.pop();
+			if (!dependencies.containsKey(current)) {
+				find(current).ifPresent(classFile -> {
+					dependencies.put(current, classFile.digest());
+					pending.addAll(classFile.referencedClassNames());
+				});
+			}
+		}
+		return dependencies;
+	}
+
+	private Optional<ClassFile> find(String className) {
+		Optional<ClassFile> classFile = this.classFiles.get(className);
+		if (classFile == null) {
+			classFile = read(className);
+			this.classFiles.put(className, classFile);
+		}
+		return classFile;
+	}
+
+	private Optional<ClassFile> read(String className) {
+		URL resource = this.classLoader.getResource(className.replace('.', '/') + ".class");
+		if (resource == null || !"file".equals(resource.getProtocol())) {
+			return Optional.empty();
+		}
+		try (InputStream inputStream = resource.openStream()) {
+			byte[] bytes = inputStream.readAllBytes();
+			return Optional.of(new ClassFile(digest(bytes), referencedClassNames(bytes)));
+		}
+		catch (IOException ex) {
+			logger.debug(ex, () -> "Failed to read class file " + resource);
+			return Optional.empty();
+		}
+	}
+
+	private static String digest(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new JUnitException("SHA-256 is not supported", ex);
+		}
+	}
+
+	private static List<String> referencedClassNames(byte[] bytes) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		in.readUnsignedShort(); // minor version
+		in.readUnsignedShort(); // major version
+		int constantPoolCount = in.readUnsignedShort();
+		String[] strings = new String[constantPoolCount];
+		List<Integer> classNameIndexes = new ArrayList<>();
+		for (int index = 1; index < constantPoolCount; index++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+				case 1 -> strings[index] = in.readUTF();
+				case 7 -> classNameIndexes.add(in.readUnsignedShort());
+				case 8, 16, 19, 20 -> in.readUnsignedShort();
+				case 3, 4, 9, 10, 11, 12, 17, 18 -> in.readInt();
+				case 5, 6 -> {
+					in.readLong();
+					index++; // 8-byte constants occupy two entries
+				}
+				case 15 -> {
+					in.readUnsignedByte();
+					in.readUnsignedShort();
+				}
+				default -> throw new IOException("Unknown constant pool tag: " + tag);
+			}
+		}
+		Set<String> classNames = new LinkedHashSet<>();
+		for (int index : classNameIndexes) {
+			String name = strings[index];
+			if (name != null && !name.startsWith("[")) {
+				classNames.add(name.replace('/', '.'));
+			}
+		}
+		// type descriptors and signatures of fields, methods, annotations, and array classes
+		for (String string : strings) {
+			if (string != null) {
+				Matcher matcher = TYPE_DESCRIPTOR.matcher(string);
+				while (matcher.find()) {
+					classNames.add(matcher.group(1).replace('/', '.'));
+				}
+			}
+		}
+		return List.copyOf(classNames);
+	}
+
+	private record ClassFile(String digest, List<String> referencedClassNames) {
+	}
+
+}
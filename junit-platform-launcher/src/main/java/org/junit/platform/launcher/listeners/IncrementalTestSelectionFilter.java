@@ -0,0 +1,217 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.MethodSelector;
+import org.junit.platform.engine.discovery.NestedClassSelector;
+import org.junit.platform.engine.discovery.NestedMethodSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * {@code IncrementalTestSelectionFilter} is a {@link PostDiscoveryFilter} that
+ * excludes tests that have executed successfully before and whose test classes
+ * and their dependencies have not changed since, as recorded by the
+ * {@link IncrementalTestSelectionListener}.
+ *
+ * <p>A {@link TestDescriptor} is excluded if it or at least one of its
+ * ancestors has a {@linkplain TestDescriptor#getSource() source} that is a
+ * {@link ClassSource}, it executed successfully when its innermost test class
+ * was recorded, and, for each such test class, the digests of the class files
+ * of the class and all application classes it depended on when it was
+ * recorded are unchanged. All other descriptors are included. Containers
+ * whose descendants have all been excluded are pruned by the
+ * {@link org.junit.platform.launcher.Launcher Launcher}.
+ *
+ * <p>Tests that were selected explicitly via a {@link ClassSelector},
+ * {@link MethodSelector}, {@link NestedClassSelector},
+ * {@link NestedMethodSelector}, or {@link UniqueIdSelector} are never
+ * excluded, e.g. when an IDE is used to run a single test again.
+ *
+ * <p>The filter is applied automatically if the
+ * {@value IncrementalTestSelectionListener#FILE_PROPERTY_NAME} configuration
+ * parameter is set. If the file does not exist, cannot be read, or was
+ * recorded in a different environment, no tests are excluded.
+ *
+ * @since 6.0
+ * @see IncrementalTestSelectionListener
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class IncrementalTestSelectionFilter implements PostDiscoveryFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(IncrementalTestSelectionFilter.class);
+
+	private final ClassDependencyIndex index;
+	private final ClassFiles classFiles;
+	private final Map<String, Boolean> unchangedClasses = new HashMap<>();
+	private final Set<String> selectedClassNames = new HashSet<>();
+	private final Set<String> selectedMethods = new HashSet<>();
+	private final Set<UniqueId> selectedUniqueIds = new HashSet<>();
+
+	/**
+	 * Create an {@code IncrementalTestSelectionFilter} for the supplied
+	 * request and the file configured via
+	 * {@value IncrementalTestSelectionListener#FILE_PROPERTY_NAME}, if set
+	 * and up to date.
+	 */
+	@API(status = INTERNAL, since = "6.0")
+	public static Optional<PostDiscoveryFilter> create(LauncherDiscoveryRequest request) {
+		return ClassDependencyIndex.getFile(request.getConfigurationParameters()) //
+				.flatMap(IncrementalTestSelectionFilter::readIndex) //
+				.map(index -> new IncrementalTestSelectionFilter(index,
+					request.getSelectorsByType(DiscoverySelector.class)));
+	}
+
+	private static Optional<ClassDependencyIndex> readIndex(Path file) {
+		try {
+			Optional<ClassDependencyIndex> index = ClassDependencyIndex.read(file);
+			if (index.isEmpty()) {
+				logger.info(() -> "Selecting all tests since class dependency index " + file.toAbsolutePath()
+						+ " does not exist");
+				return Optional.empty();
+			}
+			if (index.get().isStale()) {
+				logger.info(() -> "Selecting all tests since class dependency index " + file.toAbsolutePath()
+						+ " was recorded with a different Java version or different libraries");
+				return Optional.empty();
+			}
+			return index;
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Selecting all tests since class dependency index " + file.toAbsolutePath()
+					+ " could not be read");
+			return Optional.empty();
+		}
+	}
+
+	private IncrementalTestSelectionFilter(ClassDependencyIndex index, List<DiscoverySelector> selectors) {
+		this.index = index;
+		this.classFiles = new ClassFiles(ClassLoaderUtils.getDefaultClassLoader());
+		for (DiscoverySelector selector : selectors) {
+			if (selector instanceof ClassSelector classSelector) {
+				this.selectedClassNames.add(classSelector.getClassName());
+			}
+			else if (selector instanceof NestedClassSelector nestedClassSelector) {
+				this.selectedClassNames.add(nestedClassSelector.getNestedClassName());
+			}
+			else if (selector instanceof MethodSelector methodSelector) {
+				this.selectedMethods.add(toMethodKey(methodSelector.getClassName(), methodSelector.getMethodName()));
+			}
+			else if (selector instanceof NestedMethodSelector nestedMethodSelector) {
+				this.selectedMethods.add(
+					toMethodKey(nestedMethodSelector.getNestedClassName(), nestedMethodSelector.getMethodName()));
+			}
+			else if (selector instanceof UniqueIdSelector uniqueIdSelector) {
+				this.selectedUniqueIds.add(uniqueIdSelector.getUniqueId());
+			}
+		}
+	}
+
+	@Override
+	public FilterResult apply(TestDescriptor descriptor) {
+		@Nullable
+		String innermostClassName = null;
+		Optional<TestDescriptor> current = Optional.of(descriptor);
+		while (current.isPresent()) {
+			if (isSelectedExplicitly(current.get())) {
+				return FilterResult.included("selected explicitly");
+			}
+			Optional<String> className = getClassName(current.get());
+			if (className.isPresent()) {
+				if (!isUnchangedClass(className.get())) {
+					return FilterResult.included("enclosing test class changed or not recorded");
+				}
+				if (innermostClassName == null) {
+					innermostClassName = className.get();
+				}
+			}
+			current = current.get().getParent();
+		}
+		if (innermostClassName == null) {
+			return FilterResult.included("not contained in a test class");
+		}
+		return FilterResult.includedIf(
+			!this.index.hasSucceeded(innermostClassName, descriptor.getUniqueId().toString()), //
+			() -> "not executed successfully before", //
+			() -> "unchanged since last successful execution");
+	}
+
+	private boolean isSelectedExplicitly(TestDescriptor descriptor) {
+		if (this.selectedUniqueIds.contains(descriptor.getUniqueId())) {
+			return true;
+		}
+		return descriptor.getSource().map(source -> {
+			if (source instanceof ClassSource classSource) {
+				return this.selectedClassNames.contains(classSource.getClassName());
+			}
+			if (source instanceof MethodSource methodSource) {
+				return this.selectedMethods.contains(
+					toMethodKey(methodSource.getClassName(), methodSource.getMethodName()));
+			}
+			return false;
+		}).orElse(false);
+	}
+
+	private static String toMethodKey(String className, String methodName) {
+		return className + "#" + methodName;
+	}
+
+	private boolean isUnchangedClass(String className) {
+		Boolean unchanged = this.unchangedClasses.get(className);
+		if (unchanged == null) {
+			unchanged = computeUnchanged(className);
+			this.unchangedClasses.put(className, unchanged);
+		}
+		return unchanged;
+	}
+
+	private boolean computeUnchanged(String className) {
+		Map<String, String> dependencies = this.index.getDependencies(className);
+		if (dependencies == null) {
+			return false;
+		}
+		return dependencies.entrySet().stream() //
+				.allMatch(dependency -> this.classFiles.getDigest(dependency.getKey()) //
+						.filter(dependency.getValue()::equals) //
+						.isPresent());
+	}
+
+	private static Optional<String> getClassName(TestDescriptor descriptor) {
+		return descriptor.getSource() //
+				.filter(ClassSource.class::isInstance) //
+				.map(source -> ((ClassSource) source).getClassName());
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.store.Namespace;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code IncrementalTestSelectionListener} is a {@link LauncherSessionListener}
+ * that records the application classes each test class depended on when it
+ * executed successfully so that the {@link IncrementalTestSelectionFilter}
+ * can skip it in subsequent runs unless one of them changed.
+ *
+ * <p>The listener is registered automatically via Java's
+ * {@link java.util.ServiceLoader} mechanism and is enabled by setting the
+ * {@value #FILE_PROPERTY_NAME} configuration parameter to the path of the
+ * class dependency index file. It registers a {@link TestExecutionListener}
+ * with the session's {@link org.junit.platform.launcher.Launcher Launcher}
+ * that tracks which test classes, i.e. containers with a {@link ClassSource},
+ * finished successfully without any failed or aborted descendants and which
+ * of their statically discovered tests and containers finished successfully.
+ * Only the latter are skipped in subsequent runs so that tests that were not
+ * executed, e.g. due to a method selector or a tag filter, are executed the
+ * next time they are selected. When the session is closed, the file is
+ * updated with the dependencies and successful tests of those classes and
+ * entries of classes that failed are removed. Entries of classes that were
+ * not executed are retained unless the file was recorded in a different
+ * environment.
+ *
+ * <p>The dependencies of a class are the classes it references in its class
+ * file, transitively, as long as they are application classes, i.e. located in
+ * a directory rather than an archive on the class path. Changes to archives
+ * and the Java version are detected by comparing a fingerprint of the runtime
+ * environment, in which case all tests are selected. Classes that are only
+ * loaded reflectively and resources are not tracked.
+ *
+ * @since 6.0
+ * @see IncrementalTestSelectionFilter
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class IncrementalTestSelectionListener implements LauncherSessionListener {
+
+	/**
+	 * Property name used to set the path of the file in which the class
+	 * dependencies of test classes are recorded: {@value}
+	 *
+	 * <p>If set, the {@link IncrementalTestSelectionFilter} is applied
+	 * automatically and the {@code IncrementalTestSelectionListener} is
+	 * enabled.
+	 */
+	public static final String FILE_PROPERTY_NAME = "junit.platform.incremental.selection.file";
+
+	private static final Logger logger = LoggerFactory.getLogger(IncrementalTestSelectionListener.class);
+
+	private static final Namespace NAMESPACE = Namespace.create(IncrementalTestSelectionListener.class);
+
+	public IncrementalTestSelectionListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void launcherSessionOpened(LauncherSession session) {
+		Recorder recorder = new Recorder();
+		session.getStore().put(NAMESPACE, Recorder.class, recorder);
+		session.getLauncher().registerTestExecutionListeners(recorder);
+	}
+
+	@Override
+	public void launcherSessionClosed(LauncherSession session) {
+		Recorder recorder = session.getStore().get(NAMESPACE, Recorder.class, Recorder.class);
+		if (recorder != null) {
+			recorder.recordings.forEach(IncrementalTestSelectionListener::write);
+		}
+	}
+
+	private static void write(Path file, Recording recording) {
+		try {
+			ClassDependencyIndex index = readOrCreate(file);
+			index.remove(recording.failedClasses);
+			recording.dependencies.forEach((className, dependencies) -> index.put(className, dependencies,
+				recording.succeededTests.getOrDefault(className, Set.of())));
+			logger.debug(() -> "Writing class dependency index to " + file.toAbsolutePath());
+			index.write(file);
+		}
+		catch (Exception ex) {
+			logger.error(ex, () -> "Failed to write class dependency index to " + file.toAbsolutePath());
+		}
+	}
+
+	private static ClassDependencyIndex readOrCreate(Path file) {
+		try {
+			return ClassDependencyIndex.read(file) //
+					.filter(index -> !index.isStale()) //
+					.orElseGet(ClassDependencyIndex::create);
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Replacing invalid class dependency index " + file.toAbsolutePath());
+			return ClassDependencyIndex.create();
+		}
+	}
+
+	private static class Recorder implements TestExecutionListener {
+
+		private final Map<Path, Recording> recordings = new ConcurrentHashMap<>();
+		private final Map<String, Set<String>> succeededTestsByClass = new ConcurrentHashMap<>();
+		private final Set<String> failedClasses = ConcurrentHashMap.newKeySet();
+		private final Set<UniqueId> dynamicTests = ConcurrentHashMap.newKeySet();
+
+		private @Nullable TestPlan testPlan;
+		private Optional<Path> file = Optional.empty();
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			this.testPlan = testPlan;
+			this.file = ClassDependencyIndex.getFile(testPlan.getConfigurationParameters());
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			this.dynamicTests.add(testIdentifier.getUniqueIdObject());
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			TestPlan testPlan = this.testPlan;
+			if (this.file.isEmpty() || testPlan == null) {
+				return;
+			}
+			if (testExecutionResult.getStatus() != SUCCESSFUL) {
+				// the class and all enclosing classes must be executed again
+				Optional<TestIdentifier> current = Optional.of(testIdentifier);
+				while (current.isPresent()) {
+					getClassName(current.get().getSource().orElse(null)).ifPresent(this.failedClasses::add);
+					current = testPlan.getParent(current.get());
+				}
+			}
+			else if (!this.dynamicTests.contains(testIdentifier.getUniqueIdObject())) {
+				// only statically discovered tests and containers may be excluded by the filter
+				findInnermostTestClass(testPlan, testIdentifier).ifPresent(
+					className -> this.succeededTestsByClass.computeIfAbsent(className,
+						__ -> ConcurrentHashMap.newKeySet()).add(testIdentifier.getUniqueId()));
+			}
+		}
+
+		private static Optional<String> findInnermostTestClass(TestPlan testPlan, TestIdentifier testIdentifier) {
+			Optional<TestIdentifier> current = Optional.of(testIdentifier);
+			while (current.isPresent()) {
+				Optional<TestSource> source = current.get().getSource();
+				if (source.isPresent() && source.get() instanceof ClassSource classSource) {
+					return Optional.of(classSource.getClassName());
+				}
+				current = testPlan.getParent(current.get());
+			}
+			return Optional.empty();
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			this.file.ifPresent(file -> {
+				Recording recording = this.recordings.computeIfAbsent(file, __ -> new Recording());
+				ClassFiles classFiles = new ClassFiles(ClassLoaderUtils.getDefaultClassLoader());
+				this.succeededTestsByClass.forEach((className, succeededTests) -> {
+					if (!this.failedClasses.contains(className)) {
+						Map<String, String> dependencies = classFiles.getDependencies(className);
+						if (!dependencies.isEmpty()) {
+							recording.dependencies.put(className, dependencies);
+							recording.succeededTests.computeIfAbsent(className, __ -> new HashSet<>()).addAll(
+								succeededTests);
+						}
+					}
+				});
+				this.failedClasses.forEach(recording.dependencies::remove);
+				this.failedClasses.forEach(recording.succeededTests::remove);
+				recording.failedClasses.addAll(this.failedClasses);
+			});
+			this.testPlan = null;
+			this.file = Optional.empty();
+			this.succeededTestsByClass.clear();
+			this.failedClasses.clear();
+			this.dynamicTests.clear();
+		}
+
+		private static Optional<String> getClassName(@Nullable TestSource source) {
+			if (source instanceof ClassSource classSource) {
+				return Optional.of(classSource.getClassName());
+			}
+			if (source instanceof MethodSource methodSource) {
+				return Optional.of(methodSource.getClassName());
+			}
+			return Optional.empty();
+		}
+	}
+
+	private static class Recording {
+
+		private final Map<String, Map<String, String>> dependencies = new ConcurrentHashMap<>();
+		private final Map<String, Set<String>> succeededTests = new ConcurrentHashMap<>();
+		private final Set<String> failedClasses = new HashSet<>();
+
+	}
+
+}
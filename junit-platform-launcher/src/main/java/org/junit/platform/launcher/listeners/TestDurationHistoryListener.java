@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.TestDurationHistory;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code TestDurationHistoryListener} is a {@link TestExecutionListener} that
+ * records the durations of all tests and containers that finished during the
+ * execution of a {@link TestPlan} in a {@link TestDurationHistory} file.
+ *
+ * <p>The listener is registered automatically via Java's
+ * {@link java.util.ServiceLoader} mechanism and is enabled by setting the
+ * {@value TestDurationHistory#FILE_PROPERTY_NAME} configuration parameter to
+ * the path of the history file. Durations recorded by previous runs are
+ * retained unless the corresponding test or container finished again, in
+ * which case its duration is replaced, or the history contains more than
+ * {@value TestDurationHistory#MAX_ENTRIES_PROPERTY_NAME} durations, in which
+ * case the least recently recorded ones are removed.
+ *
+ * <p>Skipped tests and containers are not recorded.
+ *
+ * @since 6.0
+ * @see TestDurationHistory
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class TestDurationHistoryListener implements TestExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(TestDurationHistoryListener.class);
+
+	private final Map<UniqueId, Long> startTimes = new ConcurrentHashMap<>();
+	private final Map<UniqueId, Duration> durations = new ConcurrentHashMap<>();
+
+	private Optional<Path> historyFile = Optional.empty();
+
+	public TestDurationHistoryListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.historyFile = TestDurationHistory.getFile(testPlan.getConfigurationParameters());
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (this.historyFile.isPresent()) {
+			this.startTimes.put(testIdentifier.getUniqueIdObject(), System.nanoTime());
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Long startTime = this.startTimes.remove(testIdentifier.getUniqueIdObject());
+		if (startTime != null) {
+			this.durations.put(testIdentifier.getUniqueIdObject(), Duration.ofNanos(System.nanoTime() - startTime));
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		this.historyFile.ifPresent(file -> writeHistory(file, testPlan.getConfigurationParameters()));
+		this.historyFile = Optional.empty();
+		this.startTimes.clear();
+		this.durations.clear();
+	}
+
+	private void writeHistory(Path file, ConfigurationParameters configurationParameters) {
+		try {
+			int maxEntries = TestDurationHistory.getMaxEntries(configurationParameters);
+			TestDurationHistory history = TestDurationHistory.read(file);
+			this.durations.forEach(history::record);
+			history.retainMostRecent(maxEntries);
+			logger.debug(() -> "Writing test duration history to " + file.toAbsolutePath());
+			history.write(file);
+		}
+		catch (Exception ex) {
+			logger.error(ex, () -> "Failed to write test duration history to " + file.toAbsolutePath());
+		}
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher.listeners;
 
+import static java.util.Collections.synchronizedList;
 import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -133,7 +134,8 @@ public class UniqueIdTrackingListener implements TestExecutionListener {
 
 	private final Logger logger = LoggerFactory.getLogger(UniqueIdTrackingListener.class);
 
-	private final List<String> uniqueIds = new ArrayList<>();
+	// engines may report events concurrently, e.g. when executing tests in parallel
+	private final List<String> uniqueIds = synchronizedList(new ArrayList<>());
 
 	private boolean enabled;
 
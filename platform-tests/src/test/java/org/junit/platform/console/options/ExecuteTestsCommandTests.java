@@ -119,6 +119,16 @@ class ExecuteTestsCommandTests {
 		// @formatter:on
 	}
 
+	@Test
+	void parseValidWatch() {
+		// @formatter:off
+		assertAll(
+				() -> assertFalse(parseArgs().isWatch()),
+				() -> assertTrue(parseArgs("--watch").isWatch())
+		);
+		// @formatter:on
+	}
+
 	private ExecuteTestsCommand parseArgs(String... args) {
 		command.parseArgs(args);
 		return command;
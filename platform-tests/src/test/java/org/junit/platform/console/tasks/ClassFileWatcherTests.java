@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @since 6.0
+ */
+@Timeout(60)
+class ClassFileWatcherTests {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void reportsChangedClassFilesAsClassNames() throws Exception {
+		Files.createDirectories(root.resolve("com/example"));
+		Files.write(root.resolve("com/example/Foo.class"), new byte[0]);
+
+		try (var watcher = new ClassFileWatcher(List.of(root))) {
+			Files.write(root.resolve("com/example/Foo.class"), new byte[] { 1 });
+			Files.write(root.resolve("com/example/Bar.class"), new byte[0]);
+			Files.writeString(root.resolve("com/example/readme.txt"), "ignored");
+
+			assertThat(watcher.awaitChangedClasses()).containsExactly("com.example.Bar", "com.example.Foo");
+		}
+	}
+
+	@Test
+	void reportsClassFilesInNewlyCreatedDirectories() throws Exception {
+		try (var watcher = new ClassFileWatcher(List.of(root))) {
+			Files.createDirectories(root.resolve("com/example"));
+			Files.write(root.resolve("com/example/Foo.class"), new byte[0]);
+
+			assertThat(watcher.awaitChangedClasses()).contains("com.example.Foo");
+		}
+	}
+
+	@Test
+	void reportsUnknownChangesWhenEventsWereDropped() throws Exception {
+		try (var watcher = new ClassFileWatcher(List.of(root))) {
+			// exceeds the number of events a watch key retains
+			for (int i = 0; i < 1_000; i++) {
+				Files.writeString(root.resolve("file" + i + ".txt"), "ignored");
+			}
+
+			assertThat(watcher.awaitChangedClasses()).isEmpty();
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.0
+ */
+class CancellationTokenTests {
+
+	@Test
+	void runsActionsOnceWhenCancellationIsRequested() {
+		var token = CancellationToken.create();
+		var counter = new AtomicInteger();
+		token.onCancellation(counter::incrementAndGet);
+
+		assertThat(counter).hasValue(0);
+
+		token.cancel();
+		token.cancel();
+
+		assertThat(counter).hasValue(1);
+	}
+
+	@Test
+	void runsActionImmediatelyWhenCancellationWasAlreadyRequested() {
+		var token = CancellationToken.create();
+		token.cancel();
+		var counter = new AtomicInteger();
+
+		token.onCancellation(counter::incrementAndGet);
+
+		assertThat(counter).hasValue(1);
+	}
+
+	@Test
+	void doesNotRunActionsWhoseRegistrationWasClosed() {
+		var token = CancellationToken.create();
+		var counter = new AtomicInteger();
+		var registration = token.onCancellation(counter::incrementAndGet);
+		token.onCancellation(counter::incrementAndGet);
+
+		registration.close();
+		token.cancel();
+
+		assertThat(counter).hasValue(1);
+	}
+
+	@Test
+	void closingRegistrationOfActionThatWasAlreadyRunHasNoEffect() {
+		var token = CancellationToken.create();
+		var counter = new AtomicInteger();
+		var registration = token.onCancellation(counter::incrementAndGet);
+		token.cancel();
+
+		registration.close();
+		registration.close();
+
+		assertThat(counter).hasValue(1);
+	}
+
+	@Test
+	void runsRemainingActionsWhenActionThrowsException() {
+		var token = CancellationToken.create();
+		var counter = new AtomicInteger();
+		token.onCancellation(() -> {
+			throw new IllegalStateException("boom");
+		});
+		token.onCancellation(counter::incrementAndGet);
+
+		token.cancel();
+
+		assertThat(token.isCancellationRequested()).isTrue();
+		assertThat(counter).hasValue(1);
+	}
+
+	@Test
+	void neverRunsActionsOfDisabledToken() {
+		var token = CancellationToken.disabled();
+		var counter = new AtomicInteger();
+		var registration = token.onCancellation(counter::incrementAndGet);
+
+		token.cancel();
+		registration.close();
+
+		assertThat(counter).hasValue(0);
+	}
+
+}
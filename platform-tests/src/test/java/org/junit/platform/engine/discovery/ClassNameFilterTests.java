@@ -150,4 +150,13 @@ class ClassNameFilterTests {
 					+ secondRegex + "'");
 	}
 
+	@Test
+	void classNameFiltersWithSamePatternsAreEqual() {
+		assertThat(ClassNameFilter.includeClassNamePatterns("a.*", "b.*")) //
+				.isEqualTo(ClassNameFilter.includeClassNamePatterns("a.*", "b.*")) //
+				.hasSameHashCodeAs(ClassNameFilter.includeClassNamePatterns("a.*", "b.*")) //
+				.isNotEqualTo(ClassNameFilter.includeClassNamePatterns("a.*")) //
+				.isNotEqualTo(ClassNameFilter.excludeClassNamePatterns("a.*", "b.*"));
+	}
+
 }
@@ -126,4 +126,13 @@ class PackageNameFilterTests {
 			"Package name [java.language.Test] does not match any excluded names: '" + excludedPackage1 + "' OR '"
 					+ excludedPackage2 + "'");
 	}
+
+	@Test
+	void packageNameFiltersWithSamePackageNamesAreEqual() {
+		assertThat(PackageNameFilter.includePackageNames("java.lang", "java.util")) //
+				.isEqualTo(PackageNameFilter.includePackageNames("java.lang", "java.util")) //
+				.hasSameHashCodeAs(PackageNameFilter.includePackageNames("java.lang", "java.util")) //
+				.isNotEqualTo(PackageNameFilter.includePackageNames("java.lang")) //
+				.isNotEqualTo(PackageNameFilter.excludePackageNames("java.lang", "java.util"));
+	}
 }
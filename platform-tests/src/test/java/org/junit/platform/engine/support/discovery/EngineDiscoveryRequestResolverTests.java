@@ -10,21 +10,45 @@
 
 package org.junit.platform.engine.support.discovery;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.engine.DiscoveryIssue.Severity.INFO;
 import static org.junit.platform.engine.DiscoveryIssue.Severity.WARNING;
+import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.unresolved;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
 import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.DiscoveryIssue;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.EngineDiscoveryListener;
+import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.ClassSelector;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.store.ClassDependentValue;
+import org.junit.platform.engine.support.store.Namespace;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.mockito.ArgumentCaptor;
 
 public class EngineDiscoveryRequestResolverTests {
 
@@ -79,4 +103,118 @@ public class EngineDiscoveryRequestResolverTests {
 		verify(listener).issueEncountered(engineId, DiscoveryIssue.create(WARNING, "Engine"));
 	}
 
+	@Test
+	void sharesClassesFoundByClassContainerSelectorResolversViaSessionStore() {
+		var sessionStore = new NamespacedHierarchicalStore<Namespace>(null);
+		var scannedClassNames = new ArrayList<String>();
+		var filter = recordingClassNameFilter(scannedClassNames);
+
+		var allClasses = resolveClasses(packageRequest(sessionStore, filter), clazz -> true);
+		var noClasses = resolveClasses(packageRequest(sessionStore, filter), clazz -> false);
+
+		assertThat(allClasses).containsExactly(EngineDiscoveryRequestResolverTests.class);
+		assertThat(noClasses).isEmpty();
+		assertThat(scannedClassNames).containsOnlyOnce(EngineDiscoveryRequestResolverTests.class.getName());
+	}
+
+	@Test
+	void sharesClassesFoundForEqualClassNameFiltersViaSessionStore() {
+		var sessionStore = spy(new NamespacedHierarchicalStore<Namespace>(null));
+
+		var pattern = ".*\\.EngineDiscoveryRequestResolverTests";
+
+		resolveClasses(packageRequest(sessionStore, includeClassNamePatterns(pattern)), clazz -> true);
+		resolveClasses(packageRequest(sessionStore, includeClassNamePatterns(pattern)), clazz -> true);
+
+		var keys = ArgumentCaptor.forClass(Object.class);
+		verify(sessionStore, times(2)).computeIfAbsent(eq(Namespace.create(ClassContainerSelectorResolver.class)),
+			keys.capture(), any(), any());
+		assertThat(keys.getAllValues().get(1)).isEqualTo(keys.getAllValues().get(0));
+	}
+
+	@Test
+	void scansAgainAfterClassesInScannedPackageChanged() {
+		var sessionStore = new NamespacedHierarchicalStore<Namespace>(null);
+		var scannedClassNames = new ArrayList<String>();
+		var filter = recordingClassNameFilter(scannedClassNames);
+		var packageName = EngineDiscoveryRequestResolverTests.class.getPackageName();
+
+		resolveClasses(packageRequest(sessionStore, filter), clazz -> true);
+
+		assertThat(removeAffectedValues(sessionStore, "org.example.ChangedTests")).isZero();
+		assertThat(removeAffectedValues(sessionStore, packageName + ".sub.AddedTests")).isOne();
+
+		resolveClasses(packageRequest(sessionStore, filter), clazz -> true);
+
+		assertThat(scannedClassNames) //
+				.filteredOn(EngineDiscoveryRequestResolverTests.class.getName()::equals) //
+				.hasSize(2);
+	}
+
+	private static EngineDiscoveryRequest packageRequest(NamespacedHierarchicalStore<Namespace> sessionStore,
+			ClassNameFilter filter) {
+		return new SessionStoreDiscoveryRequest(request() //
+				.selectors(selectPackage(EngineDiscoveryRequestResolverTests.class.getPackageName())) //
+				.filters(filter) //
+				.build(), sessionStore);
+	}
+
+	private static ClassNameFilter recordingClassNameFilter(List<String> scannedClassNames) {
+		var delegate = includeClassNamePatterns(".*\\.EngineDiscoveryRequestResolverTests");
+		return className -> {
+			scannedClassNames.add(className);
+			return delegate.apply(className);
+		};
+	}
+
+	private static int removeAffectedValues(NamespacedHierarchicalStore<Namespace> store, String changedClassName) {
+		return store.removeIf(value -> value instanceof ClassDependentValue dependentValue
+				&& dependentValue.isAffectedBy(Set.of(changedClassName)));
+	}
+
+	private static List<Class<?>> resolveClasses(EngineDiscoveryRequest request, Predicate<Class<?>> classFilter) {
+		List<Class<?>> classes = new ArrayList<>();
+		var resolver = EngineDiscoveryRequestResolver.builder() //
+				.addClassContainerSelectorResolver(classFilter) //
+				.addSelectorResolver(new SelectorResolver() {
+					@Override
+					public Resolution resolve(ClassSelector selector, Context context) {
+						classes.add(selector.getJavaClass());
+						return unresolved();
+					}
+				}) //
+				.build();
+		resolver.resolve(request, new EngineDescriptor(UniqueId.forEngine("engine"), "Engine"));
+		return classes;
+	}
+
+	private record SessionStoreDiscoveryRequest(LauncherDiscoveryRequest delegate,
+			NamespacedHierarchicalStore<Namespace> sessionStore) implements EngineDiscoveryRequest {
+
+		@Override
+		public <T extends DiscoverySelector> List<T> getSelectorsByType(Class<T> selectorType) {
+			return delegate.getSelectorsByType(selectorType);
+		}
+
+		@Override
+		public <T extends DiscoveryFilter<?>> List<T> getFiltersByType(Class<T> filterType) {
+			return delegate.getFiltersByType(filterType);
+		}
+
+		@Override
+		public ConfigurationParameters getConfigurationParameters() {
+			return delegate.getConfigurationParameters();
+		}
+
+		@Override
+		public EngineDiscoveryListener getDiscoveryListener() {
+			return delegate.getDiscoveryListener();
+		}
+
+		@Override
+		public Optional<NamespacedHierarchicalStore<Namespace>> getSessionStore() {
+			return Optional.of(sessionStore);
+		}
+	}
+
 }
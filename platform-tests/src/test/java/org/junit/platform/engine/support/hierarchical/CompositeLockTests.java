@@ -10,11 +10,13 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -56,6 +58,26 @@ class CompositeLockTests {
 		inOrder.verify(lock1).unlock();
 	}
 
+	@Test
+	void releasesAcquiredLocksInReverseOrderWhenTryAcquireFails() {
+		var lock1 = mock(Lock.class);
+		var lock2 = mock(Lock.class);
+		var unavailableLock = mock(Lock.class);
+		when(lock1.tryLock()).thenReturn(true);
+		when(lock2.tryLock()).thenReturn(true);
+
+		var acquired = new CompositeLock(anyResources(3), List.of(lock1, lock2, unavailableLock)).tryAcquire();
+
+		assertFalse(acquired);
+		var inOrder = inOrder(lock1, lock2, unavailableLock);
+		inOrder.verify(lock1).tryLock();
+		inOrder.verify(lock2).tryLock();
+		inOrder.verify(unavailableLock).tryLock();
+		inOrder.verify(lock2).unlock();
+		inOrder.verify(lock1).unlock();
+		verify(unavailableLock, never()).unlock();
+	}
+
 	@Test
 	@SuppressWarnings("resource")
 	void releasesLocksInReverseOrderWhenInterruptedDuringAcquire() throws Exception {
@@ -16,6 +16,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -197,6 +198,63 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
 	}
 
+	@Test
+	void adaptiveStrategyCreatesValidConfiguration() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("2"));
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("2"));
+		when(configParams.get("adaptive.sampling-interval")).thenReturn(Optional.of("100"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = strategy.createConfiguration(configParams);
+
+		assertThat(configuration).isInstanceOf(AdaptiveParallelExecutionConfiguration.class);
+		var adaptiveConfiguration = (AdaptiveParallelExecutionConfiguration) configuration;
+		assertThat(adaptiveConfiguration.getParallelism()).isEqualTo(2);
+		assertThat(adaptiveConfiguration.getCorePoolSize()).isEqualTo(2);
+		assertThat(adaptiveConfiguration.getMinimumRunnable()).isEqualTo(2);
+		assertThat(adaptiveConfiguration.getMaxPoolSize()).isEqualTo(256 + 2);
+		assertThat(adaptiveConfiguration.getMinParallelism()).isEqualTo(2);
+		assertThat(adaptiveConfiguration.getMaxParallelism()).isEqualTo(2);
+		assertThat(adaptiveConfiguration.getSamplingInterval()).isEqualTo(Duration.ofMillis(100));
+	}
+
+	@Test
+	void adaptiveStrategyUsesDefaultsWhenPropertiesAreNotPresent() {
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = (AdaptiveParallelExecutionConfiguration) strategy.createConfiguration(configParams);
+
+		var availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors);
+		assertThat(configuration.getMinParallelism()).isEqualTo(1);
+		assertThat(configuration.getMaxParallelism()).isEqualTo(4 * availableProcessors);
+		assertThat(configuration.getSamplingInterval()).isEqualTo(Duration.ofMillis(500));
+	}
+
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMaxParallelismIsLessThanMinParallelism() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("4"));
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("2"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
+	@Test
+	void adaptiveParallelismIncreasesWhenWorkIsQueuedAndCpuIsUnderutilized() {
+		assertThat(AdaptiveParallelismController.computeTargetParallelism(4, 0.2, 0, true, 1, 16)).isEqualTo(5);
+		assertThat(AdaptiveParallelismController.computeTargetParallelism(4, Double.NaN, 3, true, 1, 16)).isEqualTo(7);
+		assertThat(AdaptiveParallelismController.computeTargetParallelism(4, 0.2, 3, true, 1, 6)).isEqualTo(6);
+		assertThat(AdaptiveParallelismController.computeTargetParallelism(4, 0.2, 0, false, 1, 16)).isEqualTo(4);
+	}
+
+	@Test
+	void adaptiveParallelismDecreasesWhenCpuIsSaturated() {
+		assertThat(AdaptiveParallelismController.computeTargetParallelism(16, 0.99, 0, true, 1, 16)).isEqualTo(14);
+		assertThat(AdaptiveParallelismController.computeTargetParallelism(2, 0.99, 0, true, 2, 16)).isEqualTo(2);
+		assertThat(AdaptiveParallelismController.computeTargetParallelism(4, 0.99, 1, true, 1, 16)).isEqualTo(5);
+		assertThat(AdaptiveParallelismController.computeTargetParallelism(4, Double.NaN, 0, true, 1, 16)).isEqualTo(4);
+	}
+
 	@Test
 	void customStrategyThrowsExceptionWhenPropertyIsNotPresent() {
 		when(configParams.get("custom.class")).thenReturn(Optional.empty());
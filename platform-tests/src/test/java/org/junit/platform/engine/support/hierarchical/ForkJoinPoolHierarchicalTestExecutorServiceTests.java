@@ -23,6 +23,7 @@ import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.G
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.jspecify.annotations.Nullable;
@@ -243,6 +245,109 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 				.values().extracting(it -> it.completion.isCompletedExceptionally()).containsOnly(false);
 	}
 
+	@SuppressWarnings("NullAway")
+	@Test
+	void parksTasksWhoseResourceLockIsBusyInsteadOfBlocking() throws Throwable {
+
+		var metrics = new ResourceLockMetrics();
+		var lock = new LockManager(metrics).getLockForResource(new ExclusiveResource("a", LockMode.READ_WRITE));
+
+		var parked = new CountDownLatch(1);
+		var parkedTasks = new CopyOnWriteArrayList<TestTask>();
+
+		TaskEventListener taskEventListener = new TaskEventListener() {
+			@Override
+			public void deferred(TestTask testTask) {
+			}
+
+			@Override
+			public void parked(TestTask testTask) {
+				parkedTasks.add(testTask);
+				parked.countDown();
+			}
+		};
+
+		var waitingTask = taskFactory.create("waitingTask", lock);
+		var forkedWaitingTask = new AtomicReference<ForkJoinPoolHierarchicalTestExecutorService.ExclusiveTask>();
+		var configuration = new DefaultParallelExecutionConfiguration(2, 2, 2, 2, 1, __ -> true);
+
+		try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configuration, taskEventListener, true)) {
+			var blockingTask = taskFactory.create("blockingTask", lock, () -> {
+				// the other worker thread steals the forked task but cannot acquire the lock
+				forkedWaitingTask.set(service.new ExclusiveTask(waitingTask));
+				forkedWaitingTask.get().fork();
+				await(parked, "waiting task to be parked");
+				Thread.sleep(50);
+			});
+			var parentTask = taskFactory.create("parentTask", NopLock.INSTANCE, () -> {
+				service.invokeAll(List.of(blockingTask));
+				forkedWaitingTask.get().join();
+			});
+
+			service.submit(parentTask).get();
+		}
+
+		assertThat(parkedTasks).containsOnly(waitingTask);
+		// the time the waiting task spent parked counts as wait time
+		assertThat(metrics.getSnapshots().get("a").acquisitions()).isEqualTo(2);
+		assertThat(metrics.getSnapshots().get("a").maxWaitTime()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+		assertThat(taskFactory.tasks) //
+				.values().extracting(it -> it.completion.isDone()).containsOnly(true);
+		assertThat(taskFactory.tasks) //
+				.values().extracting(it -> it.completion.isCompletedExceptionally()).containsOnly(false);
+	}
+
+	@SuppressWarnings("NullAway")
+	@Test
+	void resubmitsOnlyOneParkedTaskWhenExclusiveResourceIsReleased() throws Throwable {
+
+		var lock = lockManager.getLockForResource(new ExclusiveResource("a", LockMode.READ_WRITE));
+
+		var parked = new CountDownLatch(3);
+		var parkedTasks = new CopyOnWriteArrayList<TestTask>();
+
+		TaskEventListener taskEventListener = new TaskEventListener() {
+			@Override
+			public void deferred(TestTask testTask) {
+			}
+
+			@Override
+			public void parked(TestTask testTask) {
+				parkedTasks.add(testTask);
+				parked.countDown();
+			}
+		};
+
+		var waitingTasks = List.of(taskFactory.create("waitingTask1", lock), taskFactory.create("waitingTask2", lock),
+			taskFactory.create("waitingTask3", lock));
+		var forkedWaitingTasks = new CopyOnWriteArrayList<ForkJoinPoolHierarchicalTestExecutorService.ExclusiveTask>();
+		var configuration = new DefaultParallelExecutionConfiguration(2, 2, 2, 2, 1, __ -> true);
+
+		try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configuration, taskEventListener, true)) {
+			var blockingTask = taskFactory.create("blockingTask", lock, () -> {
+				for (var waitingTask : waitingTasks) {
+					var forkedWaitingTask = service.new ExclusiveTask(waitingTask);
+					forkedWaitingTasks.add(forkedWaitingTask);
+					forkedWaitingTask.fork();
+				}
+				await(parked, "waiting tasks to be parked");
+			});
+			var parentTask = taskFactory.create("parentTask", NopLock.INSTANCE, () -> {
+				service.invokeAll(List.of(blockingTask));
+				forkedWaitingTasks.forEach(ForkJoinTask::join);
+			});
+
+			service.submit(parentTask).get();
+		}
+
+		// each waiting task is only woken up once the previous one released the lock
+		assertThat(parkedTasks).hasSize(3).containsExactlyInAnyOrderElementsOf(waitingTasks);
+		assertThat(taskFactory.tasks) //
+				.values().extracting(it -> it.completion.isDone()).containsOnly(true);
+		assertThat(taskFactory.tasks) //
+				.values().extracting(it -> it.completion.isCompletedExceptionally()).containsOnly(false);
+	}
+
 	private Map<String, DummyTestTask> runWithAttemptedWorkStealing(TaskEventListener taskEventListener,
 			DummyTestTask taskToBeStolen, ResourceLock initialLock, Runnable waitAction) throws Throwable {
 
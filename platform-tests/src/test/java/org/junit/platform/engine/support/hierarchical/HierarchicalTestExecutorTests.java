@@ -20,8 +20,10 @@ import static org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL;
 import static org.junit.platform.engine.TestExecutionResult.successful;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -29,16 +31,23 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.quality.Strictness.LENIENT;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.ThrowingConsumer;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
@@ -72,6 +81,8 @@ class HierarchicalTestExecutorTests {
 
 	CancellationToken cancellationToken = CancellationToken.create();
 
+	ConfigurationParameters configurationParameters = ConfigurationParametersFactoryForTests.create(Map.of());
+
 	MyEngineExecutionContext rootContext = new MyEngineExecutionContext();
 	HierarchicalTestExecutor<MyEngineExecutionContext> executor;
 
@@ -86,6 +97,7 @@ class HierarchicalTestExecutorTests {
 		when(request.getRootTestDescriptor()).thenReturn(root);
 		when(request.getEngineExecutionListener()).thenReturn(listener);
 		when(request.getCancellationToken()).thenReturn(cancellationToken);
+		lenient().when(request.getConfigurationParameters()).thenReturn(configurationParameters);
 		return new HierarchicalTestExecutor<>(request, rootContext, executorService,
 			OpenTest4JAwareThrowableCollector::new);
 	}
@@ -771,6 +783,229 @@ class HierarchicalTestExecutorTests {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	void interruptsRunningTestWhenCancelledIfEnabled() throws Exception {
+
+		var child = spy(new MyLeaf(UniqueId.root("leaf", "child")));
+		root.addChild(child);
+
+		configurationParameters = ConfigurationParametersFactoryForTests.create(
+			Map.of(HierarchicalTestEngine.INTERRUPT_ON_CANCELLATION_PROPERTY_NAME, "true"));
+		executor = createExecutor(new SameThreadHierarchicalTestExecutorService());
+
+		var interrupted = new AtomicBoolean();
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			cancellationToken.cancel();
+			interrupted.set(Thread.currentThread().isInterrupted());
+			return invocation.callRealMethod();
+		});
+
+		executor.execute();
+
+		assertThat(interrupted).isTrue();
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+	}
+
+	@Test
+	void doesNotInterruptRunningTestWhenCancelledByDefault() throws Exception {
+
+		var child = spy(new MyLeaf(UniqueId.root("leaf", "child")));
+		root.addChild(child);
+
+		var interrupted = new AtomicBoolean();
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			cancellationToken.cancel();
+			interrupted.set(Thread.currentThread().isInterrupted());
+			return invocation.callRealMethod();
+		});
+
+		executor.execute();
+
+		assertThat(interrupted).isFalse();
+	}
+
+	@Test
+	void executesConcurrentChildrenInOrderOfRecordedDurationWithUnknownDurationsFirst(@TempDir Path tempDir)
+			throws Exception {
+
+		var fast = spy(new MyLeaf(UniqueId.root("leaf", "fast")));
+		var slow = spy(new MyLeaf(UniqueId.root("leaf", "slow")));
+		var unknown = spy(new MyLeaf(UniqueId.root("leaf", "unknown")));
+		root.addChild(fast);
+		root.addChild(slow);
+		root.addChild(unknown);
+
+		var historyFile = tempDir.resolve("durations.txt");
+		var history = TestDurationHistory.empty();
+		history.record(fast.getUniqueId(), Duration.ofMillis(10));
+		history.record(slow.getUniqueId(), Duration.ofSeconds(3));
+		history.write(historyFile);
+
+		configurationParameters = ConfigurationParametersFactoryForTests.create(
+			Map.of(TestDurationHistory.FILE_PROPERTY_NAME, historyFile.toString()));
+		createExecutor(new SameThreadHierarchicalTestExecutorService()).execute().get();
+
+		var inOrder = inOrder(listener);
+		inOrder.verify(listener).executionStarted(unknown);
+		inOrder.verify(listener).executionStarted(slow);
+		inOrder.verify(listener).executionStarted(fast);
+	}
+
+	@Test
+	void keepsPositionsOfSameThreadChildrenWhenOrderingByRecordedDuration(@TempDir Path tempDir) throws Exception {
+
+		var sameThread = spy(new MyLeaf(UniqueId.root("leaf", "same-thread")));
+		when(sameThread.getExecutionMode()).thenReturn(Node.ExecutionMode.SAME_THREAD);
+		var fast = spy(new MyLeaf(UniqueId.root("leaf", "fast")));
+		var slow = spy(new MyLeaf(UniqueId.root("leaf", "slow")));
+		root.addChild(sameThread);
+		root.addChild(fast);
+		root.addChild(slow);
+
+		var historyFile = tempDir.resolve("durations.txt");
+		var history = TestDurationHistory.empty();
+		history.record(sameThread.getUniqueId(), Duration.ofSeconds(10));
+		history.record(fast.getUniqueId(), Duration.ofMillis(10));
+		history.record(slow.getUniqueId(), Duration.ofSeconds(3));
+		history.write(historyFile);
+
+		configurationParameters = ConfigurationParametersFactoryForTests.create(
+			Map.of(TestDurationHistory.FILE_PROPERTY_NAME, historyFile.toString()));
+		createExecutor(new SameThreadHierarchicalTestExecutorService()).execute().get();
+
+		var inOrder = inOrder(listener);
+		inOrder.verify(listener).executionStarted(sameThread);
+		inOrder.verify(listener).executionStarted(slow);
+		inOrder.verify(listener).executionStarted(fast);
+	}
+
+	@Test
+	void limitsNumberOfUnfinishedDynamicTestDescriptors() throws Exception {
+
+		var child = spy(new MyLeaf(UniqueId.root("leaf", "child leaf")));
+		root.addChild(child);
+
+		var running = new AtomicInteger();
+		var maxRunning = new AtomicInteger();
+		var finished = new AtomicInteger();
+
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			for (int i = 0; i < 20; i++) {
+				executor.execute(new MyLeaf(child.getUniqueId().append("dynamic", "#" + i)) {
+					@Override
+					public MyEngineExecutionContext execute(MyEngineExecutionContext context,
+							DynamicTestExecutor dynamicTestExecutor) {
+						maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+						try {
+							Thread.sleep(10);
+						}
+						catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						running.decrementAndGet();
+						finished.incrementAndGet();
+						return context;
+					}
+				});
+			}
+		}));
+
+		configurationParameters = ConfigurationParametersFactoryForTests.create(Map.of(//
+			DynamicTestExecutor.MAX_UNFINISHED_PROPERTY_NAME, "2", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME, "fixed", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4"));
+
+		try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(configurationParameters)) {
+			createExecutor(executorService).execute().get();
+		}
+
+		verify(listener).executionFinished(child, successful());
+		assertThat(finished).hasValue(20);
+		assertThat(maxRunning.get()).isBetween(1, 2);
+	}
+
+	@Test
+	void rejectsInvalidMaximumNumberOfUnfinishedDynamicTestDescriptors() {
+		configurationParameters = ConfigurationParametersFactoryForTests.create(
+			Map.of(DynamicTestExecutor.MAX_UNFINISHED_PROPERTY_NAME, "0"));
+
+		var executor = createExecutor(new SameThreadHierarchicalTestExecutorService());
+
+		var exception = assertThrows(JUnitException.class, executor::execute);
+		assertThat(exception.getCause()).hasMessage("value must be a positive integer");
+	}
+
+	@Test
+	void prunesChildrenOfContainersAfterReportingTheirExecutionAsFinished() throws Exception {
+
+		var child = spy(new MyContainer(UniqueId.root("container", "child container")));
+		var leaf = spy(new MyLeaf(child.getUniqueId().append("leaf", "leaf")));
+		child.addChild(leaf);
+		root.addChild(child);
+
+		var childrenWhenChildFinished = new AtomicInteger(-1);
+		doAnswer(invocation -> {
+			childrenWhenChildFinished.set(child.getChildren().size());
+			return null;
+		}).when(listener).executionFinished(eq(child), any());
+
+		configurationParameters = ConfigurationParametersFactoryForTests.create(
+			Map.of(HierarchicalTestEngine.PRUNE_FINISHED_DESCRIPTORS_PROPERTY_NAME, "true"));
+		createExecutor(new SameThreadHierarchicalTestExecutorService()).execute().get();
+
+		var inOrder = inOrder(listener);
+		inOrder.verify(listener).executionFinished(leaf, successful());
+		inOrder.verify(listener).executionFinished(child, successful());
+		inOrder.verify(listener).executionFinished(root, successful());
+
+		assertThat(childrenWhenChildFinished).hasValue(1);
+		assertThat(child.getChildren()).isEmpty();
+		assertThat(leaf.getParent()).isEmpty();
+		assertThat(root.getChildren()).isEmpty();
+	}
+
+	@Test
+	void releasesExecutionAdvisorEntriesOfPrunedDescriptors() {
+
+		var child = spy(new MyContainer(UniqueId.root("container", "child container")));
+		var leaf = spy(new MyLeaf(child.getUniqueId().append("leaf", "leaf")));
+		when(child.getExclusiveResources()).thenReturn(Set.of(new ExclusiveResource("a", LockMode.READ_WRITE)));
+		when(leaf.getExclusiveResources()).thenReturn(Set.of(new ExclusiveResource("b", LockMode.READ_WRITE)));
+		child.addChild(leaf);
+		root.addChild(child);
+
+		var advisor = new NodeTreeWalker().walk(root);
+		assertThat(advisor.getResourceLock(child)).isNotSameAs(NopLock.INSTANCE);
+		assertThat(advisor.getForcedExecutionMode(leaf)).contains(Node.ExecutionMode.SAME_THREAD);
+
+		var taskContext = new NodeTestTaskContext(listener, new SameThreadHierarchicalTestExecutorService(),
+			OpenTest4JAwareThrowableCollector::new, advisor, cancellationToken, TestDurationHistory.empty(), 1, true,
+			null);
+		var rootTestTask = new NodeTestTask<MyEngineExecutionContext>(taskContext, root);
+		rootTestTask.setParentContext(rootContext);
+		rootTestTask.execute();
+
+		verify(listener).executionFinished(leaf, successful());
+		verify(listener).executionFinished(child, successful());
+		assertThat(advisor.getResourceLock(root)).isSameAs(NopLock.INSTANCE);
+		assertThat(advisor.getResourceLock(child)).isSameAs(NopLock.INSTANCE);
+		assertThat(advisor.getResourceLock(leaf)).isSameAs(NopLock.INSTANCE);
+	}
+
+	@Test
+	void retainsChildrenOfFinishedContainersByDefault() throws Exception {
+
+		var child = spy(new MyContainer(UniqueId.root("container", "child container")));
+		var leaf = spy(new MyLeaf(child.getUniqueId().append("leaf", "leaf")));
+		child.addChild(leaf);
+		root.addChild(child);
+
+		executor.execute().get();
+
+		assertThat(root.getChildren()).containsExactly(child);
+		assertThat(child.getChildren()).containsExactly(leaf);
+	}
+
 	// -------------------------------------------------------------------
 
 	private static class MyEngineExecutionContext implements EngineExecutionContext {
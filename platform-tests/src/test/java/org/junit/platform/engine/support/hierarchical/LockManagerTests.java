@@ -93,6 +93,52 @@ class LockManagerTests {
 		assertThat(locks.get(1)).isInstanceOf(WriteLock.class);
 	}
 
+	@Test
+	void reusesSameResourceLockForEqualExclusiveResources() {
+		var lock1 = lockManager.getLockForResources(List.of( //
+			new ExclusiveResource("a", READ), //
+			new ExclusiveResource("b", READ_WRITE)));
+		var lock2 = lockManager.getLockForResources(Set.of( //
+			new ExclusiveResource("b", READ_WRITE), //
+			new ExclusiveResource("a", READ)));
+
+		assertThat(lock1).isInstanceOf(CompositeLock.class).isSameAs(lock2);
+		assertThat(lockManager.getLockForResource(new ExclusiveResource("c", READ))) //
+				.isSameAs(lockManager.getLockForResources(List.of(new ExclusiveResource("c", READ))));
+	}
+
+	@Test
+	void distinguishesCombinationsSharingResources() {
+		var a = new ExclusiveResource("a", READ);
+		var b = new ExclusiveResource("b", READ);
+		var c = new ExclusiveResource("c", READ);
+
+		var ab = lockManager.getLockForResources(Set.of(a, b));
+		var abc = lockManager.getLockForResources(Set.of(a, b, c));
+		var bc = lockManager.getLockForResources(Set.of(b, c));
+
+		assertThat(ab.getResources()).containsExactly(a, b);
+		assertThat(abc.getResources()).containsExactly(a, b, c);
+		assertThat(bc.getResources()).containsExactly(b, c);
+		assertThat(lockManager.getLockForResources(Set.of(c, b, a))).isSameAs(abc);
+	}
+
+	@Test
+	void reusesSameResourceLockForCombinationsOfManyDistinctResources() {
+		for (int i = 0; i < LockManager.MAX_INDEXED_RESOURCES; i++) {
+			lockManager.getLockForResource(new ExclusiveResource("resource" + i, READ));
+			lockManager.getLockForResources(Set.of(new ExclusiveResource("resource" + i, READ_WRITE),
+				new ExclusiveResource("other" + i, READ)));
+		}
+		var resources = Set.of(new ExclusiveResource("a", READ), new ExclusiveResource("b", READ_WRITE));
+
+		var lock = lockManager.getLockForResources(resources);
+
+		assertThat(lock.getResources()).containsExactly(new ExclusiveResource("a", READ),
+			new ExclusiveResource("b", READ_WRITE));
+		assertThat(lockManager.getLockForResources(Set.copyOf(resources))).isSameAs(lock);
+	}
+
 	@ParameterizedTest
 	@EnumSource
 	void globalLockComesFirst(LockMode globalLockMode) {
@@ -15,10 +15,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
 import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ_WRITE;
 import static org.junit.jupiter.engine.Constants.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.DEFAULT_PARALLEL_EXECUTION_MODE;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
@@ -58,6 +60,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.TestReporter;
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
@@ -122,6 +125,42 @@ class ParallelExecutionIntegrationTests {
 		assertThat(ThreadReporter.getThreadNames(events)).hasSize(1);
 	}
 
+	@Test
+	void executesDynamicTestsInParallelIfEnabledViaConfigurationParameter() {
+		var configParams = Map.of(DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME, "concurrent");
+		var results = executeWithFixedParallelism(3, configParams, TestCaseWithUnannotatedTestFactory.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(3));
+		assertThat(ThreadReporter.getThreadNames(results.allEvents().list())).hasSize(3);
+	}
+
+	@Test
+	void ignoresDefaultDynamicExecutionModeForAnnotatedTestFactory() {
+		var configParams = Map.of(DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME, "concurrent");
+		var results = executeWithFixedParallelism(3, configParams, TestCaseWithTestFactory.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(3));
+		assertThat(ThreadReporter.getThreadNames(results.allEvents().list())).hasSize(1);
+	}
+
+	@Test
+	void ignoresDefaultDynamicExecutionModeForTestFactoryInPerClassTestInstanceLifecycle() {
+		var configParams = Map.of(DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME, "concurrent");
+		var results = executeWithFixedParallelism(3, configParams, PerClassTestCaseWithTestFactory.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(3));
+		assertThat(ThreadReporter.getThreadNames(results.allEvents().list())).hasSize(1);
+	}
+
+	@Test
+	void ignoresDefaultDynamicExecutionModeForTestFactoryInClassWithMethodOrderer() {
+		var configParams = Map.of(DEFAULT_DYNAMIC_EXECUTION_MODE_PROPERTY_NAME, "concurrent");
+		var results = executeWithFixedParallelism(3, configParams, OrderedTestCaseWithTestFactory.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(3));
+		assertThat(ThreadReporter.getThreadNames(results.allEvents().list())).hasSize(1);
+	}
+
 	@Test
 	void testCaseWithFactory() {
 		var events = executeConcurrentlySuccessfully(3, TestCaseWithTestFactory.class).list();
@@ -703,6 +742,44 @@ class ParallelExecutionIntegrationTests {
 		}
 	}
 
+	static class TestCaseWithUnannotatedTestFactory {
+		@TestFactory
+		Stream<DynamicTest> testFactory(TestReporter testReporter) {
+			var sharedResource = new AtomicInteger(0);
+			var countDownLatch = new CountDownLatch(3);
+			return IntStream.range(0, 3).mapToObj(i -> dynamicTest("test " + i, () -> {
+				incrementAndBlock(sharedResource, countDownLatch);
+				testReporter.publishEntry("thread", Thread.currentThread().getName());
+			}));
+		}
+	}
+
+	@TestInstance(PER_CLASS)
+	static class PerClassTestCaseWithTestFactory {
+		@TestFactory
+		Stream<DynamicTest> testFactory(TestReporter testReporter) {
+			var sharedResource = new AtomicInteger(0);
+			var countDownLatch = new CountDownLatch(3);
+			return IntStream.range(0, 3).mapToObj(i -> dynamicTest("test " + i, () -> {
+				incrementBlockAndCheck(sharedResource, countDownLatch);
+				testReporter.publishEntry("thread", Thread.currentThread().getName());
+			}));
+		}
+	}
+
+	@TestMethodOrder(MethodName.class)
+	static class OrderedTestCaseWithTestFactory {
+		@TestFactory
+		Stream<DynamicTest> testFactory(TestReporter testReporter) {
+			var sharedResource = new AtomicInteger(0);
+			var countDownLatch = new CountDownLatch(3);
+			return IntStream.range(0, 3).mapToObj(i -> dynamicTest("test " + i, () -> {
+				incrementBlockAndCheck(sharedResource, countDownLatch);
+				testReporter.publishEntry("thread", Thread.currentThread().getName());
+			}));
+		}
+	}
+
 	private static final ReentrantLock A = new ReentrantLock();
 	private static final ReentrantLock B = new ReentrantLock();
 
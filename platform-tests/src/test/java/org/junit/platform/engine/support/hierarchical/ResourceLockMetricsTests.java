@@ -0,0 +1,174 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_KEY;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * @since 6.0
+ */
+class ResourceLockMetricsTests {
+
+	final ResourceLockMetrics metrics = new ResourceLockMetrics();
+	final LockManager lockManager = new LockManager(metrics);
+
+	@Test
+	void recordsAcquisitionsAndHoldTimePerResourceKey() throws Exception {
+		var lock = lockManager.getLockForResources(
+			List.of(new ExclusiveResource("a", READ_WRITE), new ExclusiveResource("b", READ)));
+
+		lock.acquire();
+		try {
+			Thread.sleep(10);
+		}
+		finally {
+			lock.release();
+		}
+
+		var snapshots = metrics.getSnapshots();
+		assertThat(snapshots).containsOnlyKeys("a", "b");
+		assertThat(snapshots.get("a").acquisitions()).isEqualTo(1);
+		assertThat(snapshots.get("a").holdTime()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+		assertThat(snapshots.get("b").holdTime()).isEqualTo(snapshots.get("a").holdTime());
+	}
+
+	@Test
+	@Timeout(5)
+	void recordsWaitTimeOfContendedLocks() throws Exception {
+		var lock = lockManager.getLockForResource(new ExclusiveResource("a", READ_WRITE));
+		var acquired = new CountDownLatch(1);
+		var thread = new Thread(() -> {
+			try {
+				lock.acquire();
+				try {
+					acquired.countDown();
+					Thread.sleep(50);
+				}
+				finally {
+					lock.release();
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.start();
+		acquired.await();
+
+		lock.acquire();
+		try {
+			thread.join();
+		}
+		finally {
+			lock.release();
+		}
+
+		var snapshot = metrics.getSnapshots().get("a");
+		assertThat(snapshot.acquisitions()).isEqualTo(2);
+		assertThat(snapshot.maxWaitTime()).isGreaterThan(Duration.ZERO);
+		assertThat(snapshot.waitTime()).isGreaterThanOrEqualTo(snapshot.maxWaitTime());
+	}
+
+	@Test
+	void recordsWaitTimeSinceSuppliedStartTime() throws Exception {
+		var lock = lockManager.getLockForResources(
+			List.of(new ExclusiveResource("a", READ_WRITE), new ExclusiveResource("b", READ)));
+		var waitStart = System.nanoTime() - Duration.ofMillis(100).toNanos();
+
+		assertThat(ResourceLockMetrics.tryAcquire(lock, waitStart)).isTrue();
+		lock.release();
+
+		var snapshots = metrics.getSnapshots();
+		assertThat(snapshots.get("a").maxWaitTime()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+		assertThat(snapshots.get("b").maxWaitTime()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+	}
+
+	@Test
+	void recordsDeferredTasks() {
+		var lock = lockManager.getLockForResource(new ExclusiveResource("a", READ_WRITE));
+
+		ResourceLockMetrics.recordDeferred(lock);
+		ResourceLockMetrics.recordDeferred(NopLock.INSTANCE);
+
+		assertThat(metrics.getSnapshots().get("a").deferrals()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotCreateReportEntryWithoutRecordedMetrics() {
+		assertThat(metrics.toReportEntry()).isEmpty();
+	}
+
+	@Test
+	void publishesReportEntryBeforeExecutionOfRootIsReportedAsFinished() throws Exception {
+		lockManager.getLockForResource(new ExclusiveResource("a", READ_WRITE)).acquire().release();
+		EngineExecutionListener delegate = mock();
+		TestDescriptor root = mock();
+		TestDescriptor child = mock();
+
+		var listener = metrics.reportingListener(delegate, root);
+		listener.executionFinished(child, TestExecutionResult.successful());
+		listener.executionFinished(root, TestExecutionResult.successful());
+
+		var inOrder = inOrder(delegate);
+		inOrder.verify(delegate).executionFinished(child, TestExecutionResult.successful());
+		inOrder.verify(delegate).reportingEntryPublished(eq(root), any(ReportEntry.class));
+		inOrder.verify(delegate).executionFinished(root, TestExecutionResult.successful());
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@Test
+	void recordsHoldTimeOfLocksHeldWhileReporting() throws Exception {
+		var lock = lockManager.getLockForResource(GLOBAL_READ_WRITE);
+		EngineExecutionListener delegate = mock();
+		TestDescriptor root = mock();
+		var listener = metrics.reportingListener(delegate, root);
+
+		var start = System.nanoTime();
+		lock.acquire();
+		try {
+			Thread.sleep(10);
+			listener.executionFinished(root, TestExecutionResult.successful());
+
+			assertThat(metrics.getSnapshots().get(GLOBAL_KEY).holdTime()).isGreaterThanOrEqualTo(
+				Duration.ofMillis(10));
+		}
+		finally {
+			lock.release();
+		}
+		var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+		verify(delegate).reportingEntryPublished(eq(root), argThat(
+			entry -> entry.getKeyValuePairs().containsKey(ResourceLockMetrics.REPORT_ENTRY_KEY_PREFIX + GLOBAL_KEY)));
+		assertThat(metrics.getSnapshots().get(GLOBAL_KEY).holdTime()).isLessThanOrEqualTo(elapsed);
+	}
+
+}
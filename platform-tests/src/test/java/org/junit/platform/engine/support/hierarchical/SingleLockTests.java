@@ -43,6 +43,24 @@ class SingleLockTests {
 		assertFalse(lock.isLocked());
 	}
 
+	@Test
+	void tryAcquireFailsWhenLockIsHeldByAnotherThread() throws Exception {
+		var lock = new ReentrantLock();
+		var thread = new Thread(lock::lock);
+		thread.start();
+		thread.join();
+
+		assertFalse(new SingleLock(anyResource(), lock).tryAcquire());
+	}
+
+	@Test
+	void tryAcquireSucceedsWhenLockIsAvailable() {
+		var lock = new ReentrantLock();
+
+		assertTrue(new SingleLock(anyResource(), lock).tryAcquire());
+		assertTrue(lock.isHeldByCurrentThread());
+	}
+
 	private static ExclusiveResource anyResource() {
 		return new ExclusiveResource("key", LockMode.READ);
 	}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.core.ConfigurationParametersFactoryForTests;
+
+/**
+ * @since 6.0
+ */
+class TestDurationHistoryTests {
+
+	final UniqueId uniqueId = UniqueId.forEngine("engine").append("class", "com.example.MyTests");
+
+	@Test
+	void writesAndReadsDurationsKeyedByUniqueId(@TempDir Path tempDir) throws Exception {
+		var file = tempDir.resolve("nested").resolve("durations.txt");
+		var history = TestDurationHistory.empty();
+		history.record(uniqueId, Duration.ofMillis(1234));
+
+		history.write(file);
+		var readHistory = TestDurationHistory.read(file);
+
+		assertThat(readHistory.isEmpty()).isFalse();
+		assertThat(readHistory.getDuration(uniqueId)).contains(Duration.ofMillis(1234));
+		assertThat(readHistory.getDuration(uniqueId.append("method", "test()"))).isEmpty();
+		assertThat(Files.readAllLines(file)).containsExactly("1234\t" + uniqueId);
+	}
+
+	@Test
+	void readsEmptyHistoryWhenFileDoesNotExist(@TempDir Path tempDir) throws Exception {
+		assertThat(TestDurationHistory.read(tempDir.resolve("missing.txt")).isEmpty()).isTrue();
+	}
+
+	@Test
+	void ignoresMalformedLines(@TempDir Path tempDir) throws Exception {
+		var file = tempDir.resolve("durations.txt");
+		Files.write(file, List.of("garbage", "abc\t" + uniqueId, "\t" + uniqueId, "42\t", "7\t" + uniqueId));
+
+		var history = TestDurationHistory.read(file);
+
+		assertThat(history.getDuration(uniqueId)).contains(Duration.ofMillis(7));
+	}
+
+	@Test
+	void resolvesFileFromConfigurationParameters() {
+		var configurationParameters = ConfigurationParametersFactoryForTests.create(
+			Map.of(TestDurationHistory.FILE_PROPERTY_NAME, " build/durations.txt "));
+
+		assertThat(TestDurationHistory.getFile(configurationParameters)).contains(Path.of("build/durations.txt"));
+		assertThat(TestDurationHistory.getFile(ConfigurationParametersFactoryForTests.create(Map.of()))).isEmpty();
+	}
+
+	@Test
+	void retainsMostRecentlyRecordedDurations(@TempDir Path tempDir) throws Exception {
+		var file = tempDir.resolve("durations.txt");
+		var first = uniqueId.append("method", "first()");
+		var second = uniqueId.append("method", "second()");
+		var third = uniqueId.append("method", "third()");
+		var history = TestDurationHistory.empty();
+		history.record(first, Duration.ofMillis(1));
+		history.record(second, Duration.ofMillis(2));
+		history.record(third, Duration.ofMillis(3));
+		history.record(first, Duration.ofMillis(4));
+
+		history.retainMostRecent(2);
+		history.write(file);
+
+		assertThat(Files.readAllLines(file)).containsExactly("3\t" + third, "4\t" + first);
+		assertThat(TestDurationHistory.read(file).getDuration(second)).isEmpty();
+	}
+
+	@Test
+	void resolvesMaxEntriesFromConfigurationParameters() {
+		var configurationParameters = ConfigurationParametersFactoryForTests.create(
+			Map.of(TestDurationHistory.MAX_ENTRIES_PROPERTY_NAME, " 42 "));
+
+		assertThat(TestDurationHistory.getMaxEntries(configurationParameters)).isEqualTo(42);
+		assertThat(TestDurationHistory.getMaxEntries(ConfigurationParametersFactoryForTests.create(Map.of()))) //
+				.isEqualTo(TestDurationHistory.DEFAULT_MAX_ENTRIES);
+		assertThrows(JUnitException.class, () -> TestDurationHistory.getMaxEntries(
+			ConfigurationParametersFactoryForTests.create(Map.of(TestDurationHistory.MAX_ENTRIES_PROPERTY_NAME, "0"))));
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.0
+ */
+class TestThreadInterrupterTests {
+
+	final TestThreadInterrupter interrupter = new TestThreadInterrupter();
+
+	@AfterEach
+	void clearInterruptedStatus() {
+		Thread.interrupted();
+	}
+
+	@Test
+	void reportsInterruptOfRegisteredThread() {
+		var thread = Thread.currentThread();
+		interrupter.register(thread);
+
+		interrupter.interruptAll();
+
+		assertThat(thread.isInterrupted()).isTrue();
+		assertThat(interrupter.unregister(thread)).isTrue();
+	}
+
+	@Test
+	void interruptsThreadsRegisteredAfterInterruptAll() {
+		interrupter.interruptAll();
+
+		var thread = Thread.currentThread();
+		interrupter.register(thread);
+
+		assertThat(thread.isInterrupted()).isTrue();
+		assertThat(interrupter.unregister(thread)).isTrue();
+	}
+
+	@Test
+	void doesNotReportInterruptOfThreadItDidNotInterrupt() {
+		var thread = Thread.currentThread();
+		interrupter.register(thread);
+		thread.interrupt();
+
+		assertThat(interrupter.unregister(thread)).isFalse();
+
+		interrupter.interruptAll();
+
+		assertThat(interrupter.unregister(thread)).isFalse();
+	}
+
+	@Test
+	void reportsInterruptOnlyOnceThreadIsNoLongerRegistered() {
+		var thread = Thread.currentThread();
+		interrupter.register(thread);
+		interrupter.register(thread);
+
+		interrupter.interruptAll();
+
+		assertThat(interrupter.unregister(thread)).isFalse();
+		assertThat(interrupter.unregister(thread)).isTrue();
+	}
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.condition.JRE.JAVA_20;
+import static org.junit.jupiter.api.condition.JRE.JAVA_21;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * @since 6.0
+ */
+@Timeout(5)
+class VirtualThreadHierarchicalTestExecutorServiceTests {
+
+	final LockManager lockManager = new LockManager();
+
+	@Test
+	void executesConcurrentTasksInParallel() {
+		var allTasksRunning = new CountDownLatch(3);
+		var tasks = IntStream.range(0, 3) //
+				.mapToObj(i -> new DummyTestTask(CONCURRENT, NopLock.INSTANCE, () -> {
+					allTasksRunning.countDown();
+					allTasksRunning.await();
+				})) //
+				.toList();
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService(Thread::new)) {
+			service.invokeAll(tasks);
+		}
+
+		assertThat(tasks).allMatch(task -> task.executed);
+	}
+
+	@Test
+	void executesSameThreadTasksInCallingThread() {
+		var callingThread = Thread.currentThread();
+		var task = new DummyTestTask(SAME_THREAD, NopLock.INSTANCE,
+			() -> assertThat(Thread.currentThread()).isSameAs(callingThread));
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService(Thread::new)) {
+			service.invokeAll(List.of(task, new DummyTestTask(SAME_THREAD, NopLock.INSTANCE, () -> {
+			})));
+		}
+
+		assertThat(task.executed).isTrue();
+	}
+
+	@Test
+	void honorsExclusiveResources() {
+		var lock = lockManager.getLockForResource(new ExclusiveResource("a", LockMode.READ_WRITE));
+		var concurrentExecutions = new AtomicInteger();
+		var maxConcurrentExecutions = new AtomicInteger();
+		var tasks = IntStream.range(0, 10) //
+				.mapToObj(i -> new DummyTestTask(CONCURRENT, lock, () -> {
+					maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+					Thread.sleep(10);
+					concurrentExecutions.decrementAndGet();
+				})) //
+				.toList();
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService(Thread::new)) {
+			service.invokeAll(tasks);
+		}
+
+		assertThat(tasks).allMatch(task -> task.executed);
+		assertThat(maxConcurrentExecutions).hasValue(1);
+	}
+
+	@Test
+	void rethrowsExceptionsFromConcurrentTasks() {
+		var failingTask = new DummyTestTask(CONCURRENT, NopLock.INSTANCE, () -> {
+			throw new IllegalStateException("boom");
+		});
+		var succeedingTask = new DummyTestTask(CONCURRENT, NopLock.INSTANCE, () -> {
+		});
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService(Thread::new)) {
+			var exception = assertThrows(RuntimeException.class,
+				() -> service.invokeAll(List.of(failingTask, succeedingTask)));
+			assertThat(exception).hasRootCauseMessage("boom");
+		}
+	}
+
+	@Test
+	@EnabledForJreRange(min = JAVA_21)
+	void factoryCreatesVirtualThreadExecutorService() throws Exception {
+		var task = new DummyTestTask(CONCURRENT, NopLock.INSTANCE,
+			() -> assertThat(Thread.currentThread().getName()).startsWith("junit-virtual-"));
+
+		try (var service = ParallelHierarchicalTestExecutorServiceFactory.create(configParams("virtual_threads"))) {
+			assertThat(service).isInstanceOf(VirtualThreadHierarchicalTestExecutorService.class);
+			service.submit(task).get();
+		}
+
+		assertThat(task.executed).isTrue();
+	}
+
+	@Test
+	@EnabledForJreRange(max = JAVA_20)
+	void factoryReportsMissingVirtualThreadSupport() {
+		var exception = assertThrows(JUnitException.class,
+			() -> ParallelHierarchicalTestExecutorServiceFactory.create(configParams("virtual_threads")));
+
+		assertThat(exception).hasMessageContaining("Java 21 or later");
+	}
+
+	@Test
+	void factoryCreatesForkJoinPoolExecutorServiceByDefault() {
+		try (var service = ParallelHierarchicalTestExecutorServiceFactory.create(configParams(null))) {
+			assertThat(service).isInstanceOf(ForkJoinPoolHierarchicalTestExecutorService.class);
+		}
+	}
+
+	@Test
+	void factoryRejectsUnknownExecutorType() {
+		var exception = assertThrows(JUnitException.class,
+			() -> ParallelHierarchicalTestExecutorServiceFactory.create(configParams("carrier_pigeons")));
+
+		assertThat(exception).hasMessage("Invalid value 'carrier_pigeons' for configuration parameter 'executor'");
+	}
+
+	private static ConfigurationParameters configParams(@Nullable String executor) {
+		ConfigurationParameters configParams = mock();
+		when(configParams.get(any(), any())).thenCallRealMethod();
+		when(configParams.get("executor")).thenReturn(Optional.ofNullable(executor));
+		return configParams;
+	}
+
+	static final class DummyTestTask implements TestTask {
+
+		private final ExecutionMode executionMode;
+		private final ResourceLock resourceLock;
+		private final Executable action;
+
+		volatile boolean executed;
+
+		DummyTestTask(ExecutionMode executionMode, ResourceLock resourceLock, Executable action) {
+			this.executionMode = executionMode;
+			this.resourceLock = resourceLock;
+			this.action = action;
+		}
+
+		@Override
+		public ExecutionMode getExecutionMode() {
+			return executionMode;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return resourceLock;
+		}
+
+		@Override
+		public void execute() {
+			try {
+				action.execute();
+				executed = true;
+			}
+			catch (Throwable e) {
+				throw new RuntimeException("Action failed", e);
+			}
+		}
+	}
+
+}
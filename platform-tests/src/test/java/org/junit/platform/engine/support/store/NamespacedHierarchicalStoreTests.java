@@ -141,6 +141,22 @@ public class NamespacedHierarchicalStoreTests {
 			assertNull(store.get(namespace, key));
 		}
 
+		@Test
+		void matchingValuesCanBeRemoved() {
+			parentStore.put(namespace, "parent key", "a");
+			store.put(namespace, key, "a");
+			store.put("other namespace", key, "a");
+			store.put(namespace, "other key", "b");
+
+			assertEquals(2, store.removeIf("a"::equals));
+
+			assertNull(store.get(namespace, key));
+			assertNull(store.get("other namespace", key));
+			assertEquals("b", store.get(namespace, "other key"));
+			assertEquals("a", store.get(namespace, "parent key"));
+			verifyNoInteractions(closeAction);
+		}
+
 		@Test
 		void sameKeyWithDifferentNamespaces() {
 			Object value1 = createObject("value1");
@@ -402,6 +418,29 @@ public class NamespacedHierarchicalStoreTests {
 			assertThat(values).hasSize(threads).containsOnly(1);
 		}
 
+		@SuppressWarnings("deprecation")
+		@Test
+		void getOrComputeIfAbsentRejectsRecursiveComputationOfSameValue() {
+			var exception = assertThrows(NamespacedHierarchicalStoreException.class,
+				() -> store.getOrComputeIfAbsent(namespace, key,
+					__ -> store.getOrComputeIfAbsent(namespace, key, ___ -> value)));
+
+			assertThat(exception).hasMessageContaining("Recursive update");
+			assertSame(exception, assertThrows(NamespacedHierarchicalStoreException.class,
+				() -> store.get(namespace, key)));
+		}
+
+		@Test
+		void lookupsInNamespacesWithoutValuesFallBackToParent() {
+			parentStore.put(namespace, key, value);
+			store.put("other", key, "other value");
+
+			assertEquals(value, store.get(namespace, key));
+			assertEquals("other value", store.get("other", key));
+			assertNull(parentStore.get("other", key));
+			assertNull(store.remove("unknown", key));
+		}
+
 		@Test
 		void simulateRaceConditionInComputeIfAbsent() throws Exception {
 			int threads = 10;
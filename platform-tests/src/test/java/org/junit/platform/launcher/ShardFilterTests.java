@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_TOTAL_PROPERTY_NAME;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.hierarchical.TestDurationHistory;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.core.ConfigurationParametersFactoryForTests;
+
+/**
+ * Unit tests for {@link ShardFilter}.
+ *
+ * @since 6.0
+ */
+class ShardFilterTests {
+
+	private final EngineDescriptor engineDescriptor = createEngineDescriptor(20);
+
+	@Test
+	void assignsEachTopLevelDescriptorToExactlyOneShardByHash() {
+		var filters = IntStream.range(0, 3).mapToObj(index -> ShardFilter.byUniqueIdHash(index, 3)).toList();
+
+		for (var container : engineDescriptor.getChildren()) {
+			assertThat(filters).filteredOn(filter -> filter.apply(container).included()).hasSize(1);
+		}
+		assertThat(filters).allSatisfy(filter -> assertThat(filter.apply(engineDescriptor).included()).isTrue());
+	}
+
+	@Test
+	void assignsDescendantsToShardOfTopLevelDescriptor() {
+		var filter = ShardFilter.byUniqueIdHash(1, 4);
+
+		for (var container : engineDescriptor.getChildren()) {
+			var test = container.getChildren().iterator().next();
+			assertThat(filter.apply(test).included()).isEqualTo(filter.apply(container).included());
+		}
+	}
+
+	@Test
+	void balancesRecordedDurationsAcrossShards() {
+		var history = TestDurationHistory.empty();
+		var containers = new ArrayList<>(createEngineDescriptor(3).getChildren());
+		history.record(containers.get(0).getUniqueId(), Duration.ofSeconds(10));
+		history.record(containers.get(1).getUniqueId(), Duration.ofSeconds(6));
+		history.record(containers.get(2).getUniqueId(), Duration.ofSeconds(4));
+
+		var filters = IntStream.range(0, 2).mapToObj(index -> ShardFilter.byDuration(index, 2, history)).toList();
+
+		assertThat(filters.get(0).apply(containers.get(0)).included()).isTrue();
+		assertThat(filters.get(1).apply(containers.get(1)).included()).isTrue();
+		assertThat(filters.get(1).apply(containers.get(2)).included()).isTrue();
+		for (var container : containers) {
+			assertThat(filters).filteredOn(filter -> filter.apply(container).included()).hasSize(1);
+		}
+	}
+
+	@Test
+	void rejectsInvalidShardIndexOrTotal() {
+		assertThatThrownBy(() -> ShardFilter.byUniqueIdHash(2, 2)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("shard index must be at least 0 and less than 2 but was 2");
+		assertThatThrownBy(() -> ShardFilter.byUniqueIdHash(0, 0)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("shard total must be at least 1 but was 0");
+	}
+
+	@Test
+	void isCreatedFromConfigurationParametersIfSet() {
+		assertThat(ShardFilter.create(configurationParameters(Map.of()))).isEmpty();
+		assertThat(ShardFilter.create(configurationParameters(
+			Map.of(SHARD_INDEX_PROPERTY_NAME, "0", SHARD_TOTAL_PROPERTY_NAME, "2")))).containsInstanceOf(
+				ShardFilter.class);
+
+		assertThatThrownBy(() -> ShardFilter.create(configurationParameters(Map.of(SHARD_INDEX_PROPERTY_NAME, "0")))) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessageContaining("must be set in conjunction");
+		assertThatThrownBy(() -> ShardFilter.create(configurationParameters(Map.of(SHARD_INDEX_PROPERTY_NAME, "0",
+			SHARD_TOTAL_PROPERTY_NAME, "2", SHARD_STRATEGY_PROPERTY_NAME, "duration")))) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessageContaining(TestDurationHistory.FILE_PROPERTY_NAME);
+	}
+
+	private static EngineDescriptor createEngineDescriptor(int containerCount) {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+		for (int i = 0; i < containerCount; i++) {
+			TestDescriptor container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("class", "C" + i),
+				"C" + i);
+			container.addChild(new TestDescriptorStub(container.getUniqueId().append("method", "test"), "test"));
+			engineDescriptor.addChild(container);
+		}
+		return engineDescriptor;
+	}
+
+	private static ConfigurationParameters configurationParameters(Map<String, String> configurationParameters) {
+		return ConfigurationParametersFactoryForTests.create(configurationParameters);
+	}
+
+}
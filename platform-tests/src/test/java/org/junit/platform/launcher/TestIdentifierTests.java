@@ -12,6 +12,7 @@ package org.junit.platform.launcher;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.util.SerializationUtils.deserialize;
 import static org.junit.platform.commons.util.SerializationUtils.serialize;
@@ -87,6 +88,35 @@ class TestIdentifierTests {
 		assertDeepEquals(originalIdentifier, deserializedIdentifier);
 	}
 
+	@Test
+	void sharesEqualValuesBetweenIdentifiersCreatedWithSameInterner() {
+		var interner = new TestIdentifierInterner();
+		var first = TestIdentifier.from(createTestDescriptor("first"), interner);
+		var second = TestIdentifier.from(createTestDescriptor("second"), interner);
+
+		assertSame(first.getDisplayName(), second.getDisplayName());
+		assertSame(first.getDisplayName(), first.getLegacyReportingName());
+		assertSame(first.getSource().orElseThrow(), second.getSource().orElseThrow());
+		assertSame(interner.intern(Set.of(TestTag.create("aTag"))), interner.intern(Set.of(TestTag.create("aTag"))));
+	}
+
+	private static TestDescriptor createTestDescriptor(String id) {
+		var uniqueId = UniqueId.forEngine("engine").append("test", id);
+		var displayName = String.join(" ", "display", "name"); // distinct instance for each descriptor
+		return new AbstractTestDescriptor(uniqueId, displayName, ClassSource.from(TestIdentifierTests.class)) {
+
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+
+			@Override
+			public Set<TestTag> getTags() {
+				return Set.of(TestTag.create("aTag"));
+			}
+		};
+	}
+
 	private static void assertDeepEquals(TestIdentifier first, TestIdentifier second) {
 		assertEquals(first, second);
 		assertEquals(first.getUniqueId(), second.getUniqueId());
@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -64,4 +65,84 @@ class TestPlanTests {
 		inOrder.verify(visitor).postVisitContainer(TestIdentifier.from(engineDescriptor2));
 	}
 
+	@Test
+	void returnsDescendantsInDepthFirstOrder() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		var test1 = new TestDescriptorStub(container.getUniqueId().append("test", "bar"), "Bar");
+		var test2 = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "baz"), "Baz");
+		container.addChild(test1);
+		engineDescriptor.addChild(container);
+		engineDescriptor.addChild(test2);
+
+		var testPlan = TestPlan.from(true, List.of(engineDescriptor), configParams, dummyOutputDirectoryProvider());
+
+		assertThat(testPlan.getDescendants(TestIdentifier.from(engineDescriptor))) //
+				.containsExactly(TestIdentifier.from(container), TestIdentifier.from(test1),
+					TestIdentifier.from(test2));
+		assertThat(testPlan.getDescendants(TestIdentifier.from(container))) //
+				.containsExactly(TestIdentifier.from(test1));
+		assertThat(testPlan.getDescendants(TestIdentifier.from(test2))).isEmpty();
+		assertThat(testPlan.countTests(TestIdentifier.from(engineDescriptor))).isEqualTo(2);
+		assertThat(testPlan.countTests(TestIdentifier.from(container))).isEqualTo(1);
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isContainer)).isEqualTo(2);
+	}
+
+	@Test
+	void includesDynamicallyRegisteredTestsInQueries() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		container.addChild(new TestDescriptorStub(container.getUniqueId().append("test", "bar"), "Bar"));
+		engineDescriptor.addChild(container);
+		var testPlan = TestPlan.from(true, List.of(engineDescriptor), configParams, dummyOutputDirectoryProvider());
+		var engineIdentifier = TestIdentifier.from(engineDescriptor);
+
+		assertThat(testPlan.countTests(engineIdentifier)).isEqualTo(1);
+
+		var dynamicTest = new TestDescriptorStub(container.getUniqueId().append("dynamic-test", "#1"), "Dynamic");
+		container.addChild(dynamicTest);
+		testPlan.addInternal(TestIdentifier.from(dynamicTest));
+
+		assertThat(testPlan.getDescendants(engineIdentifier)).contains(TestIdentifier.from(dynamicTest));
+		assertThat(testPlan.countTests(engineIdentifier)).isEqualTo(2);
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isEqualTo(2);
+	}
+
+	@Test
+	void includesTestsRegisteredDynamicallyInSubsequentQueries() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		var test = new TestDescriptorStub(container.getUniqueId().append("test", "bar"), "Bar");
+		var otherTest = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "baz"), "Baz");
+		container.addChild(test);
+		engineDescriptor.addChild(container);
+		engineDescriptor.addChild(otherTest);
+		var testPlan = TestPlan.from(true, List.of(engineDescriptor), configParams, dummyOutputDirectoryProvider());
+		var engineIdentifier = TestIdentifier.from(engineDescriptor);
+		var descendantsBeforeRegistration = testPlan.getDescendants(engineIdentifier);
+
+		var dynamicContainer = new TestDescriptorStub(container.getUniqueId().append("dynamic-container", "#1"),
+			"Dynamic");
+		var dynamicTest = new TestDescriptorStub(dynamicContainer.getUniqueId().append("dynamic-test", "#1"),
+			"Dynamic");
+		dynamicContainer.addChild(dynamicTest);
+		container.addChild(dynamicContainer);
+		testPlan.addInternal(TestIdentifier.from(dynamicContainer));
+		testPlan.addInternal(TestIdentifier.from(dynamicTest));
+
+		assertThat(descendantsBeforeRegistration).hasSize(3).containsExactly(TestIdentifier.from(container),
+			TestIdentifier.from(test), TestIdentifier.from(otherTest));
+		assertThat(testPlan.getDescendants(engineIdentifier)).hasSize(5).containsExactly(
+			TestIdentifier.from(container), TestIdentifier.from(test), TestIdentifier.from(dynamicContainer),
+			TestIdentifier.from(dynamicTest), TestIdentifier.from(otherTest));
+		assertThat(testPlan.getDescendants(TestIdentifier.from(otherTest))).isEmpty();
+		assertThat(testPlan.getChildren(TestIdentifier.from(container))) //
+				.containsExactly(TestIdentifier.from(test), TestIdentifier.from(dynamicContainer));
+		assertThat(testPlan.getChildren(TestIdentifier.from(container))) //
+				.doesNotContain(TestIdentifier.from(dynamicTest));
+		assertThat(testPlan.getTestIdentifier(dynamicTest.getUniqueId())).isEqualTo(TestIdentifier.from(dynamicTest));
+		assertThat(testPlan.countTests(engineIdentifier)).isEqualTo(3);
+		assertThat(testPlan.countTests(TestIdentifier.from(container))).isEqualTo(2);
+		assertThat(testPlan.countTests(TestIdentifier.from(dynamicContainer))).isEqualTo(1);
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isContainer)).isEqualTo(3);
+		assertThat(testPlan.getRoots()).containsExactly(engineIdentifier);
+	}
+
 }
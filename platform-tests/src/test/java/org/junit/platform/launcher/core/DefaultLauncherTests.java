@@ -11,6 +11,7 @@
 package org.junit.platform.launcher.core;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -20,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.SelectorResolutionResult.unresolved;
 import static org.junit.platform.engine.TestExecutionResult.Status.ABORTED;
+import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
 import static org.junit.platform.engine.TestExecutionResult.successful;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
@@ -28,6 +30,8 @@ import static org.junit.platform.fakes.FaultyTestEngines.createEngineThatCannotR
 import static org.junit.platform.fakes.FaultyTestEngines.createEngineThatFailsToResolveAnything;
 import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_ISSUE_FAILURE_PHASE_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FAIL_FAST_MAX_FAILURES_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FAIL_FAST_TAG_EXPRESSION_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.DEFAULT_DISCOVERY_LISTENER_CONFIGURATION_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
@@ -45,7 +49,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.UnaryOperator;
 import java.util.logging.Level;
@@ -667,6 +676,58 @@ class DefaultLauncherTests {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	void cancelsExecutionOnceConfiguredNumberOfFailuresIsReached() {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		var first = engine.addTest("first", () -> {
+			throw new AssertionError("first");
+		});
+		var second = engine.addTest("second", () -> {
+			throw new AssertionError("second");
+		});
+		var third = engine.addTest("third", () -> {
+		});
+		var cancellationToken = CancellationToken.create();
+
+		var launcher = createLauncher(engine);
+		TestExecutionListener listener = mock();
+
+		launcher.execute(request() //
+				.configurationParameter(FAIL_FAST_MAX_FAILURES_PROPERTY_NAME, "2") //
+				.forExecution() //
+				.listeners(listener) //
+				.cancellationToken(cancellationToken) //
+				.build());
+
+		verify(listener).executionFinished(eq(TestIdentifier.from(first)),
+			argThat(result -> result.getStatus() == FAILED));
+		verify(listener).executionFinished(eq(TestIdentifier.from(second)),
+			argThat(result -> result.getStatus() == FAILED));
+		verify(listener).executionSkipped(TestIdentifier.from(third), "Execution cancelled");
+		assertThat(cancellationToken.isCancellationRequested()).isFalse();
+	}
+
+	@Test
+	void onlyCountsFailuresMatchingConfiguredTagExpression() {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		engine.addTest("first", () -> {
+			throw new AssertionError("first");
+		});
+		var second = engine.addTest("second", () -> {
+		});
+
+		var launcher = createLauncher(engine);
+		TestExecutionListener listener = mock();
+
+		launcher.execute(request() //
+				.configurationParameter(FAIL_FAST_TAG_EXPRESSION_PROPERTY_NAME, "smoke") //
+				.forExecution() //
+				.listeners(listener) //
+				.build());
+
+		verify(listener).executionFinished(TestIdentifier.from(second), successful());
+	}
+
 	@Test
 	void notifiesDiscoveryListenersOfProcessedSelectors() {
 		TestEngine engine = new TestEngineStub("some-engine-id") {
@@ -1034,6 +1095,183 @@ class DefaultLauncherTests {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	void discoversTestsInMultipleEnginesConcurrentlyIfEnabled() {
+		var discoveryThreadNames = new ConcurrentHashMap<String, String>();
+		var issue = DiscoveryIssue.create(Severity.INFO, "some issue");
+		class ThreadRecordingTestEngine extends TestEngineStub {
+
+			ThreadRecordingTestEngine(String id) {
+				super(id);
+			}
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				discoveryThreadNames.put(getId(), Thread.currentThread().getName());
+				discoveryRequest.getDiscoveryListener().issueEncountered(uniqueId, issue);
+				return super.discover(discoveryRequest, uniqueId);
+			}
+		}
+		var firstEngine = new ThreadRecordingTestEngine("engine1");
+		var secondEngine = new ThreadRecordingTestEngine("engine2");
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+
+		createLauncher(firstEngine, secondEngine).discover(request() //
+				.configurationParameter(LauncherConstants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, "true") //
+				.listeners(discoveryListener) //
+				.build());
+
+		assertThat(discoveryThreadNames.values()).allMatch(name -> name.startsWith("junit-discovery-"));
+		var inOrder = inOrder(discoveryListener);
+		for (var engineId : List.of(UniqueId.forEngine("engine1"), UniqueId.forEngine("engine2"))) {
+			inOrder.verify(discoveryListener).engineDiscoveryStarted(engineId);
+			inOrder.verify(discoveryListener).issueEncountered(engineId, issue);
+			inOrder.verify(discoveryListener).engineDiscoveryFinished(eq(engineId), any());
+		}
+	}
+
+	@Test
+	void discoversTestsInMultipleEnginesSequentiallyByDefault() {
+		var discoveryThreadNames = new ArrayList<String>();
+		var engine = new TestEngineStub("engine1") {
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				discoveryThreadNames.add(Thread.currentThread().getName());
+				return super.discover(discoveryRequest, uniqueId);
+			}
+		};
+
+		createLauncher(engine, new TestEngineStub("engine2")).discover(request().build());
+
+		assertThat(discoveryThreadNames).containsExactly(Thread.currentThread().getName());
+	}
+
+	@Test
+	void executesMultipleEnginesConcurrentlyIfEnabled() {
+		var barrier = new CyclicBarrier(2);
+		class BarrierTestEngine extends TestEngineStub {
+
+			BarrierTestEngine(String id) {
+				super(id);
+			}
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				var engineDescriptor = request.getRootTestDescriptor();
+				var listener = request.getEngineExecutionListener();
+				listener.executionStarted(engineDescriptor);
+				try {
+					barrier.await(10, SECONDS);
+					listener.executionFinished(engineDescriptor, successful());
+				}
+				catch (Exception ex) {
+					listener.executionFinished(engineDescriptor, TestExecutionResult.failed(ex));
+				}
+			}
+		}
+		var listener = mock(TestExecutionListener.class);
+
+		createLauncher(new BarrierTestEngine("engine1"), new BarrierTestEngine("engine2")).execute(request() //
+				.configurationParameter(LauncherConstants.PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.forExecution() //
+				.listeners(listener) //
+				.build());
+
+		verify(listener, times(2)).executionFinished(any(), eq(successful()));
+	}
+
+	@Test
+	void notifiesListenersOfEventsOfConcurrentlyExecutedEnginesConcurrently() {
+		var barrier = new CyclicBarrier(2);
+		var engine = new TestEngineStub("engine1") {
+			@Override
+			public void execute(ExecutionRequest request) {
+				var engineDescriptor = request.getRootTestDescriptor();
+				request.getEngineExecutionListener().executionStarted(engineDescriptor);
+				request.getEngineExecutionListener().executionFinished(engineDescriptor, successful());
+			}
+		};
+		var otherEngine = new TestEngineStub("engine2") {
+			@Override
+			public void execute(ExecutionRequest request) {
+				engine.execute(request);
+			}
+		};
+		var concurrentlyStartedEngines = new AtomicInteger();
+		var listener = new TestExecutionListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				try {
+					// only passes if both engines' events are delivered at the same time
+					barrier.await(10, SECONDS);
+					concurrentlyStartedEngines.incrementAndGet();
+				}
+				catch (Exception ignored) {
+					// not delivered concurrently
+				}
+			}
+		};
+
+		createLauncher(engine, otherEngine).execute(request() //
+				.configurationParameter(LauncherConstants.PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.forExecution() //
+				.listeners(listener) //
+				.build());
+
+		assertThat(concurrentlyStartedEngines).hasValue(2);
+	}
+
+	@Test
+	void dispatchesTestExecutionListenerEventsAsynchronouslyIfEnabled() {
+		var engine = new TestEngineStub("engine") {
+			@Override
+			public void execute(ExecutionRequest request) {
+				var engineDescriptor = request.getRootTestDescriptor();
+				var listener = request.getEngineExecutionListener();
+				listener.executionStarted(engineDescriptor);
+				listener.executionFinished(engineDescriptor, successful());
+			}
+		};
+		var events = new ArrayList<String>();
+		var threadNames = ConcurrentHashMap.<String> newKeySet();
+		var listener = new TestExecutionListener() {
+			@Override
+			public void testPlanExecutionStarted(TestPlan testPlan) {
+				record("testPlanExecutionStarted");
+			}
+
+			@Override
+			public void testPlanExecutionFinished(TestPlan testPlan) {
+				record("testPlanExecutionFinished");
+			}
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				record("executionStarted");
+			}
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				record("executionFinished");
+			}
+
+			private void record(String event) {
+				threadNames.add(Thread.currentThread().getName());
+				events.add(event);
+			}
+		};
+
+		createLauncher(engine).execute(request() //
+				.configurationParameter(LauncherConstants.ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME, "true") //
+				.forExecution() //
+				.listeners(listener) //
+				.build());
+
+		assertThat(events).containsExactly("testPlanExecutionStarted", "executionStarted", "executionFinished",
+			"testPlanExecutionFinished");
+		assertThat(threadNames).containsExactly("junit-listener-dispatcher");
+	}
+
 	private static ReportedData execute(TestEngine engine) {
 		return execute(engine, identity());
 	}
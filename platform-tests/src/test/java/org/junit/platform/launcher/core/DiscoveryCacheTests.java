@@ -0,0 +1,297 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathRoots;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_CACHE_FILE_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoveryIssue;
+import org.junit.platform.engine.DiscoveryIssue.Severity;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * @since 6.0
+ */
+class DiscoveryCacheTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void selectsCachedUniqueIdsForRepeatedRequest() {
+		var cacheFile = tempDir.resolve("discovery-cache");
+		var engine = new RecordingTestEngine();
+		var launcher = createLauncher(engine);
+
+		var firstTestPlan = launcher.discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(cacheFile).exists();
+		assertThat(engine.selectors).singleElement().isInstanceOf(PackageSelector.class);
+
+		engine.selectors.clear();
+		var secondTestPlan = launcher.discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(engine.selectors).hasSize(2).allMatch(UniqueIdSelector.class::isInstance);
+		assertThat(uniqueIds(secondTestPlan.getChildren(UniqueId.forEngine(engine.getId())))) //
+				.containsExactlyElementsOf(uniqueIds(firstTestPlan.getChildren(UniqueId.forEngine(engine.getId()))));
+	}
+
+	@Test
+	void ignoresCachedUniqueIdsForDifferentRequest() {
+		var cacheFile = tempDir.resolve("discovery-cache");
+		var engine = new RecordingTestEngine();
+		var launcher = createLauncher(engine);
+
+		launcher.discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		engine.selectors.clear();
+		launcher.discover(request() //
+				.selectors(selectPackage("other.package")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(engine.selectors).singleElement().isInstanceOf(PackageSelector.class);
+	}
+
+	@Test
+	void selectsCachedUniqueIdsForEqualClassNameFilters() {
+		var cacheFile = tempDir.resolve("discovery-cache");
+		var engine = new RecordingTestEngine();
+		var launcher = createLauncher(engine);
+
+		launcher.discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.filters(includeClassNamePatterns("org\\.junit\\..*")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		engine.selectors.clear();
+		launcher.discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.filters(includeClassNamePatterns("org\\.junit\\..*")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(engine.selectors).hasSize(2).allMatch(UniqueIdSelector.class::isInstance);
+	}
+
+	@Test
+	void ignoresCachedUniqueIdsForDifferentClassNameFilters() {
+		var cacheFile = tempDir.resolve("discovery-cache");
+		var engine = new RecordingTestEngine();
+		var launcher = createLauncher(engine);
+
+		launcher.discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.filters(includeClassNamePatterns("org\\.junit\\..*")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		engine.selectors.clear();
+		launcher.discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.filters(includeClassNamePatterns("org\\.junit\\.platform\\..*")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(engine.selectors).singleElement().isInstanceOf(PackageSelector.class);
+	}
+
+	@Test
+	void onlyConsidersJUnitConfigurationParameters() {
+		var cacheFile = tempDir.resolve("discovery-cache");
+		var engine = new RecordingTestEngine();
+		var launcher = createLauncher(engine);
+
+		launcher.discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.configurationParameter("other.parameter", "1") //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		engine.selectors.clear();
+		launcher.discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.configurationParameter("other.parameter", "2") //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(engine.selectors).hasSize(2).allMatch(UniqueIdSelector.class::isInstance);
+
+		engine.selectors.clear();
+		launcher.discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.configurationParameter("junit.other.parameter", "3") //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(engine.selectors).singleElement().isInstanceOf(PackageSelector.class);
+	}
+
+	@Test
+	void ignoresCachedUniqueIdsWhenResourceInClasspathRootChanges() throws Exception {
+		var cacheFile = tempDir.resolve("discovery-cache");
+		var classpathRoot = Files.createDirectory(tempDir.resolve("classes"));
+		var resource = Files.writeString(classpathRoot.resolve("resource.txt"), "foo");
+		var engine = new RecordingTestEngine();
+		var launcher = createLauncher(engine);
+
+		launcher.discover(request() //
+				.selectors(selectClasspathRoots(Set.of(classpathRoot))) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		Files.writeString(resource, "foo bar");
+		engine.selectors.clear();
+		launcher.discover(request() //
+				.selectors(selectClasspathRoots(Set.of(classpathRoot))) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(engine.selectors).singleElement().isInstanceOf(ClasspathRootSelector.class);
+	}
+
+	@Test
+	void doesNotCacheRequestsWithOtherDiscoveryFilters() {
+		var cacheFile = tempDir.resolve("discovery-cache");
+		var engine = new RecordingTestEngine();
+		DiscoveryFilter<String> filter = __ -> FilterResult.included("always");
+
+		createLauncher(engine).discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.filters(filter) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(cacheFile).doesNotExist();
+	}
+
+	@Test
+	void doesNotCacheRequestsWithCustomClassNameFilters() {
+		var cacheFile = tempDir.resolve("discovery-cache");
+		var engine = new RecordingTestEngine();
+		ClassNameFilter filter = __ -> FilterResult.included("always");
+
+		createLauncher(engine).discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.filters(filter) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(cacheFile).doesNotExist();
+	}
+
+	@Test
+	void doesNotCacheRequestsWithNonScanningSelectors() {
+		var cacheFile = tempDir.resolve("discovery-cache");
+		var engine = new RecordingTestEngine();
+
+		createLauncher(engine).discover(request() //
+				.selectors(selectPackage("some.package"), selectClass(Object.class)) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(cacheFile).doesNotExist();
+	}
+
+	@Test
+	void doesNotCacheResultsOfDiscoveryWithIssues() {
+		var cacheFile = tempDir.resolve("discovery-cache");
+		var engine = new RecordingTestEngine();
+		engine.reportIssue = true;
+
+		createLauncher(engine).discover(request() //
+				.selectors(selectPackage("some.package")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile.toString()) //
+				.build());
+
+		assertThat(tempDir).isEmptyDirectory();
+	}
+
+	private static List<String> uniqueIds(Iterable<TestIdentifier> testIdentifiers) {
+		var uniqueIds = new ArrayList<String>();
+		testIdentifiers.forEach(testIdentifier -> uniqueIds.add(testIdentifier.getUniqueId()));
+		return uniqueIds;
+	}
+
+	private static class RecordingTestEngine implements TestEngine {
+
+		final List<DiscoverySelector> selectors = new ArrayList<>();
+		boolean reportIssue;
+
+		@Override
+		public String getId() {
+			return "recording-engine";
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			var engineDescriptor = new TestDescriptorStub(uniqueId, getId());
+			for (var selector : discoveryRequest.getSelectorsByType(DiscoverySelector.class)) {
+				selectors.add(selector);
+				if (selector instanceof PackageSelector) {
+					engineDescriptor.addChild(new TestDescriptorStub(uniqueId.append("test", "test1"), "test1"));
+					engineDescriptor.addChild(new TestDescriptorStub(uniqueId.append("test", "test2"), "test2"));
+				}
+				else if (selector instanceof UniqueIdSelector uniqueIdSelector) {
+					var childId = uniqueIdSelector.getUniqueId();
+					engineDescriptor.addChild(new TestDescriptorStub(childId, childId.getLastSegment().getValue()));
+				}
+			}
+			if (reportIssue) {
+				discoveryRequest.getDiscoveryListener().issueEncountered(uniqueId,
+					DiscoveryIssue.create(Severity.WARNING, "some issue"));
+			}
+			return engineDescriptor;
+		}
+
+		@Override
+		public void execute(ExecutionRequest request) {
+		}
+	}
+
+}
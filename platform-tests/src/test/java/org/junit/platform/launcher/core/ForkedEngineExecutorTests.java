@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
+import static org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.LauncherConstants.FORK_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FORK_JVM_ARGUMENTS_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * @since 6.0
+ */
+class ForkedEngineExecutorTests {
+
+	@Test
+	void executesTestsInForkedJvmAndReplaysEvents() {
+		var listener = new RecordingListener();
+
+		createLauncher(new JupiterTestEngine()).execute(request() //
+				.selectors(selectClass(FirstTestCase.class), selectClass(SecondTestCase.class)) //
+				.configurationParameter(FORK_COUNT_PROPERTY_NAME, "2") //
+				.build(), listener);
+
+		assertThat(listener.results).containsEntry("succeeding()", SUCCESSFUL) //
+				.containsEntry("failing()", FAILED) //
+				.containsEntry("dynamic", SUCCESSFUL) //
+				.containsEntry(FirstTestCase.class.getSimpleName(), SUCCESSFUL) //
+				.containsEntry(SecondTestCase.class.getSimpleName(), SUCCESSFUL);
+		assertThat(listener.failures.get("failing()")).isInstanceOf(AssertionError.class).hasMessage("failed");
+		assertThat(listener.reportedProcessIds).isNotEmpty().doesNotContain(
+			String.valueOf(ProcessHandle.current().pid()));
+	}
+
+	@Test
+	void reportsTestsOfTerminatedForkedJvmAsFailedAndContinuesInNewOne() {
+		var listener = new RecordingListener();
+
+		createLauncher(new JupiterTestEngine()).execute(request() //
+				.selectors(selectClass(TerminatingTestCase.class), selectClass(SecondTestCase.class)) //
+				.configurationParameter(FORK_COUNT_PROPERTY_NAME, "1") //
+				.configurationParameter(FORK_JVM_ARGUMENTS_PROPERTY_NAME, "-Djunit.forked.terminate=true") //
+				.build(), listener);
+
+		assertThat(listener.results).containsEntry("terminating()", FAILED) //
+				.containsEntry(TerminatingTestCase.class.getSimpleName(), FAILED) //
+				.containsEntry("dynamic", SUCCESSFUL);
+		assertThat(listener.failures.get("terminating()")) //
+				.hasMessage("Forked JVM terminated unexpectedly with exit code 42");
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final Map<String, TestExecutionResult.Status> results = new ConcurrentHashMap<>();
+		final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+		final Map<String, String> reportedProcessIds = new ConcurrentHashMap<>();
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			results.put(testIdentifier.getDisplayName(), testExecutionResult.getStatus());
+			testExecutionResult.getThrowable().ifPresent(
+				throwable -> failures.put(testIdentifier.getDisplayName(), throwable));
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			var processId = entry.getKeyValuePairs().get("pid");
+			if (processId != null) {
+				reportedProcessIds.put(processId, testIdentifier.getDisplayName());
+			}
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class FirstTestCase {
+
+		@Test
+		void succeeding(TestReporter reporter) {
+			reporter.publishEntry("pid", String.valueOf(ProcessHandle.current().pid()));
+		}
+
+		@Test
+		void failing() {
+			throw new AssertionError("failed");
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class SecondTestCase {
+
+		@TestFactory
+		Stream<DynamicTest> factory() {
+			return Stream.of(dynamicTest("dynamic", () -> {
+			}));
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TerminatingTestCase {
+
+		@Test
+		void terminating() {
+			if (Boolean.getBoolean("junit.forked.terminate")) {
+				Runtime.getRuntime().halt(42);
+			}
+		}
+	}
+
+}
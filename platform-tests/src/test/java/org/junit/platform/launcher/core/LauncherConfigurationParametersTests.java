@@ -19,8 +19,11 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -196,6 +199,76 @@ class LauncherConfigurationParametersTests {
 			"Failed to transform configuration parameter with key '" + KEY + "' and initial value '42'");
 	}
 
+	@Test
+	void doesNotShareTransformedValues() {
+		var invocations = new AtomicInteger();
+		Function<String, StringBuilder> transformer = input -> {
+			invocations.incrementAndGet();
+			return new StringBuilder(input);
+		};
+		ConfigurationParameters configParams = fromMap(Map.of(KEY, "42"));
+
+		var first = configParams.get(KEY, transformer).orElseThrow();
+		var second = configParams.get(KEY, transformer).orElseThrow();
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(invocations).hasValue(2);
+	}
+
+	@Test
+	void cachesParsedTypedValues() {
+		ConfigurationParameters configParams = fromMap(Map.of(KEY, " 42 ", "other", "true"));
+
+		assertThat(configParams.getInteger(KEY)).contains(42);
+		assertThat(configParams.getInteger(KEY)).isSameAs(configParams.getInteger(KEY));
+		assertThat(configParams.getLong(KEY)).contains(42L);
+		assertThat(configParams.getLong(KEY)).isSameAs(configParams.getLong(KEY));
+		assertThat(configParams.getBoolean("other")).isSameAs(configParams.getBoolean("other"));
+		assertThat(configParams.getInteger("missing")).isEmpty();
+	}
+
+	@Test
+	void getIntegerWithInvalidValue() {
+		ConfigurationParameters configParams = fromMap(Map.of(KEY, "forty-two"));
+		var exception = assertThrows(JUnitException.class, () -> configParams.getInteger(KEY));
+		assertThat(exception).hasMessageContaining(
+			"Failed to transform configuration parameter with key '" + KEY + "' and initial value 'forty-two'");
+	}
+
+	@Test
+	void readsSystemPropertiesOnFirstLookup() {
+		ConfigurationParameters configParams = fromMap(Map.of());
+		System.setProperty(KEY, SYSTEM_PROPERTY);
+		assertThat(configParams.get(KEY)).contains(SYSTEM_PROPERTY);
+
+		System.clearProperty(KEY);
+		assertThat(configParams.get(KEY)).contains(SYSTEM_PROPERTY);
+	}
+
+	@Test
+	void detectsModifiedConfigFile(@TempDir Path tempDir) throws Exception {
+		var configFileName = "modified-junit-platform.properties";
+		var configFile = tempDir.resolve(configFileName);
+		Files.writeString(configFile, KEY + "=" + CONFIG_FILE);
+
+		ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+		try (var customClassLoader = new URLClassLoader(new URL[] { tempDir.toUri().toURL() }, originalClassLoader)) {
+			Thread.currentThread().setContextClassLoader(customClassLoader);
+			var configParams = fromMapAndFile(Map.of(), configFileName);
+
+			assertThat(configParams.get(KEY)).contains(CONFIG_FILE);
+			assertThat(configParams.isConfigFileModified()).isFalse();
+
+			Files.setLastModifiedTime(configFile,
+				FileTime.fromMillis(Files.getLastModifiedTime(configFile).toMillis() + 10_000));
+
+			assertThat(configParams.isConfigFileModified()).isTrue();
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+	}
+
 	@Test
 	void ignoresSystemPropertyAndConfigFileWhenImplicitLookupsAreDisabled() {
 		System.setProperty(KEY, SYSTEM_PROPERTY);
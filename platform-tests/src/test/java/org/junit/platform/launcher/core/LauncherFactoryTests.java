@@ -11,7 +11,9 @@
 package org.junit.platform.launcher.core;
 
 import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -55,6 +57,7 @@ import org.junit.platform.launcher.TestLauncherInterceptor1;
 import org.junit.platform.launcher.TestLauncherInterceptor2;
 import org.junit.platform.launcher.TestLauncherSessionListener;
 import org.junit.platform.launcher.listeners.AnotherUnusedTestExecutionListener;
+import org.junit.platform.launcher.listeners.IncrementalTestSelectionListener;
 import org.junit.platform.launcher.listeners.NoopTestExecutionListener;
 import org.junit.platform.launcher.listeners.UnusedTestExecutionListener;
 
@@ -250,7 +253,10 @@ class LauncherFactoryTests {
 	void discoversLauncherSessionListenerViaServiceApiByDefault() {
 		withTestServices(() -> {
 			try (var session = (DefaultLauncherSession) LauncherFactory.openSession()) {
-				assertThat(session.getListener()).isEqualTo(new TestLauncherSessionListener());
+				assertThat(session.getListener()) //
+						.extracting("listeners", as(LIST)) //
+						.contains(new TestLauncherSessionListener()) //
+						.hasAtLeastOneElementOfType(IncrementalTestSelectionListener.class);
 			}
 		});
 	}
@@ -10,18 +10,38 @@
 
 package org.junit.platform.launcher.core;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncherConfigBuilderWithDisabledServiceLoading;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver;
+import org.junit.platform.engine.support.store.ClassDependentValue;
+import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.fakes.TestEngineStub;
+import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.LauncherSession;
 import org.junit.platform.launcher.LauncherSessionListener;
+import org.junit.platform.launcher.TestExecutionListener;
 import org.mockito.ArgumentCaptor;
 
 class LauncherSessionTests {
@@ -112,6 +132,80 @@ class LauncherSessionTests {
 		verifyNoMoreInteractions(firstSessionListener, secondSessionListener);
 	}
 
+	@Test
+	void invalidatesOnlyStoredValuesAffectedByChangedClasses() {
+		try (var session = LauncherFactory.openSession(launcherConfig)) {
+			var store = session.getStore();
+			store.put(Namespace.GLOBAL, "affected", (ClassDependentValue) classNames -> classNames.contains("a.B"));
+			store.put(Namespace.GLOBAL, "unaffected", (ClassDependentValue) classNames -> false);
+			store.put(Namespace.GLOBAL, "other", "value");
+
+			session.invalidate(Set.of("a.B"));
+
+			assertThat(store.get(Namespace.GLOBAL, "affected")).isNull();
+			assertThat(store.get(Namespace.GLOBAL, "unaffected")).isNotNull();
+			assertThat(store.get(Namespace.GLOBAL, "other")).isEqualTo("value");
+		}
+	}
+
+	@Test
+	void reusesClasspathScanUntilScannedClassesAreInvalidated() {
+		var scannedClassNames = new ArrayList<String>();
+		var delegate = includeClassNamePatterns(".*\\.LauncherSessionTests");
+		ClassNameFilter filter = className -> {
+			scannedClassNames.add(className);
+			return delegate.apply(className);
+		};
+		var scanRequest = LauncherDiscoveryRequestBuilder.request() //
+				.selectors(selectPackage(LauncherSessionTests.class.getPackageName())) //
+				.filters(filter) //
+				.build();
+		var config = createLauncherConfigBuilderWithDisabledServiceLoading() //
+				.addTestEngines(new ClassContainerScanningEngine()) //
+				.build();
+
+		try (var session = LauncherFactory.openSession(config)) {
+			session.getLauncher().discover(scanRequest);
+			session.getLauncher().discover(scanRequest);
+
+			assertThat(scannedClassNames).containsOnlyOnce(LauncherSessionTests.class.getName());
+
+			session.invalidate(Set.of(LauncherSessionTests.class.getPackageName() + ".AddedTests"));
+			session.getLauncher().discover(scanRequest);
+
+			assertThat(scannedClassNames) //
+					.filteredOn(LauncherSessionTests.class.getName()::equals) //
+					.hasSize(2);
+		}
+	}
+
+	@Test
+	void recreatesOutdatedLauncherWhenInvalidated() {
+		var launchers = new ArrayList<Launcher>();
+		var outdated = new AtomicBoolean();
+		var listener = mock(TestExecutionListener.class);
+
+		try (var session = new DefaultLauncherSession(List.of(), () -> LauncherSessionListener.NOOP, store -> {
+			var launcher = mock(Launcher.class);
+			launchers.add(launcher);
+			return launcher;
+		}, outdated::get)) {
+			session.getLauncher().registerTestExecutionListeners(listener);
+			session.invalidate(Set.of("a.B"));
+
+			assertThat(launchers).hasSize(1);
+
+			outdated.set(true);
+			session.invalidate(Set.of("a.B"));
+			session.getLauncher().discover(request);
+
+			assertThat(launchers).hasSize(2);
+			verify(launchers.get(1)).registerTestExecutionListeners(listener);
+			verify(launchers.get(1)).discover(request);
+			verify(launchers.get(0), never()).discover(request);
+		}
+	}
+
 	@Test
 	@SuppressWarnings({ "deprecation", "resource" })
 	void closedSessionCannotBeUsed() {
@@ -130,4 +224,17 @@ class LauncherSessionTests {
 			() -> launcher.execute(LauncherExecutionRequestBuilder.request(request).build()));
 	}
 
+	private static class ClassContainerScanningEngine extends TestEngineStub {
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			var engineDescriptor = new EngineDescriptor(uniqueId, getId());
+			EngineDiscoveryRequestResolver.builder() //
+					.addClassContainerSelectorResolver(testClass -> true) //
+					.build() //
+					.resolve(discoveryRequest, engineDescriptor);
+			return engineDescriptor;
+		}
+	}
+
 }
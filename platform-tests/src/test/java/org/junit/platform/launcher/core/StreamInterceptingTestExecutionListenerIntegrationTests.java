@@ -15,8 +15,10 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.junit.platform.engine.TestExecutionResult.successful;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STDERR_REPORT_ENTRY_KEY;
 import static org.junit.platform.launcher.LauncherConstants.STDOUT_REPORT_ENTRY_KEY;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
@@ -31,6 +33,7 @@ import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -39,10 +42,12 @@ import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
 import org.junit.platform.launcher.LauncherConstants;
@@ -95,6 +100,47 @@ class StreamInterceptingTestExecutionListenerIntegrationTests {
 		assertThat(reportEntry.getKeyValuePairs()).containsExactly(entry(reportKey, "12345"));
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("systemStreams")
+	@ExtendWith(HiddenSystemOutAndErr.class)
+	void publishesFileEntryWhenOutputExceedsSpillThreshold(String configParam,
+			Supplier<PrintStream> printStreamSupplier, String reportKey, @TempDir Path outputDir) {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		TestDescriptor test = engine.addTest("test", "my test()",
+			() -> printStreamSupplier.get().print("1234567890"));
+
+		var launcher = createLauncher(engine);
+		var listener = mock(TestExecutionListener.class);
+		var executionRequest = request()//
+				.selectors(selectUniqueId(test.getUniqueId()))//
+				.configurationParameter(configParam, String.valueOf(true))//
+				.configurationParameter(LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME, String.valueOf(5))//
+				.configurationParameter(CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME, String.valueOf(3))//
+				.configurationParameter(OUTPUT_DIR_PROPERTY_NAME, outputDir.toString())//
+				.forExecution()//
+				.listeners(listener)//
+				.build();
+		launcher.execute(executionRequest);
+
+		var testPlanArgumentCaptor = ArgumentCaptor.forClass(TestPlan.class);
+		var inOrder = inOrder(listener);
+		inOrder.verify(listener).testPlanExecutionStarted(testPlanArgumentCaptor.capture());
+		var testIdentifier = testPlanArgumentCaptor.getValue().getTestIdentifier(test.getUniqueId());
+
+		var fileEntryArgumentCaptor = ArgumentCaptor.forClass(FileEntry.class);
+		var reportEntryArgumentCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		inOrder.verify(listener).fileEntryPublished(same(testIdentifier), fileEntryArgumentCaptor.capture());
+		inOrder.verify(listener).reportingEntryPublished(same(testIdentifier), reportEntryArgumentCaptor.capture());
+		inOrder.verify(listener).executionFinished(testIdentifier, successful());
+		var file = fileEntryArgumentCaptor.getValue().getPath();
+
+		assertThat(file).startsWith(outputDir).content().isEqualTo("1234567890");
+		assertThat(file.getFileName().toString()).startsWith(reportKey + "-my_test_-");
+		assertThat(reportEntryArgumentCaptor.getValue().getKeyValuePairs()) //
+				.containsOnlyKeys(reportKey) //
+				.hasEntrySatisfying(reportKey, value -> assertThat(value).endsWith(file.toAbsolutePath().toString()));
+	}
+
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("systemStreams")
 	@ExtendWith(HiddenSystemOutAndErr.class)
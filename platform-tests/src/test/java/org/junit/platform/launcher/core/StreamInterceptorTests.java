@@ -12,17 +12,25 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.stream.IntStream;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.core.StreamInterceptor.CapturedOutput;
 
 /**
  * @since 1.3
@@ -46,7 +54,7 @@ class StreamInterceptorTests {
 				.mapToObj(String::valueOf)
 				.peek(i -> streamInterceptor.capture())
 				.peek(i -> targetStream.println(i))
-				.forEach(i -> assertEquals(i, streamInterceptor.consume().strip()));
+				.forEach(i -> assertEquals(i, streamInterceptor.consume().text().strip()));
 		// @formatter:on
 	}
 
@@ -91,13 +99,13 @@ class StreamInterceptorTests {
 			{
 				streamInterceptor.capture();
 				streamInterceptor.print("innermost");
-				innermost = streamInterceptor.consume();
+				innermost = streamInterceptor.consume().text();
 			}
 			streamInterceptor.print("after inner");
-			inner = streamInterceptor.consume();
+			inner = streamInterceptor.consume().text();
 		}
 		streamInterceptor.print("after outermost");
-		outermost = streamInterceptor.consume();
+		outermost = streamInterceptor.consume().text();
 
 		assertAll(//
 			() -> assertEquals("before outermost - after outermost", outermost), //
@@ -118,6 +126,51 @@ class StreamInterceptorTests {
 		thread.start();
 		thread.join();
 
-		assertEquals("from non-test thread", streamInterceptor.consume().strip());
+		assertEquals("from non-test thread", streamInterceptor.consume().text().strip());
+	}
+
+	@Test
+	void spillsOutputExceedingThresholdToFile(@TempDir Path tempDir) throws Exception {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 100,
+			name -> Files.createTempFile(tempDir, name + "-", ".txt"), 5).orElseThrow(RuntimeException::new);
+
+		CapturedOutput outer, inner;
+
+		streamInterceptor.capture("outer");
+		streamInterceptor.print("abc");
+		{
+			streamInterceptor.capture("inner");
+			streamInterceptor.print("0123");
+			streamInterceptor.print("456789");
+			inner = streamInterceptor.consume();
+		}
+		streamInterceptor.print("de");
+		outer = streamInterceptor.consume();
+
+		var file = inner.file();
+		assertNotNull(file);
+		assertAll(//
+			() -> assertTrue(file.getFileName().toString().startsWith("inner-")), //
+			() -> assertEquals("", inner.text()), //
+			() -> assertEquals("0123456789", Files.readString(file)), //
+			() -> assertEquals("abcde", outer.text()), //
+			() -> assertNull(outer.file()) //
+		);
+	}
+
+	@Test
+	void closesSpillFilesOfUnconsumedCapturesOnUnregister(@TempDir Path tempDir) throws Exception {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 100,
+			name -> Files.createTempFile(tempDir, name + "-", ".txt"), 5).orElseThrow(RuntimeException::new);
+
+		streamInterceptor.capture("test");
+		streamInterceptor.print("0123456789");
+		streamInterceptor.unregister();
+
+		try (var files = Files.list(tempDir)) {
+			var file = getOnlyElement(files.toList());
+			assertTrue(file.getFileName().toString().startsWith("test-"));
+			assertEquals("0123456789", Files.readString(file));
+		}
 	}
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * @since 6.0
+ */
+class IncrementalTestSelectionListenerTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void skipsTestClassesThatSucceededAndAreUnchanged() {
+		var file = tempDir.resolve("class-dependencies.txt");
+
+		assertThat(executeTestClasses(file, false)).containsExactly(FirstTestCase.class.getName(),
+			SecondTestCase.class.getName());
+		assertThat(file).exists();
+
+		assertThat(executeTestClasses(file, false)).isEmpty();
+	}
+
+	@Test
+	void executesTestClassesThatFailedAgain() {
+		var file = tempDir.resolve("class-dependencies.txt");
+
+		executeTestClasses(file, true);
+
+		assertThat(executeTestClasses(file, false)).containsExactly(SecondTestCase.class.getName());
+		assertThat(executeTestClasses(file, false)).isEmpty();
+	}
+
+	@Test
+	void executesTestClassesWithChangedDependencies() throws Exception {
+		var file = tempDir.resolve("class-dependencies.txt");
+		executeTestClasses(file, false);
+		var classFiles = new ClassFiles(ClassLoaderUtils.getDefaultClassLoader());
+		var index = ClassDependencyIndex.read(file).orElseThrow();
+		index.put(FirstTestCase.class.getName(), Map.of(FirstTestCase.class.getName(), "outdated"), Set.of());
+		index.put(SecondTestCase.class.getName(), classFiles.getDependencies(SecondTestCase.class.getName()),
+			Set.of());
+		index.write(file);
+
+		assertThat(executeTestClasses(file, false)).containsExactly(FirstTestCase.class.getName());
+	}
+
+	@Test
+	void executesTestsThatWereNotExecutedBefore() {
+		var file = tempDir.resolve("class-dependencies.txt");
+		PostDiscoveryFilter excludeOtherTests = descriptor -> FilterResult.includedIf(
+			!descriptor.getUniqueId().getLastSegment().getValue().equals("other"));
+
+		assertThat(executeTestClasses(file, false, List.of(excludeOtherTests))).containsExactly(
+			FirstTestCase.class.getName(), SecondTestCase.class.getName());
+
+		assertThat(executeTestClasses(file, false)).containsExactly(FirstTestCase.class.getName(),
+			SecondTestCase.class.getName());
+		assertThat(executeTestClasses(file, false)).isEmpty();
+	}
+
+	@Test
+	void executesExplicitlySelectedTestsAgain() {
+		var file = tempDir.resolve("class-dependencies.txt");
+		executeTestClasses(file, false);
+
+		assertThat(executeTestClasses(file, false, List.of(), selectClass(FirstTestCase.class))).containsExactly(
+			FirstTestCase.class.getName());
+		assertThat(executeTestClasses(file, false, List.of(),
+			selectUniqueId(UniqueId.forEngine("engine").append("container", SecondTestCase.class.getSimpleName())))) //
+					.containsExactly(SecondTestCase.class.getName());
+	}
+
+	@Test
+	void recordsTransitiveDependenciesOfApplicationClasses() {
+		var classFiles = new ClassFiles(ClassLoaderUtils.getDefaultClassLoader());
+
+		var dependencies = classFiles.getDependencies(SecondTestCase.class.getName());
+
+		assertThat(dependencies).containsKeys(SecondTestCase.class.getName(), Dependency.class.getName(),
+			TransitiveDependency.class.getName());
+		assertThat(dependencies).doesNotContainKeys(String.class.getName(), Test.class.getName());
+	}
+
+	private static List<String> executeTestClasses(Path file, boolean failSecondTestCase) {
+		return executeTestClasses(file, failSecondTestCase, List.of());
+	}
+
+	private static List<String> executeTestClasses(Path file, boolean failSecondTestCase,
+			List<PostDiscoveryFilter> filters, DiscoverySelector... selectors) {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		addTestClass(engine, FirstTestCase.class, false);
+		addTestClass(engine, SecondTestCase.class, failSecondTestCase);
+
+		var executedClasses = new CopyOnWriteArrayList<String>();
+		var listener = new TestExecutionListener() {
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				testIdentifier.getSource() //
+						.filter(MethodSource.class::isInstance) //
+						.map(source -> ((MethodSource) source).getClassName()) //
+						.ifPresent(executedClasses::addIfAbsent);
+			}
+		};
+		var config = LauncherConfig.builder() //
+				.enableTestEngineAutoRegistration(false) //
+				.enableTestExecutionListenerAutoRegistration(false) //
+				.addTestEngines(engine) //
+				.build();
+		try (var session = LauncherFactory.openSession(config)) {
+			session.getLauncher().execute(request() //
+					.selectors(selectors) //
+					.filters(filters.toArray(new PostDiscoveryFilter[0])) //
+					.configurationParameter(IncrementalTestSelectionListener.FILE_PROPERTY_NAME, file.toString()) //
+					.enableImplicitConfigurationParameters(false) //
+					.forExecution() //
+					.listeners(listener) //
+					.build());
+		}
+		return executedClasses;
+	}
+
+	private static void addTestClass(DemoHierarchicalTestEngine engine, Class<?> testClass, boolean fail) {
+		var container = engine.addContainer(testClass.getSimpleName(), testClass.getSimpleName(),
+			ClassSource.from(testClass));
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "test"), "test",
+			MethodSource.from(testClass.getName(), "test"), (context, descriptor) -> {
+				if (fail) {
+					throw new AssertionError("failed");
+				}
+			}));
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "other"),
+			"other", MethodSource.from(testClass.getName(), "other"), (context, descriptor) -> {
+			}));
+	}
+
+	static class FirstTestCase {
+	}
+
+	static class SecondTestCase {
+
+		@SuppressWarnings("unused")
+		Dependency dependency;
+	}
+
+	static class Dependency {
+
+		@SuppressWarnings("unused")
+		TransitiveDependency transitiveDependency;
+	}
+
+	static class TransitiveDependency {
+	}
+
+}
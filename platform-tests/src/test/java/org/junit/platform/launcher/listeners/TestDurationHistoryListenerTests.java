@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.TestDurationHistory;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.ConfigurationParametersFactoryForTests;
+
+/**
+ * @since 6.0
+ */
+class TestDurationHistoryListenerTests {
+
+	private final TestDurationHistoryListener listener = new TestDurationHistoryListener();
+
+	@Test
+	void recordsDurationsOfFinishedTestsAndRetainsPreviousEntries(@TempDir Path tempDir) throws Exception {
+		var historyFile = tempDir.resolve("durations.txt");
+		var previousHistory = TestDurationHistory.empty();
+		previousHistory.record(UniqueId.root("root", "previous"), Duration.ofSeconds(42));
+		previousHistory.write(historyFile);
+
+		var test = TestIdentifier.from(new TestDescriptorStub(UniqueId.root("root", "test"), "test"));
+		var skipped = TestIdentifier.from(new TestDescriptorStub(UniqueId.root("root", "skipped"), "skipped"));
+		var testPlan = testPlan(Map.of(TestDurationHistory.FILE_PROPERTY_NAME, historyFile.toString()));
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(test);
+		Thread.sleep(5);
+		listener.executionFinished(test, TestExecutionResult.successful());
+		listener.executionSkipped(skipped, "reason");
+		listener.testPlanExecutionFinished(testPlan);
+
+		var history = TestDurationHistory.read(historyFile);
+		assertThat(history.getDuration(test.getUniqueIdObject())).hasValueSatisfying(
+			duration -> assertThat(duration).isGreaterThanOrEqualTo(Duration.ofMillis(5)));
+		assertThat(history.getDuration(UniqueId.root("root", "previous"))).contains(Duration.ofSeconds(42));
+		assertThat(history.getDuration(skipped.getUniqueIdObject())).isEmpty();
+	}
+
+	@Test
+	void replacesDurationsOfTestsThatFinishedAgain(@TempDir Path tempDir) throws Exception {
+		var historyFile = tempDir.resolve("durations.txt");
+		var test = TestIdentifier.from(new TestDescriptorStub(UniqueId.root("root", "test"), "test"));
+		var previousHistory = TestDurationHistory.empty();
+		previousHistory.record(test.getUniqueIdObject(), Duration.ofHours(1));
+		previousHistory.write(historyFile);
+		var testPlan = testPlan(Map.of(TestDurationHistory.FILE_PROPERTY_NAME, historyFile.toString()));
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(test);
+		listener.executionFinished(test, TestExecutionResult.successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(TestDurationHistory.read(historyFile).getDuration(test.getUniqueIdObject())).hasValueSatisfying(
+			duration -> assertThat(duration).isLessThan(Duration.ofHours(1)));
+	}
+
+	@Test
+	void discardsLeastRecentlyRecordedDurationsBeyondMaxEntries(@TempDir Path tempDir) throws Exception {
+		var historyFile = tempDir.resolve("durations.txt");
+		var previousHistory = TestDurationHistory.empty();
+		previousHistory.record(UniqueId.root("root", "stale"), Duration.ofSeconds(1));
+		previousHistory.record(UniqueId.root("root", "previous"), Duration.ofSeconds(2));
+		previousHistory.write(historyFile);
+		var test = TestIdentifier.from(new TestDescriptorStub(UniqueId.root("root", "test"), "test"));
+		var testPlan = testPlan(Map.of(TestDurationHistory.FILE_PROPERTY_NAME, historyFile.toString(),
+			TestDurationHistory.MAX_ENTRIES_PROPERTY_NAME, "2"));
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(test);
+		listener.executionFinished(test, TestExecutionResult.successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		var history = TestDurationHistory.read(historyFile);
+		assertThat(history.getDuration(UniqueId.root("root", "stale"))).isEmpty();
+		assertThat(history.getDuration(UniqueId.root("root", "previous"))).contains(Duration.ofSeconds(2));
+		assertThat(history.getDuration(test.getUniqueIdObject())).isPresent();
+	}
+
+	private static TestPlan testPlan(Map<String, String> configurationParameters) {
+		return TestPlan.from(true, List.of(), ConfigurationParametersFactoryForTests.create(configurationParameters),
+			dummyOutputDirectoryProvider());
+	}
+
+}
@@ -14,6 +14,8 @@ import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_TOTAL_PROPERTY_NAME;
 import static org.junit.platform.launcher.TagFilter.excludeTags;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.hierarchicalOutputDirectoryProvider;
 import static org.junit.platform.suite.engine.SuiteEngineDescriptor.ENGINE_ID;
@@ -34,6 +36,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
@@ -45,11 +51,14 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.DiscoveryIssue;
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.DiscoveryIssue.Severity;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
 import org.junit.platform.engine.support.store.Namespace;
@@ -682,6 +691,37 @@ class SuiteEngineTests {
 		}
 	}
 
+	@Test
+	void shardsSuitesWithoutShardingTheirTestsAgain() {
+		var suiteSelectors = Stream.of(SelectClassesSuite.class, MultipleSuite.class, SuiteDisplayNameSuite.class,
+			SelectMethodsSuite.class, InheritedSuite.class).map(DiscoverySelectors::selectClass).toList();
+		var allTests = executeTests(suiteSelectors, Map.of());
+
+		var shardedTests = new ArrayList<UniqueId>();
+		for (int shardIndex = 0; shardIndex < 3; shardIndex++) {
+			shardedTests.addAll(executeTests(suiteSelectors,
+				Map.of(SHARD_INDEX_PROPERTY_NAME, String.valueOf(shardIndex), SHARD_TOTAL_PROPERTY_NAME, "3")));
+		}
+
+		assertThat(allTests).hasSize(6);
+		assertThat(shardedTests).containsExactlyInAnyOrderElementsOf(allTests);
+	}
+
+	private static List<UniqueId> executeTests(List<ClassSelector> selectors,
+			Map<String, String> configurationParameters) {
+		// @formatter:off
+		return EngineTestKit.engine(ENGINE_ID)
+				.selectors(selectors.toArray(new DiscoverySelector[0]))
+				.configurationParameters(configurationParameters)
+				.execute()
+				.testEvents()
+				.finished()
+				.stream()
+				.map(event -> event.getTestDescriptor().getUniqueId())
+				.toList();
+		// @formatter:on
+	}
+
 	@Test
 	void reportsChildrenOfEnginesInSuiteAsSkippedWhenCancelledDuringExecution() {
 		CancellingSuite.cancellationToken = CancellationToken.create();